@@ -37,4 +37,8 @@ public class GiraphMessenger implements Messenger<Serializable> {
                     this.giraphInternalVertex.sendMessage(new LongWritable(Long.valueOf(v.id().toString())), new KryoWritable(message)));
         }
     }
+
+    public void voteToHalt() {
+        this.giraphInternalVertex.voteToHalt();
+    }
 }
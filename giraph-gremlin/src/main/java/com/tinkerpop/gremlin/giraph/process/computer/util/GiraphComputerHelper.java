@@ -1,8 +1,11 @@
 package com.tinkerpop.gremlin.giraph.process.computer.util;
 
 import com.tinkerpop.gremlin.process.Traversal;
+import com.tinkerpop.gremlin.process.graph.strategy.BatchStrategy;
+import com.tinkerpop.gremlin.process.graph.strategy.CoalesceStrategy;
 import com.tinkerpop.gremlin.process.graph.strategy.CountCapStrategy;
 import com.tinkerpop.gremlin.process.graph.strategy.JumpComputerStrategy;
+import com.tinkerpop.gremlin.process.graph.strategy.OrderRangeStrategy;
 import com.tinkerpop.gremlin.process.graph.strategy.SideEffectCapComputerStrategy;
 import com.tinkerpop.gremlin.process.graph.strategy.TraverserSourceStrategy;
 
@@ -13,6 +16,9 @@ public class GiraphComputerHelper {
 
     public static void prepareTraversalForComputer(final Traversal traversal) {
         traversal.strategies().unregister(TraverserSourceStrategy.class);
+        traversal.strategies().unregister(CoalesceStrategy.class);
+        traversal.strategies().unregister(OrderRangeStrategy.class);
+        traversal.strategies().unregister(BatchStrategy.class);
         traversal.strategies().register(CountCapStrategy.instance());
         traversal.strategies().register(SideEffectCapComputerStrategy.instance());
         traversal.strategies().register(JumpComputerStrategy.instance());
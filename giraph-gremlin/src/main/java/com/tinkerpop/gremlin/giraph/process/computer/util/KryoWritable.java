@@ -1,5 +1,13 @@
 package com.tinkerpop.gremlin.giraph.process.computer.util;
 
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.tinkerpop.gremlin.process.computer.MapReduce;
+import com.tinkerpop.gremlin.process.computer.traversal.TraversalCounterMessage;
+import com.tinkerpop.gremlin.process.computer.traversal.TraversalPathMessage;
+import com.tinkerpop.gremlin.structure.io.kryo.GremlinKryo;
 import com.tinkerpop.gremlin.util.Serializer;
 import org.apache.hadoop.io.WritableComparable;
 import org.apache.hadoop.io.WritableUtils;
@@ -9,10 +17,28 @@ import java.io.DataOutput;
 import java.io.IOException;
 
 /**
+ * A {@link WritableComparable} wrapper for the messages and side-effects of Giraph-Gremlin. {@link Double} and
+ * {@link Long} objects are written as a tag byte and eight fixed-width bytes. All other objects are written with a
+ * thread-local {@link GremlinKryo} instance and if Kryo can not serialize the object (e.g. an unregistered class),
+ * Java serialization is used.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class KryoWritable<T> implements WritableComparable<KryoWritable> {
 
+    private static final byte DOUBLE = 0;
+    private static final byte LONG = 1;
+    private static final byte KRYO = 2;
+    private static final byte JAVA = 3;
+
+    private static final GremlinKryo GREMLIN_KRYO = GremlinKryo.build()
+            .addCustom(RuleWritable.Rule.class, MapReduce.NullObject.class, TraversalCounterMessage.class, TraversalPathMessage.class)
+            .create();
+
+    private static final ThreadLocal<Kryo> KRYO_POOL = ThreadLocal.withInitial(GREMLIN_KRYO::createKryo);
+    private static final ThreadLocal<Output> OUTPUT_POOL = ThreadLocal.withInitial(() -> new Output(4096, -1));
+    private static final ThreadLocal<Input> INPUT_POOL = ThreadLocal.withInitial(Input::new);
+
     T t;
 
     public KryoWritable() {
@@ -37,34 +63,53 @@ public class KryoWritable<T> implements WritableComparable<KryoWritable> {
     }
 
     public void readFields(final DataInput input) throws IOException {
-        final int objectLength = WritableUtils.readVInt(input);
-        final byte[] objectBytes = new byte[objectLength];
-        for (int i = 0; i < objectLength; i++) {
-            objectBytes[i] = input.readByte();
-        }
-        try {
-            this.t = (T) Serializer.deserializeObject(objectBytes);
-        } catch (final ClassNotFoundException e) {
-            throw new IOException(e.getMessage(), e);
+        final byte type = input.readByte();
+        if (DOUBLE == type) {
+            this.t = (T) Double.valueOf(input.readDouble());
+        } else if (LONG == type) {
+            this.t = (T) Long.valueOf(input.readLong());
+        } else {
+            final byte[] objectBytes = new byte[WritableUtils.readVInt(input)];
+            input.readFully(objectBytes);
+            if (KRYO == type) {
+                final Input in = INPUT_POOL.get();
+                in.setBuffer(objectBytes);
+                this.t = (T) KRYO_POOL.get().readClassAndObject(in);
+            } else {
+                try {
+                    this.t = (T) Serializer.deserializeObject(objectBytes);
+                } catch (final ClassNotFoundException e) {
+                    throw new IOException(e.getMessage(), e);
+                }
+            }
         }
-
-        // TODO: Get Kryo to work
-        //final Input in = new Input(new ByteArrayInputStream(objectBytes));
-        //this.t = (T) Constants.KRYO.readClassAndObject(in);
-        //in.close();
     }
 
     public void write(final DataOutput output) throws IOException {
-        final byte[] objectBytes = Serializer.serializeObject(this.t);
-        WritableUtils.writeVInt(output, objectBytes.length);
-        output.write(objectBytes);
-        // TODO: Get Kryo to work
-        //final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        //final Output out = new Output(outputStream);
-        //Constants.KRYO.writeClassAndObject(out, this.t);
-        //out.flush();
-        //out.close();
-
+        if (this.t instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) this.t);
+        } else if (this.t instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) this.t);
+        } else {
+            final Output out = OUTPUT_POOL.get();
+            out.clear();
+            final Kryo kryo = KRYO_POOL.get();
+            try {
+                kryo.writeClassAndObject(out, this.t);
+                output.writeByte(KRYO);
+                WritableUtils.writeVInt(output, out.position());
+                output.write(out.getBuffer(), 0, out.position());
+            } catch (final KryoException | IllegalArgumentException e) {
+                // the object graph contains a class that is not registered with Kryo
+                kryo.reset();
+                final byte[] objectBytes = Serializer.serializeObject(this.t);
+                output.writeByte(JAVA);
+                WritableUtils.writeVInt(output, objectBytes.length);
+                output.write(objectBytes);
+            }
+        }
     }
 
     public int compareTo(final KryoWritable kryoWritable) {
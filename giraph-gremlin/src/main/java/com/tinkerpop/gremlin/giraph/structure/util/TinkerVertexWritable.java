@@ -0,0 +1,156 @@
+package com.tinkerpop.gremlin.giraph.structure.util;
+
+import com.tinkerpop.gremlin.giraph.process.computer.util.KryoWritable;
+import com.tinkerpop.gremlin.structure.Edge;
+import com.tinkerpop.gremlin.structure.Element;
+import com.tinkerpop.gremlin.structure.Graph;
+import com.tinkerpop.gremlin.structure.Property;
+import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.structure.util.ElementHelper;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerVertex;
+import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.io.WritableUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link TinkerVertexWritable} encodes a vertex as its id, label, properties (hidden included) and its incident
+ * edges, where each edge is a stub of its id, label, properties and the id and label of the adjacent vertex. Ids and
+ * property values are written with {@link KryoWritable}. The encoded bytes are only decoded when the vertex is
+ * requested, into a {@link TinkerVertex} of a star {@link TinkerGraph} holding the vertex and its adjacent vertex
+ * stubs. Once decoded, the vertex is re-encoded when written so changes made by a vertex program are kept.
+ */
+public class TinkerVertexWritable implements Writable {
+
+    private byte[] bytes;
+    private TinkerVertex tinkerVertex;
+
+    public TinkerVertexWritable() {
+    }
+
+    public TinkerVertexWritable(final TinkerVertex tinkerVertex) {
+        try {
+            this.bytes = encode(tinkerVertex);
+        } catch (final IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    public TinkerVertex getTinkerVertex() {
+        if (null == this.tinkerVertex) {
+            if (null == this.bytes)
+                throw new IllegalStateException("The TinkerVertexWritable does not hold a vertex");
+            try {
+                this.tinkerVertex = decode(this.bytes);
+                this.bytes = null;
+            } catch (final IOException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+        return this.tinkerVertex;
+    }
+
+    public void readFields(final DataInput input) throws IOException {
+        this.bytes = new byte[WritableUtils.readVInt(input)];
+        input.readFully(this.bytes);
+        this.tinkerVertex = null;
+    }
+
+    public void write(final DataOutput output) throws IOException {
+        final byte[] bytes = null == this.tinkerVertex ? this.bytes : encode(this.tinkerVertex);
+        if (null == bytes)
+            throw new IllegalStateException("The TinkerVertexWritable does not hold a vertex");
+        WritableUtils.writeVInt(output, bytes.length);
+        output.write(bytes);
+    }
+
+    @Override
+    public String toString() {
+        if (null != this.tinkerVertex)
+            return this.tinkerVertex.toString();
+        return null == this.bytes ? "tinkervertex[empty]" : "tinkervertex[" + this.bytes.length + " bytes]";
+    }
+
+    private static byte[] encode(final TinkerVertex vertex) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+        new KryoWritable<>(vertex.id()).write(output);
+        WritableUtils.writeString(output, vertex.label());
+        writeProperties(output, vertex);
+        writeEdges(output, vertex.outE().toList(), true);
+        // self-loops are written once, as out edges
+        writeEdges(output, vertex.inE().toList().stream().filter(edge -> !edge.outV().id().next().equals(vertex.id())).collect(Collectors.toList()), false);
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeEdges(final DataOutput output, final List<Edge> edges, final boolean out) throws IOException {
+        WritableUtils.writeVInt(output, edges.size());
+        for (final Edge edge : edges) {
+            final Vertex otherVertex = out ? edge.inV().next() : edge.outV().next();
+            new KryoWritable<>(edge.id()).write(output);
+            WritableUtils.writeString(output, edge.label());
+            new KryoWritable<>(otherVertex.id()).write(output);
+            WritableUtils.writeString(output, otherVertex.label());
+            writeProperties(output, edge);
+        }
+    }
+
+    private static void writeProperties(final DataOutput output, final Element element) throws IOException {
+        WritableUtils.writeVInt(output, element.properties().size() + element.hiddens().size());
+        for (final Map.Entry<String, Property> entry : element.properties().entrySet()) {
+            WritableUtils.writeString(output, entry.getKey());
+            new KryoWritable<>(entry.getValue().value()).write(output);
+        }
+        for (final Map.Entry<String, Property> entry : element.hiddens().entrySet()) {
+            WritableUtils.writeString(output, Graph.Key.hide(entry.getKey()));
+            new KryoWritable<>(entry.getValue().value()).write(output);
+        }
+    }
+
+    private static TinkerVertex decode(final byte[] bytes) throws IOException {
+        final DataInput input = new DataInputStream(new ByteArrayInputStream(bytes));
+        final TinkerGraph graph = TinkerGraph.open();
+        final TinkerVertex vertex = (TinkerVertex) graph.addVertex(Element.ID, readValue(input), Element.LABEL, WritableUtils.readString(input));
+        readProperties(input, vertex);
+        readEdges(input, graph, vertex, true);
+        readEdges(input, graph, vertex, false);
+        return vertex;
+    }
+
+    private static void readEdges(final DataInput input, final TinkerGraph graph, final TinkerVertex vertex, final boolean out) throws IOException {
+        final int edges = WritableUtils.readVInt(input);
+        for (int i = 0; i < edges; i++) {
+            final Object edgeId = readValue(input);
+            final String label = WritableUtils.readString(input);
+            final Vertex otherVertex = ElementHelper.getOrAddVertex(graph, readValue(input), WritableUtils.readString(input));
+            final Edge edge = out ?
+                    vertex.addEdge(label, otherVertex, Element.ID, edgeId) :
+                    otherVertex.addEdge(label, vertex, Element.ID, edgeId);
+            readProperties(input, edge);
+        }
+    }
+
+    private static void readProperties(final DataInput input, final Element element) throws IOException {
+        final int properties = WritableUtils.readVInt(input);
+        for (int i = 0; i < properties; i++) {
+            element.property(WritableUtils.readString(input), readValue(input));
+        }
+    }
+
+    private static Object readValue(final DataInput input) throws IOException {
+        final KryoWritable<Object> value = new KryoWritable<>();
+        value.readFields(input);
+        return value.get();
+    }
+}
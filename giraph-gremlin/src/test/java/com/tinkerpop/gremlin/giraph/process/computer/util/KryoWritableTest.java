@@ -0,0 +1,73 @@
+package com.tinkerpop.gremlin.giraph.process.computer.util;
+
+import com.tinkerpop.gremlin.process.computer.MapReduce;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class KryoWritableTest {
+
+    @Test
+    public void shouldRoundTripDoublesAndLongsAsFixedWidth() throws IOException {
+        assertEquals(9, serialize(new KryoWritable<>(0.15d)).length);
+        assertEquals(0.15d, roundTrip(0.15d), 0.0d);
+        assertEquals(9, serialize(new KryoWritable<>(Long.MAX_VALUE)).length);
+        assertEquals(Long.MAX_VALUE, (long) roundTrip(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void shouldRoundTripWithKryo() throws IOException {
+        final Map<String, Object> map = new HashMap<>();
+        map.put("name", "marko");
+        map.put("weights", Arrays.asList(0.5f, 1.0f));
+        assertEquals(map, roundTrip(map));
+        assertEquals("lop", roundTrip("lop"));
+        assertTrue(roundTrip(MapReduce.NullObject.instance()) instanceof MapReduce.NullObject);
+    }
+
+    @Test
+    public void shouldRoundTripWithJavaSerializationWhenKryoCanNotSerialize() throws IOException {
+        final Unregistered unregistered = new Unregistered("ripple", 3);
+        // the tag byte of a Java serialized object
+        assertEquals(3, serialize(new KryoWritable<>(unregistered))[0]);
+        final Unregistered other = roundTrip(unregistered);
+        assertEquals(unregistered.name, other.name);
+        assertEquals(unregistered.count, other.count);
+
+        // the thread-local kryo is still usable after the fallback
+        assertEquals(Arrays.asList(1, 2, 3), roundTrip(Arrays.asList(1, 2, 3)));
+    }
+
+    private static <T> T roundTrip(final T t) throws IOException {
+        final KryoWritable<T> writable = new KryoWritable<>();
+        writable.readFields(new DataInputStream(new ByteArrayInputStream(serialize(new KryoWritable<>(t)))));
+        return writable.get();
+    }
+
+    private static byte[] serialize(final KryoWritable writable) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writable.write(new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+
+    public static class Unregistered implements Serializable {
+        private final String name;
+        private final int count;
+
+        public Unregistered(final String name, final int count) {
+            this.name = name;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.tinkerpop.gremlin.giraph.structure.util;
+
+import com.tinkerpop.gremlin.structure.Edge;
+import com.tinkerpop.gremlin.structure.Graph;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerVertex;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+
+public class TinkerVertexWritableTest {
+
+    @Test
+    public void shouldRoundTripVertexWithPropertiesAndEdgeStubs() throws IOException {
+        final TinkerGraph g = TinkerFactory.createClassic();
+        final TinkerVertex marko = (TinkerVertex) g.v(1);
+        marko.property(Graph.Key.hide("visits"), 3);
+        g.e(7).property(Graph.Key.hide("since"), 2009);
+        g.v(2).addEdge("knows", marko, "weight", 0.2f);
+        marko.addEdge("self", marko);
+
+        final TinkerVertex vertex = roundTrip(new TinkerVertexWritable(marko)).getTinkerVertex();
+        assertEquals(1, vertex.id());
+        assertEquals(marko.label(), vertex.label());
+        assertEquals("marko", vertex.value("name"));
+        assertEquals(29, (int) vertex.value("age"));
+        assertEquals(3, (int) vertex.hiddens().get("visits").value());
+        assertEquals(4l, (long) vertex.outE().count().next());
+        assertEquals(2l, (long) vertex.inE().count().next());
+        assertEquals(1l, (long) vertex.out("self").count().next());
+        final Edge knows = vertex.outE("knows").toList().stream().filter(edge -> edge.id().equals(7)).findFirst().get();
+        assertEquals(2009, (int) knows.hiddens().get("since").value());
+        assertEquals(g.v(2).label(), knows.inV().label().next());
+        assertEquals(0.2f, (float) vertex.inE("knows").next().value("weight"), 0.0f);
+        assertEquals(2, vertex.inE("knows").outV().id().next());
+    }
+
+    @Test
+    public void shouldReEncodeDecodedVertex() throws IOException {
+        final TinkerVertexWritable writable = roundTrip(new TinkerVertexWritable((TinkerVertex) TinkerFactory.createClassic().v(4)));
+        writable.getTinkerVertex().property(Graph.Key.hide("rank"), 0.5d);
+
+        final TinkerVertex vertex = roundTrip(writable).getTinkerVertex();
+        assertEquals("josh", vertex.value("name"));
+        assertEquals(0.5d, (double) vertex.hiddens().get("rank").value(), 0.0d);
+        assertEquals(2l, (long) vertex.out("created").count().next());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotWriteWithoutVertex() throws IOException {
+        new TinkerVertexWritable().write(new DataOutputStream(new ByteArrayOutputStream()));
+    }
+
+    private static TinkerVertexWritable roundTrip(final TinkerVertexWritable writable) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writable.write(new DataOutputStream(bytes));
+        final TinkerVertexWritable other = new TinkerVertexWritable();
+        other.readFields(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        return other;
+    }
+}
@@ -1,7 +1,50 @@
 package com.tinkerpop.gremlin.algorithm.oltp;
 
+import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.util.function.SFunction;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
+ * A personalization vector for PageRank. The priors are the teleport probabilities of the vertices (by id) and are
+ * normalized to sum to 1. Vertices without a prior have a teleport probability of 0. The priors can be provided to
+ * {@code DeltaPageRankVertexProgram.build().priors()}.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public class PageRankPriors {
+public class PageRankPriors implements SFunction<Vertex, Double> {
+
+    private final Map<Object, Double> priors;
+
+    private PageRankPriors(final Map<Object, Double> priors) {
+        this.priors = priors;
+    }
+
+    @Override
+    public Double apply(final Vertex vertex) {
+        return this.priors.getOrDefault(vertex.id(), 0.0d);
+    }
+
+    /**
+     * Create priors from the weights of the vertices with the provided ids.
+     */
+    public static PageRankPriors of(final Map<?, ? extends Number> weights) {
+        final double total = weights.values().stream().mapToDouble(Number::doubleValue).sum();
+        if (total <= 0.0d)
+            throw new IllegalArgumentException("The sum of the prior weights must be greater than zero: " + total);
+        final Map<Object, Double> priors = new HashMap<>();
+        weights.forEach((id, weight) -> priors.put(id, weight.doubleValue() / total));
+        return new PageRankPriors(priors);
+    }
+
+    /**
+     * Create priors that are uniform over the vertices with the provided ids.
+     */
+    public static PageRankPriors of(final Object... vertexIds) {
+        final Map<Object, Double> weights = new HashMap<>();
+        Arrays.asList(vertexIds).forEach(id -> weights.put(id, 1.0d));
+        return PageRankPriors.of(weights);
+    }
 }
@@ -2,10 +2,13 @@ package com.tinkerpop.gremlin.process;
 
 import org.javatuples.Pair;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.IntStream;
@@ -13,63 +16,82 @@ import java.util.stream.Stream;
 
 /**
  * A Path denotes a particular walk through a {@link com.tinkerpop.gremlin.structure.Graph} as defined by a {@link Traverser}.
- * Internal to a Path are two lists: a list of labels and a list of objects.
- * The list of labels are the as-labels of the steps traversed.
- * The list of objects are the objects traversed.
+ * Internal to a Path is a parent-linked list of immutable steps, each with an as-label and an object.
+ * The as-labels are the labels of the steps traversed.
+ * The objects are the objects traversed.
+ * Because the steps are immutable, the path of a child traverser shares the steps of its parent's path and only
+ * adds its own step. The path is flattened into arrays only when it is accessed by index or iterated.
  *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class Path implements Serializable {
 
-    protected List<String> asLabels = new ArrayList<>();
-    protected List<Object> objects = new ArrayList<>();
+    protected transient Link head = null;
+    protected transient int size = 0;
+    private transient String[] asLabelsCache = null;
+    private transient Object[] objectsCache = null;
 
     protected Path() {
 
     }
 
+    /**
+     * Create a path that shares the steps of the provided path.
+     */
+    protected Path(final Path path) {
+        this.head = path.head;
+        this.size = path.size;
+    }
+
     public Path(final Object... asObjects) {
         if (asObjects.length % 2 != 0)
             throw new IllegalArgumentException("The provided array must be a multiple of two");
         for (int i = 0; i < asObjects.length; i = i + 2) {
-            this.asLabels.add((String) asObjects[i]);
-            this.objects.add(asObjects[i + 1]);
+            this.add((String) asObjects[i], asObjects[i + 1]);
         }
     }
 
     public int size() {
-        return this.objects.size();
+        return this.size;
     }
 
     public void add(final String as, final Object object) {
-        this.asLabels.add(as);
-        this.objects.add(object);
+        this.setHead(new Link(this.head, as, object, false));
+        this.size++;
     }
 
     public void add(final Path path) {
-        this.asLabels.addAll(path.asLabels);
-        this.objects.addAll(path.objects);
+        path.forEach((BiConsumer<String, Object>) this::add);
     }
 
     public <T> T get(final String as) {
-        for (int i = 0; i < this.asLabels.size(); i++) {
-            if (this.asLabels.get(i).equals(as))
-                return (T) this.objects.get(i);
+        Link first = null;
+        for (Link link = this.head; null != link; link = link.parent) {
+            if (link.as.equals(as))
+                first = link;
         }
-        throw new IllegalArgumentException("The as-step does not exist: " + as);
+        if (null == first)
+            throw new IllegalArgumentException("The as-step does not exist: " + as);
+        return (T) first.object;
     }
 
     public <T> T get(final int index) {
-        return (T) this.objects.get(index);
+        return (T) this.objects()[index];
     }
 
     public boolean hasAs(final String as) {
-        return this.asLabels.contains(as);
+        for (Link link = this.head; null != link; link = link.parent) {
+            if (link.as.equals(as))
+                return true;
+        }
+        return false;
     }
 
     // TODO: why does this have to exist. I hate this.
     public void renameLastStep(final String as) {
-        this.asLabels.set(this.asLabels.size() - 1, as);
+        if (null == this.head)
+            throw new IndexOutOfBoundsException("The path has no steps to rename");
+        this.setHead(new Link(this.head.parent, as, this.head.object, this.head.detached));
     }
 
     /**
@@ -79,24 +101,103 @@ public class Path implements Serializable {
      * @return Whether the path is simple or not
      */
     public boolean isSimple() {
-        return new HashSet<>(this.objects).size() == this.objects.size();
+        final Set<Object> objects = new HashSet<>();
+        for (Link link = this.head; null != link; link = link.parent) {
+            if (!objects.add(link.object))
+                return false;
+        }
+        return true;
     }
 
     public void forEach(final Consumer<Object> consumer) {
-        this.objects.forEach(consumer);
+        for (final Object object : this.objects()) {
+            consumer.accept(object);
+        }
     }
 
     public void forEach(final BiConsumer<String, Object> consumer) {
-        for (int i = 0; i < this.size(); i++) {
-            consumer.accept(this.asLabels.get(i), this.objects.get(i));
+        final String[] asLabels = this.asLabels();
+        final Object[] objects = this.objects();
+        for (int i = 0; i < asLabels.length; i++) {
+            consumer.accept(asLabels[i], objects[i]);
         }
     }
 
     public Stream<Pair<String, Object>> stream() {
-        return IntStream.range(0, this.size()).mapToObj(i -> Pair.with(this.asLabels.get(i), this.objects.get(i)));
+        final String[] asLabels = this.asLabels();
+        final Object[] objects = this.objects();
+        return IntStream.range(0, asLabels.length).mapToObj(i -> Pair.with(asLabels[i], objects[i]));
     }
 
     public String toString() {
-        return this.objects.toString();
+        return Arrays.asList(this.objects()).toString();
+    }
+
+    protected void setHead(final Link head) {
+        this.head = head;
+        this.asLabelsCache = null;
+        this.objectsCache = null;
+    }
+
+    private String[] asLabels() {
+        if (null == this.asLabelsCache)
+            this.flatten();
+        return this.asLabelsCache;
+    }
+
+    private Object[] objects() {
+        if (null == this.objectsCache)
+            this.flatten();
+        return this.objectsCache;
+    }
+
+    private void flatten() {
+        final String[] asLabels = new String[this.size];
+        final Object[] objects = new Object[this.size];
+        int i = this.size;
+        for (Link link = this.head; null != link; link = link.parent) {
+            asLabels[--i] = link.as;
+            objects[i] = link.object;
+        }
+        this.asLabelsCache = asLabels;
+        this.objectsCache = objects;
+    }
+
+    private void writeObject(final ObjectOutputStream outputStream) throws IOException {
+        outputStream.defaultWriteObject();
+        outputStream.writeInt(this.size);
+        final String[] asLabels = this.asLabels();
+        final Object[] objects = this.objects();
+        for (int i = 0; i < this.size; i++) {
+            outputStream.writeObject(asLabels[i]);
+            outputStream.writeObject(objects[i]);
+        }
+    }
+
+    private void readObject(final ObjectInputStream inputStream) throws IOException, ClassNotFoundException {
+        inputStream.defaultReadObject();
+        final int size = inputStream.readInt();
+        for (int i = 0; i < size; i++) {
+            this.add((String) inputStream.readObject(), inputStream.readObject());
+        }
+    }
+
+    /**
+     * An immutable step of a path. A link is flagged as detached if its object and the objects of all its parents
+     * are detached and thus, the link can be shared by a {@link com.tinkerpop.gremlin.structure.util.detached.DetachedPath}.
+     */
+    protected static final class Link {
+
+        public final Link parent;
+        public final String as;
+        public final Object object;
+        public final boolean detached;
+
+        public Link(final Link parent, final String as, final Object object, final boolean detached) {
+            this.parent = parent;
+            this.as = as;
+            this.object = object;
+            this.detached = detached;
+        }
     }
 }
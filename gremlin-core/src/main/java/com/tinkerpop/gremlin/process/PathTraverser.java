@@ -43,17 +43,19 @@ public class PathTraverser<T> extends SimpleTraverser<T> {
     public <R> PathTraverser<R> makeChild(final String as, final R r) {
         final PathTraverser<R> traverser = new PathTraverser<>(r);
         traverser.loops = this.loops;
-        traverser.path.add(this.path);
+        traverser.path = new Path(this.path);
         traverser.path.add(as, r);
         traverser.future = this.future;
+        traverser.bulk = this.bulk;
         return traverser;
     }
 
     public PathTraverser<T> makeSibling() {
         final PathTraverser<T> traverser = new PathTraverser<>(this.t);
         traverser.loops = this.loops;
-        traverser.path.add(this.path);
+        traverser.path = new Path(this.path);
         traverser.future = this.future;
+        traverser.bulk = this.bulk;
         return traverser;
     }
 
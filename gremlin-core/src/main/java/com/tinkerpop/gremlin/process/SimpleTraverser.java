@@ -18,6 +18,7 @@ public class SimpleTraverser<T> implements Traverser<T> {
     protected T t;
     protected String future = NO_FUTURE;
     protected int loops = 0;
+    protected long bulk = 1l;
 
     protected SimpleTraverser() {
 
@@ -55,6 +56,14 @@ public class SimpleTraverser<T> implements Traverser<T> {
         throw new IllegalStateException(PATH_ERROR_MESSAGE);
     }
 
+    public long getBulk() {
+        return this.bulk;
+    }
+
+    public void setBulk(final long count) {
+        this.bulk = count;
+    }
+
     public int getLoops() {
         return this.loops;
     }
@@ -71,6 +80,7 @@ public class SimpleTraverser<T> implements Traverser<T> {
         final SimpleTraverser<R> traverser = new SimpleTraverser<>(r);
         traverser.future = this.future;
         traverser.loops = this.loops;
+        traverser.bulk = this.bulk;
         return traverser;
     }
 
@@ -78,6 +88,7 @@ public class SimpleTraverser<T> implements Traverser<T> {
         final SimpleTraverser<T> traverser = new SimpleTraverser<>(this.t);
         traverser.future = this.future;
         traverser.loops = this.loops;
+        traverser.bulk = this.bulk;
         return traverser;
     }
 
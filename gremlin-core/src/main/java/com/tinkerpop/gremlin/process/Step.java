@@ -64,6 +64,30 @@ public interface Step<S, E> extends Iterator<Traverser<E>>, Serializable, Clonea
      */
     public <A, B> Traversal<A, B> getTraversal();
 
+    /**
+     * Fill the provided array with the next traversers of the step.
+     * This default implementation pulls one traverser at a time and is the fallback for steps that do not
+     * process traversers in batches.
+     *
+     * @param batch The array to fill with traversers
+     * @return The number of traversers placed in the array (0 if the step currently has no more traversers)
+     */
+    public default int nextBatch(final Traverser<E>[] batch) {
+        int size = 0;
+        while (size < batch.length && this.hasNext()) {
+            batch[size++] = this.next();
+        }
+        return size;
+    }
+
+    /**
+     * Reset the internal state of the step (e.g. buffered starts and any state accumulated from previous traversers)
+     * so the step can be reused for a new set of starts without being rebuilt.
+     */
+    public default void reset() {
+
+    }
+
     /**
      * Cloning is used to duplicate steps for the purpose of traversal optimization.
      *
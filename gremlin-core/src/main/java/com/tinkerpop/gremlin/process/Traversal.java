@@ -147,6 +147,13 @@ public interface Traversal<S, E> extends Iterator<E>, Serializable {
         return (Traversal) this.addStep(new CountStep<>(this));
     }
 
+    /**
+     * Reset all the steps of the traversal so that the (already optimized) traversal can be reused for new starts.
+     */
+    public default void reset() {
+        this.getSteps().forEach(Step::reset);
+    }
+
     public default Traversal<S, E> reverse() {
         this.getSteps().stream().filter(step -> step instanceof Reversible).forEach(step -> ((Reversible) step).reverse());
         return this;
@@ -60,6 +60,22 @@ public interface Traverser<T> extends Serializable {
      */
     public void setPath(final Path path);
 
+    /**
+     * Get the number of traversers that this traverser represents.
+     * Equal traversers may be coalesced into a single traverser so the same object is not traversed redundantly.
+     * Steps that count, collect or filter traversers must respect the bulk.
+     *
+     * @return The number of traversers represented by this traverser
+     */
+    public long getBulk();
+
+    /**
+     * Set the number of traversers that this traverser represents.
+     *
+     * @param count The number of traversers represented by this traverser
+     */
+    public void setBulk(final long count);
+
     /**
      * Return the number of times the traverser has gone through a looping section of a traversal.
      *
@@ -96,7 +112,7 @@ public interface Traverser<T> extends Serializable {
 
     /**
      * Generate a child traverser of the current traverser for current as step and new object location.
-     * The child has the path history, future, and loop information of the parent.
+     * The child has the path history, future, loop, and bulk information of the parent.
      * The child extends that path history with the current as and provided R-object.
      *
      * @param as  The current as-label of the child
@@ -0,0 +1,13 @@
+package com.tinkerpop.gremlin.process.computer;
+
+/**
+ * A {@link MessageCombiner} for double messages that can be applied without boxing.
+ */
+public interface DoubleMessageCombiner extends MessageCombiner<Double> {
+
+    public double combine(final double previousMessage, final double newMessage);
+
+    public default Double combine(final Double previousMessage, final Double newMessage) {
+        return this.combine(previousMessage.doubleValue(), newMessage.doubleValue());
+    }
+}
@@ -0,0 +1,37 @@
+package com.tinkerpop.gremlin.process.computer;
+
+import com.tinkerpop.gremlin.util.StreamFactory;
+
+import java.util.stream.DoubleStream;
+
+/**
+ * A {@link DoubleMessenger} is an optional specialization of a {@link Messenger} for {@link VertexProgram}s whose
+ * messages are doubles (see {@link VertexProgram#getMessageClass()}). A {@link GraphComputer} that supports it can
+ * store the messages in primitive form and thus, avoid boxing each message.
+ */
+public interface DoubleMessenger {
+
+    public DoubleStream receiveDoubleMessages(final MessageType messageType);
+
+    public void sendDoubleMessage(final MessageType messageType, final double message);
+
+    /**
+     * Get the messenger as a {@link DoubleMessenger}. If the messenger does not support primitive messages, the
+     * returned messenger boxes the messages.
+     */
+    public static DoubleMessenger of(final Messenger<Double> messenger) {
+        if (messenger instanceof DoubleMessenger)
+            return (DoubleMessenger) messenger;
+        else {
+            return new DoubleMessenger() {
+                public DoubleStream receiveDoubleMessages(final MessageType messageType) {
+                    return StreamFactory.stream(messenger.receiveMessages(messageType)).mapToDouble(Double::doubleValue);
+                }
+
+                public void sendDoubleMessage(final MessageType messageType, final double message) {
+                    messenger.sendMessage(messageType, message);
+                }
+            };
+        }
+    }
+}
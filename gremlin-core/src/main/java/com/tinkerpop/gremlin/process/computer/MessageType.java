@@ -50,7 +50,7 @@ public abstract class MessageType implements Serializable {
 
         private Local(final SSupplier<Traversal<Vertex, Edge>> incidentTraversal) {
             this.incidentTraversal = incidentTraversal;
-            this.edgeFunction = (final M1 m, final Edge e) -> (M2) m;
+            this.edgeFunction = null;
         }
 
         private Local(final SSupplier<Traversal<Vertex, Edge>> incidentTraversal, final SBiFunction<M1, Edge, M2> edgeFunction) {
@@ -87,7 +87,14 @@ public abstract class MessageType implements Serializable {
         }
 
         public BiFunction<M1, Edge, M2> getEdgeFunction() {
-            return this.edgeFunction;
+            return null == this.edgeFunction ? (final M1 m, final Edge e) -> (M2) m : this.edgeFunction;
+        }
+
+        /**
+         * Whether the message is transformed by an edge function or is received as it was sent.
+         */
+        public boolean hasEdgeFunction() {
+            return null != this.edgeFunction;
         }
 
         public SSupplier<Traversal<Vertex, Edge>> getIncidentTraversal() {
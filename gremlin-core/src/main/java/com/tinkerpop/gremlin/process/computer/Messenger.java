@@ -17,4 +17,12 @@ public interface Messenger<M extends Serializable> {
 
     public void sendMessage(final MessageType messageType, final M message);
 
+    /**
+     * Declare that the vertex has no further work. A halted vertex need not be executed in the following iterations
+     * until it is sent a message. A {@link GraphComputer} that does not schedule vertices may ignore the vote.
+     */
+    public default void voteToHalt() {
+
+    }
+
 }
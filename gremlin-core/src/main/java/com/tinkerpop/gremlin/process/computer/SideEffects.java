@@ -42,6 +42,14 @@ public interface SideEffects {
         return this.getIteration() == 0;
     }
 
+    /**
+     * Whether the computation resumes from the compute keys of a previous computation where only the vertices that
+     * were mutated since then are executed in the initial iteration.
+     */
+    public default boolean isIncremental() {
+        return false;
+    }
+
     public interface Administrative extends SideEffects {
 
         public void incrIteration();
@@ -68,6 +68,14 @@ public interface VertexProgram<M extends Serializable> extends Serializable {
         return Collections.emptySet();
     }
 
+    /**
+     * The class of the messages sent by the program. If the class is {@link Double}, the {@link Messenger} provided
+     * by the {@link GraphComputer} may also be a {@link DoubleMessenger}.
+     */
+    public default Class<M> getMessageClass() {
+        return (Class) Serializable.class;
+    }
+
     public default Optional<MessageCombiner<M>> getMessageCombiner() {
         return Optional.empty();
     }
@@ -76,6 +84,15 @@ public interface VertexProgram<M extends Serializable> extends Serializable {
         return Collections.emptyList();
     }
 
+    /**
+     * Whether the program can be executed incrementally. In an incremental computation, the vertices start with the
+     * compute key values of the previous computation and only the vertices mutated since then are executed in the
+     * initial iteration (see {@link SideEffects#isIncremental()}).
+     */
+    public default boolean supportsIncrementalExecution() {
+        return false;
+    }
+
     public static Map<String, KeyType> createElementKeys(final Object... computeKeys) {
         if (computeKeys.length % 2 != 0)
             throw new IllegalArgumentException("The provided arguments must have a size that is a factor of 2");
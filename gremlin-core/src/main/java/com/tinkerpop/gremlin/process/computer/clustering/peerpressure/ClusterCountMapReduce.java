@@ -43,7 +43,7 @@ public class ClusterCountMapReduce implements MapReduce<MapReduce.NullObject, Se
 
     @Override
     public boolean doStage(final Stage stage) {
-        return true;
+        return !stage.equals(Stage.COMBINE);
     }
 
     @Override
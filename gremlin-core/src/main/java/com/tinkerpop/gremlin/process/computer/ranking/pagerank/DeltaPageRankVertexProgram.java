@@ -0,0 +1,302 @@
+package com.tinkerpop.gremlin.process.computer.ranking.pagerank;
+
+import com.tinkerpop.gremlin.process.Traversal;
+import com.tinkerpop.gremlin.process.computer.DoubleMessageCombiner;
+import com.tinkerpop.gremlin.process.computer.DoubleMessenger;
+import com.tinkerpop.gremlin.process.computer.GraphComputer;
+import com.tinkerpop.gremlin.process.computer.MessageCombiner;
+import com.tinkerpop.gremlin.process.computer.MessageType;
+import com.tinkerpop.gremlin.process.computer.Messenger;
+import com.tinkerpop.gremlin.process.computer.SideEffects;
+import com.tinkerpop.gremlin.process.computer.VertexProgram;
+import com.tinkerpop.gremlin.process.computer.util.AbstractBuilder;
+import com.tinkerpop.gremlin.process.computer.util.VertexProgramHelper;
+import com.tinkerpop.gremlin.process.graph.GraphTraversal;
+import com.tinkerpop.gremlin.structure.Edge;
+import com.tinkerpop.gremlin.structure.Graph;
+import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.util.function.SFunction;
+import com.tinkerpop.gremlin.util.function.SSupplier;
+import org.apache.commons.configuration.Configuration;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A delta-based variant of {@link PageRankVertexProgram}. Each vertex starts with its teleport rank and only the
+ * changes to its rank are sent to its adjacent vertices. A change is only sent if it is greater than epsilon times the
+ * current rank of the vertex and the computation terminates once no vertex sends a change (or the maximum number of
+ * iterations is reached). Vertices vote to halt after each iteration and are reactivated by incoming changes.
+ * <p/>
+ * The teleport distribution defaults to 1/vertexCount and can be personalized with a priors function. The program
+ * only reads and writes the compute keys of the executing vertex and as such, can also be run with
+ * {@link GraphComputer.Isolation#DIRTY_BSP} which avoids double buffering the ranks.
+ * <p/>
+ * The program supports incremental execution where the ranks of a previous computation are corrected for the
+ * mutations since then. The mutated vertices (M) mark themselves and their adjacent vertices (A) as affected, the
+ * vertices adjacent to the affected vertices send their contribution and the affected vertices compute their residual
+ * (the difference between their rank as computed from the current graph and their previous rank). The residuals are
+ * then propagated as changes as in a full computation. Only the neighborhood of the mutations is executed.
+ */
+public class DeltaPageRankVertexProgram implements VertexProgram<Double> {
+
+    private MessageType.Local messageType = MessageType.Local.of(() -> GraphTraversal.<Vertex>of().outE());
+    private MessageType.Local reverseMessageType = reverse(this.messageType.getIncidentTraversal());
+
+    public static final String PAGE_RANK = PageRankVertexProgram.PAGE_RANK;
+    public static final String EDGE_COUNT = PageRankVertexProgram.EDGE_COUNT;
+
+    private static final String VERTEX_COUNT = "gremlin.deltaPageRankVertexProgram.vertexCount";
+    private static final String ALPHA = "gremlin.deltaPageRankVertexProgram.alpha";
+    private static final String EPSILON = "gremlin.deltaPageRankVertexProgram.epsilon";
+    private static final String MAX_ITERATIONS = "gremlin.deltaPageRankVertexProgram.maxIterations";
+    private static final String INCIDENT_TRAVERSAL = "gremlin.deltaPageRankVertexProgram.incidentTraversal";
+    private static final String PRIORS = "gremlin.deltaPageRankVertexProgram.priors";
+    private static final String CONVERGED = "gremlin.deltaPageRankVertexProgram.converged";
+    private static final String AFFECTED = Graph.Key.hide("gremlin.deltaPageRankVertexProgram.affected");
+
+    // the iterations of an incremental computation before the changes are propagated
+    private static final int MARK_MUTATED = 0;
+    private static final int MARK_ADJACENT = 1;
+    private static final int CONTRIBUTE = 2;
+    private static final int RESIDUAL = 3;
+
+    private double vertexCountAsDouble = 1;
+    private double alpha = 0.85d;
+    private double epsilon = 0.0001d;
+    private int maxIterations = 100;
+    private SFunction<Vertex, Double> priors = null;
+
+    private DeltaPageRankVertexProgram() {
+
+    }
+
+    @Override
+    public void loadState(final Configuration configuration) {
+        this.vertexCountAsDouble = configuration.getDouble(VERTEX_COUNT, 1.0d);
+        this.alpha = configuration.getDouble(ALPHA, 0.85d);
+        this.epsilon = configuration.getDouble(EPSILON, 0.0001d);
+        this.maxIterations = configuration.getInt(MAX_ITERATIONS, 100);
+        try {
+            if (configuration.containsKey(INCIDENT_TRAVERSAL)) {
+                final SSupplier<Traversal> traversalSupplier = VertexProgramHelper.deserialize(configuration, INCIDENT_TRAVERSAL);
+                VertexProgramHelper.verifyReversibility(traversalSupplier.get());
+                this.messageType = MessageType.Local.of((SSupplier) traversalSupplier);
+                this.reverseMessageType = reverse(this.messageType.getIncidentTraversal());
+            }
+            if (configuration.containsKey(PRIORS))
+                this.priors = VertexProgramHelper.deserialize(configuration, PRIORS);
+        } catch (final Exception e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void storeState(final Configuration configuration) {
+        configuration.setProperty(GraphComputer.VERTEX_PROGRAM, DeltaPageRankVertexProgram.class.getName());
+        configuration.setProperty(VERTEX_COUNT, this.vertexCountAsDouble);
+        configuration.setProperty(ALPHA, this.alpha);
+        configuration.setProperty(EPSILON, this.epsilon);
+        configuration.setProperty(MAX_ITERATIONS, this.maxIterations);
+        try {
+            VertexProgramHelper.serialize(this.messageType.getIncidentTraversal(), configuration, INCIDENT_TRAVERSAL);
+            if (null != this.priors)
+                VertexProgramHelper.serialize(this.priors, configuration, PRIORS);
+        } catch (final Exception e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Map<String, KeyType> getElementComputeKeys() {
+        return VertexProgram.createElementKeys(PAGE_RANK, KeyType.VARIABLE, EDGE_COUNT, KeyType.VARIABLE, AFFECTED, KeyType.VARIABLE);
+    }
+
+    @Override
+    public Set<String> getSideEffectComputeKeys() {
+        return Collections.singleton(CONVERGED);
+    }
+
+    @Override
+    public Class<Double> getMessageClass() {
+        return Double.class;
+    }
+
+    @Override
+    public Optional<MessageCombiner<Double>> getMessageCombiner() {
+        return Optional.of((DoubleMessageCombiner) (a, b) -> a + b);
+    }
+
+    @Override
+    public boolean supportsIncrementalExecution() {
+        return true;
+    }
+
+    @Override
+    public void setup(final SideEffects sideEffects) {
+        sideEffects.set(CONVERGED, false);
+    }
+
+    @Override
+    public void execute(final Vertex vertex, Messenger<Double> messenger, final SideEffects sideEffects) {
+        final DoubleMessenger doubleMessenger = DoubleMessenger.of(messenger);
+        if (sideEffects.isIncremental() && sideEffects.getIteration() < RESIDUAL) {
+            this.executeIncremental(vertex, messenger, doubleMessenger, sideEffects);
+            return;
+        }
+        final double edgeCount;
+        final double pageRank;
+        final double delta;
+        if (sideEffects.isIncremental() && sideEffects.getIteration() == RESIDUAL) {
+            if (!vertex.<Boolean>property(AFFECTED).orElse(false)) {
+                messenger.voteToHalt();
+                return;
+            }
+            vertex.property(AFFECTED).remove();
+            edgeCount = vertex.<Double>value(EDGE_COUNT);
+            final double previousPageRank = vertex.<Double>property(PAGE_RANK).orElse(0.0d);
+            delta = this.teleport(vertex) + doubleMessenger.receiveDoubleMessages(this.messageType).sum() - previousPageRank;
+            pageRank = previousPageRank + delta;
+        } else if (sideEffects.isInitialIteration()) {
+            edgeCount = this.edgeCount(vertex);
+            delta = this.teleport(vertex);
+            pageRank = delta;
+        } else {
+            edgeCount = vertex.<Double>value(EDGE_COUNT);
+            delta = doubleMessenger.receiveDoubleMessages(this.messageType).sum();
+            pageRank = vertex.<Double>property(PAGE_RANK).orElse(0.0d) + delta;
+        }
+        vertex.property(PAGE_RANK, pageRank);
+        if (edgeCount > 0.0d && Math.abs(delta) > this.epsilon * pageRank) {
+            doubleMessenger.sendDoubleMessage(this.messageType, (this.alpha * delta) / edgeCount);
+            sideEffects.and(CONVERGED, false);
+        }
+        messenger.voteToHalt();
+    }
+
+    private void executeIncremental(final Vertex vertex, final Messenger<Double> messenger, final DoubleMessenger doubleMessenger, final SideEffects sideEffects) {
+        sideEffects.and(CONVERGED, false);
+        switch (sideEffects.getIteration()) {
+            case MARK_MUTATED:
+                // the edge count of a mutated vertex may have changed and its adjacent vertices are affected
+                this.edgeCount(vertex);
+                vertex.property(AFFECTED, true);
+                doubleMessenger.sendDoubleMessage(this.messageType, 0.0d);
+                break;
+            case MARK_ADJACENT:
+                // the vertices that contribute to the affected vertices are asked for their contribution
+                if (!vertex.property(EDGE_COUNT).isPresent())
+                    this.edgeCount(vertex);
+                vertex.property(AFFECTED, true);
+                doubleMessenger.sendDoubleMessage(this.reverseMessageType, 0.0d);
+                break;
+            case CONTRIBUTE:
+                if (doubleMessenger.receiveDoubleMessages(this.reverseMessageType).count() > 0) {
+                    final double edgeCount = vertex.<Double>property(EDGE_COUNT).orElseGet(() -> this.edgeCount(vertex));
+                    if (edgeCount > 0.0d)
+                        doubleMessenger.sendDoubleMessage(this.messageType, (this.alpha * vertex.<Double>property(PAGE_RANK).orElse(0.0d)) / edgeCount);
+                }
+                if (!vertex.<Boolean>property(AFFECTED).orElse(false))
+                    messenger.voteToHalt();
+                break;
+        }
+    }
+
+    private double edgeCount(final Vertex vertex) {
+        final double edgeCount = Double.valueOf((Long) this.messageType.edges(vertex).count().next());
+        vertex.property(EDGE_COUNT, edgeCount);
+        return edgeCount;
+    }
+
+    private double teleport(final Vertex vertex) {
+        return (1.0d - this.alpha) * (null == this.priors ? 1.0d / this.vertexCountAsDouble : this.priors.apply(vertex));
+    }
+
+    private static MessageType.Local reverse(final SSupplier<Traversal<Vertex, Edge>> incidentTraversal) {
+        return MessageType.Local.of(() -> incidentTraversal.get().reverse());
+    }
+
+    @Override
+    public boolean terminate(final SideEffects sideEffects) {
+        final boolean converged = sideEffects.<Boolean>get(CONVERGED).get() || sideEffects.getIteration() >= this.maxIterations;
+        if (converged) {
+            return true;
+        } else {
+            sideEffects.or(CONVERGED, true);
+            return false;
+        }
+    }
+
+    //////////////////////////////
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public static class Builder extends AbstractBuilder<Builder> {
+
+        private Builder() {
+            super(DeltaPageRankVertexProgram.class);
+        }
+
+        public Builder maxIterations(final int iterations) {
+            this.configuration.setProperty(MAX_ITERATIONS, iterations);
+            return this;
+        }
+
+        public Builder alpha(final double alpha) {
+            this.configuration.setProperty(ALPHA, alpha);
+            return this;
+        }
+
+        public Builder epsilon(final double epsilon) {
+            this.configuration.setProperty(EPSILON, epsilon);
+            return this;
+        }
+
+        public Builder incidentTraversal(final SSupplier<Traversal<Vertex, Edge>> incidentTraversal) throws IOException {
+            try {
+                VertexProgramHelper.serialize(incidentTraversal, this.configuration, INCIDENT_TRAVERSAL);
+            } catch (final IOException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            return this;
+        }
+
+        public Builder vertexCount(final long vertexCount) {
+            this.configuration.setProperty(VERTEX_COUNT, (double) vertexCount);
+            return this;
+        }
+
+        /**
+         * The teleport (personalization) probability of each vertex. The priors should sum to 1 over all vertices.
+         */
+        public Builder priors(final SFunction<Vertex, Double> priors) {
+            try {
+                VertexProgramHelper.serialize(priors, this.configuration, PRIORS);
+            } catch (final IOException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            return this;
+        }
+    }
+
+    ////////////////////////////
+
+    public Features getFeatures() {
+        return new Features() {
+            @Override
+            public boolean requiresLocalMessageTypes() {
+                return true;
+            }
+
+            @Override
+            public boolean requiresVertexPropertyAddition() {
+                return true;
+            }
+        };
+    }
+}
@@ -1,6 +1,7 @@
 package com.tinkerpop.gremlin.process.computer.ranking.pagerank;
 
 import com.tinkerpop.gremlin.process.Traversal;
+import com.tinkerpop.gremlin.process.computer.DoubleMessenger;
 import com.tinkerpop.gremlin.process.computer.GraphComputer;
 import com.tinkerpop.gremlin.process.computer.MessageType;
 import com.tinkerpop.gremlin.process.computer.Messenger;
@@ -12,7 +13,6 @@ import com.tinkerpop.gremlin.process.graph.GraphTraversal;
 import com.tinkerpop.gremlin.structure.Edge;
 import com.tinkerpop.gremlin.structure.Graph;
 import com.tinkerpop.gremlin.structure.Vertex;
-import com.tinkerpop.gremlin.util.StreamFactory;
 import com.tinkerpop.gremlin.util.function.SSupplier;
 import org.apache.commons.configuration.Configuration;
 
@@ -81,19 +81,25 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
 
     }
 
+    @Override
+    public Class<Double> getMessageClass() {
+        return Double.class;
+    }
+
     @Override
     public void execute(final Vertex vertex, Messenger<Double> messenger, final SideEffects sideEffects) {
+        final DoubleMessenger doubleMessenger = DoubleMessenger.of(messenger);
         if (sideEffects.isInitialIteration()) {
             double initialPageRank = 1.0d / this.vertexCountAsDouble;
             double edgeCount = Double.valueOf((Long) this.messageType.edges(vertex).count().next());
             vertex.property(PAGE_RANK, initialPageRank);
             vertex.property(EDGE_COUNT, edgeCount);
-            messenger.sendMessage(this.messageType, initialPageRank / edgeCount);
+            doubleMessenger.sendDoubleMessage(this.messageType, initialPageRank / edgeCount);
         } else {
-            double newPageRank = StreamFactory.stream(messenger.receiveMessages(this.messageType)).reduce(0.0d, (a, b) -> a + b);
+            double newPageRank = doubleMessenger.receiveDoubleMessages(this.messageType).sum();
             newPageRank = (this.alpha * newPageRank) + ((1.0d - this.alpha) / this.vertexCountAsDouble);
             vertex.property(PAGE_RANK, newPageRank);
-            messenger.sendMessage(this.messageType, newPageRank / vertex.<Double>property(EDGE_COUNT).orElse(0.0d));
+            doubleMessenger.sendDoubleMessage(this.messageType, newPageRank / vertex.<Double>property(EDGE_COUNT).orElse(0.0d));
         }
     }
 
@@ -14,7 +14,6 @@ import com.tinkerpop.gremlin.structure.Element;
 import com.tinkerpop.gremlin.structure.Property;
 import com.tinkerpop.gremlin.structure.Vertex;
 import com.tinkerpop.gremlin.structure.util.detached.DetachedPath;
-import com.tinkerpop.gremlin.util.function.SSupplier;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -35,11 +34,9 @@ public class TraversalPathMessage extends TraversalMessage {
         return new TraversalPathMessage(traverser);
     }
 
-    public static boolean execute(final Vertex vertex, final Messenger messenger, final SSupplier<Traversal> traversalSupplier) {
+    public static boolean execute(final Vertex vertex, final Messenger messenger, final Traversal traversal) {
 
         final TraverserPathTracker tracker = vertex.value(TraversalVertexProgram.TRAVERSER_TRACKER);
-        final Traversal traversal = traversalSupplier.get();
-        traversal.strategies().apply();
 
         final AtomicBoolean voteToHalt = new AtomicBoolean(true);
         messenger.receiveMessages(MessageType.Global.of()).forEach(message -> {
@@ -21,6 +21,7 @@ import com.tinkerpop.gremlin.process.util.TraversalHelper;
 import com.tinkerpop.gremlin.structure.Edge;
 import com.tinkerpop.gremlin.structure.Graph;
 import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.util.Serializer;
 import com.tinkerpop.gremlin.util.function.SSupplier;
 import org.apache.commons.configuration.Configuration;
 
@@ -48,6 +49,8 @@ public class TraversalVertexProgram<M extends TraversalMessage> implements Verte
     public static final String TRAVERSER_TRACKER = Graph.Key.hide("gremlin.traverserTracker");
 
     private SSupplier<Traversal> traversalSupplier;
+    private byte[] compiledTraversal;
+    private transient ThreadLocal<Traversal> compiledTraversals;
     private Class<SSupplier<Traversal>> traversalSupplierClass = null;
     private boolean trackPaths = false;
     public List<MapReduce> mapReducers = new ArrayList<>();
@@ -71,6 +74,8 @@ public class TraversalVertexProgram<M extends TraversalMessage> implements Verte
 
             final Traversal traversal = this.traversalSupplier.get();
             traversal.strategies().apply();
+            this.compiledTraversal = Serializer.serializeObject(traversal);
+            this.compiledTraversals = this.createCompiledTraversals();
             this.trackPaths = TraversalHelper.trackPaths(traversal);
             traversal.getSteps().stream().filter(step -> step instanceof MapReducer).forEach(step -> {
                 final MapReduce mapReduce = ((MapReducer) step).getMapReduce();
@@ -115,8 +120,7 @@ public class TraversalVertexProgram<M extends TraversalMessage> implements Verte
     }
 
     private void executeFirstIteration(final Vertex vertex, final Messenger<M> messenger, final SideEffects sideEffects) {
-        final Traversal traversal = this.traversalSupplier.get();
-        traversal.strategies().apply();
+        final Traversal traversal = this.getCompiledTraversal();
         final GraphStep startStep = (GraphStep) traversal.getSteps().get(0);   // TODO: make this generic to Traversal
         final String future = (traversal.getSteps().size() == 1) ? Traverser.NO_FUTURE : ((Step) traversal.getSteps().get(1)).getAs();
         final AtomicBoolean voteToHalt = new AtomicBoolean(true);
@@ -143,19 +147,54 @@ public class TraversalVertexProgram<M extends TraversalMessage> implements Verte
             vertex.property(TRAVERSER_TRACKER, new TraverserCountTracker());
 
         sideEffects.and(VOTE_TO_HALT, voteToHalt.get());
+        // the start traversers are messages and as such, will reactivate the vertex
+        messenger.voteToHalt();
     }
 
     private void executeOtherIterations(final Vertex vertex, final Messenger<M> messenger, final SideEffects sideEffects) {
         if (this.trackPaths) {
-            sideEffects.and(VOTE_TO_HALT, TraversalPathMessage.execute(vertex, messenger, this.traversalSupplier));
-            vertex.<TraverserPathTracker>value(TRAVERSER_TRACKER).completeIteration();
+            sideEffects.and(VOTE_TO_HALT, TraversalPathMessage.execute(vertex, messenger, this.getCompiledTraversal()));
+            final TraverserPathTracker tracker = vertex.value(TRAVERSER_TRACKER);
+            tracker.completeIteration();
+            if (tracker.getPreviousObjectTracks().isEmpty())
+                messenger.voteToHalt();
         } else {
-            sideEffects.and(VOTE_TO_HALT, TraversalCounterMessage.execute(vertex, messenger, this.traversalSupplier));
-            vertex.<TraverserCountTracker>value(TRAVERSER_TRACKER).completeIteration();
+            sideEffects.and(VOTE_TO_HALT, TraversalCounterMessage.execute(vertex, messenger, this.getCompiledTraversal()));
+            final TraverserCountTracker tracker = vertex.value(TRAVERSER_TRACKER);
+            tracker.completeIteration();
+            if (tracker.getPreviousObjectTracks().isEmpty())
+                messenger.voteToHalt();
         }
 
     }
 
+    /**
+     * Get the compiled (strategy applied) traversal of the current worker thread. Each thread deserializes its own copy
+     * of the traversal compiled in {@link #loadState} and the steps of that copy are reset (not rebuilt) prior to
+     * being used for another vertex.
+     */
+    private Traversal getCompiledTraversal() {
+        if (null == this.compiledTraversals) {
+            synchronized (this) {
+                if (null == this.compiledTraversals)
+                    this.compiledTraversals = this.createCompiledTraversals();
+            }
+        }
+        final Traversal traversal = this.compiledTraversals.get();
+        traversal.reset();
+        return traversal;
+    }
+
+    private ThreadLocal<Traversal> createCompiledTraversals() {
+        return ThreadLocal.withInitial(() -> {
+            try {
+                return (Traversal) Serializer.deserializeObject(this.compiledTraversal);
+            } catch (final Exception e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        });
+    }
+
     @Override
     public boolean terminate(final SideEffects sideEffects) {
         final boolean voteToHalt = sideEffects.<Boolean>get(VOTE_TO_HALT).get();
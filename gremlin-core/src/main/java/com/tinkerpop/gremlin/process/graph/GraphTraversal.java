@@ -343,6 +343,10 @@ public interface GraphTraversal<S, E> extends Traversal<S, E> {
         return (GraphTraversal) this.addStep(new DedupStep<>(this, uniqueFunction));
     }
 
+    public default GraphTraversal<S, E> dedup(final long expectedSize, final double falsePositiveProbability) {
+        return (GraphTraversal) this.addStep(new DedupStep<E>(this).approximate(expectedSize, falsePositiveProbability));
+    }
+
     public default GraphTraversal<S, E> except(final String variable) {
         return (GraphTraversal) this.addStep(new ExceptStep<E>(this, variable));
     }
@@ -0,0 +1,10 @@
+package com.tinkerpop.gremlin.process.graph.marker;
+
+/**
+ * A {@link Coalescable} step buffers traversers and, if coalescing is enabled, merges equal buffered traversers into
+ * a single traverser with the summed bulk (see {@link com.tinkerpop.gremlin.process.util.TraverserSet}).
+ */
+public interface Coalescable {
+
+    public void setCoalesce(final boolean coalesce);
+}
@@ -1,32 +1,57 @@
 package com.tinkerpop.gremlin.process.graph.step.filter;
 
 import com.tinkerpop.gremlin.process.Traversal;
+import com.tinkerpop.gremlin.process.Traverser;
 import com.tinkerpop.gremlin.process.graph.marker.Reversible;
+import com.tinkerpop.gremlin.process.util.CompactSet;
 import com.tinkerpop.gremlin.util.function.SFunction;
 
-import java.util.LinkedHashSet;
-import java.util.Set;
-
 /**
+ * Filters objects that have been seen before. The seen objects are stored in a {@link CompactSet}, so elements cost
+ * their id and not a reference that keeps the element alive. For analytics queries that can tolerate dropping a small
+ * fraction of unique objects, the step can be made {@link #approximate}.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class DedupStep<S> extends FilterStep<S> implements Reversible {
 
     public boolean hasUniqueFunction;
+    private CompactSet uniqueSet = new CompactSet();
 
     public DedupStep(final Traversal traversal, final SFunction<S, ?> uniqueFunction) {
         super(traversal);
-        final Set<Object> set = new LinkedHashSet<>();
         if (null == uniqueFunction) {
             this.hasUniqueFunction = false;
-            this.setPredicate(traverser -> set.add(traverser.get()));
+            this.setPredicate(traverser -> this.unique(traverser, traverser.get()));
         } else {
             this.hasUniqueFunction = true;
-            this.setPredicate(traverser -> set.add(uniqueFunction.apply(traverser.get())));
+            this.setPredicate(traverser -> this.unique(traverser, uniqueFunction.apply(traverser.get())));
         }
     }
 
     public DedupStep(final Traversal traversal) {
         this(traversal, null);
     }
+
+    /**
+     * Store the seen objects in a Bloom filter sized for the expected number of unique objects. A unique object is
+     * filtered with the provided false positive probability.
+     */
+    public DedupStep<S> approximate(final long expectedSize, final double falsePositiveProbability) {
+        this.uniqueSet = new CompactSet(expectedSize, falsePositiveProbability);
+        return this;
+    }
+
+    private boolean unique(final Traverser<S> traverser, final Object object) {
+        if (this.uniqueSet.add(object)) {
+            traverser.setBulk(1l);
+            return true;
+        } else
+            return false;
+    }
+
+    public void reset() {
+        super.reset();
+        this.uniqueSet.clear();
+    }
 }
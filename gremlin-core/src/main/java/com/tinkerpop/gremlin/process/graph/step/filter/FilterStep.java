@@ -8,12 +8,15 @@ import com.tinkerpop.gremlin.process.util.FastNoSuchElementException;
 import com.tinkerpop.gremlin.process.util.TraversalHelper;
 import com.tinkerpop.gremlin.util.function.SPredicate;
 
+import java.util.NoSuchElementException;
+
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class FilterStep<S> extends AbstractStep<S, S> {
 
     public SPredicate<Traverser<S>> predicate;
+    private boolean batchable = false;
 
     public FilterStep(final Traversal traversal) {
         super(traversal);
@@ -23,6 +26,32 @@ public class FilterStep<S> extends AbstractStep<S, S> {
         this.predicate = predicate;
     }
 
+    public void setBatchSize(final int batchSize) {
+        super.setBatchSize(batchSize);
+        this.batchable = batchSize > 0 && !this.overridesProcessNextStart(FilterStep.class);
+    }
+
+    protected int processNextBatch(final Traverser<S>[] batch, int size) {
+        if (!this.batchable)
+            return super.processNextBatch(batch, size);
+        final String future = this.nextStep.getAs();
+        final boolean labeled = TraversalHelper.isLabeled(this.getAs());
+        try {
+            Traverser<S> traverser;
+            while (size < batch.length && null != (traverser = this.starts.poll())) {
+                if (this.predicate.test(traverser)) {
+                    if (labeled && traverser instanceof PathTraverser)
+                        traverser.getPath().renameLastStep(this.getAs());
+                    traverser.setFuture(future);
+                    batch[size++] = traverser;
+                }
+            }
+        } catch (final NoSuchElementException e) {
+            // the predicate has signaled that there are no more traversers (e.g. a range)
+        }
+        return size;
+    }
+
     protected Traverser<S> processNextStart() {
         while (true) {
             final Traverser<S> traverser = this.starts.next();
@@ -17,7 +17,17 @@ public class RandomStep<S> extends FilterStep<S> implements Reversible {
     public RandomStep(final Traversal traversal, final double probability) {
         super(traversal);
         this.probability = probability;
-        this.setPredicate(traverser -> this.probability >= this.random.nextDouble());
+        this.setPredicate(traverser -> {
+            if (traverser.getBulk() == 1l)
+                return this.probability >= this.random.nextDouble();
+            long bulk = 0l;
+            for (long i = 0; i < traverser.getBulk(); i++) {
+                if (this.probability >= this.random.nextDouble())
+                    bulk++;
+            }
+            traverser.setBulk(bulk);
+            return bulk > 0l;
+        });
     }
 
     public String toString() {
@@ -4,7 +4,7 @@ import com.tinkerpop.gremlin.process.Traversal;
 import com.tinkerpop.gremlin.process.util.FastNoSuchElementException;
 import com.tinkerpop.gremlin.process.util.TraversalHelper;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -14,6 +14,7 @@ public class RangeStep<S> extends FilterStep<S> {
     // TODO: May need to make AtomicInteger for the sake of adjustments in setPredicate
     public int low;
     public int high;
+    private final AtomicLong counter = new AtomicLong(-1l);
 
     public RangeStep(final Traversal traversal, final int low, final int high) {
         super(traversal);
@@ -23,18 +24,27 @@ public class RangeStep<S> extends FilterStep<S> {
         this.low = low;
         this.high = high;
 
-        final AtomicInteger counter = new AtomicInteger(-1);
         this.setPredicate(traverser -> {
-            counter.incrementAndGet();
-            if ((this.low == -1 || counter.get() >= this.low) && (this.high == -1 || counter.get() <= this.high))
+            // a traverser with a bulk occupies the positions [first, last] of the range
+            final long first = this.counter.get() + 1l;
+            final long last = this.counter.addAndGet(traverser.getBulk());
+            final long from = this.low == -1 ? first : Math.max(first, this.low);
+            final long to = this.high == -1 ? last : Math.min(last, this.high);
+            if (from <= to) {
+                traverser.setBulk(to - from + 1l);
                 return true;
-            else if (this.high != -1 && counter.get() > this.high)
+            } else if (this.high != -1 && first > this.high)
                 throw FastNoSuchElementException.instance();
             else
                 return false;
         });
     }
 
+    public void reset() {
+        super.reset();
+        this.counter.set(-1l);
+    }
+
     public String toString() {
         return TraversalHelper.makeStepString(this, this.low, this.high);
     }
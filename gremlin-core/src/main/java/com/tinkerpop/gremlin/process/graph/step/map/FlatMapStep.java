@@ -15,6 +15,7 @@ public class FlatMapStep<S, E> extends AbstractStep<S, E> {
 
     public SFunction<Traverser<S>, Iterator<E>> function;
     protected Iterator<Traverser<E>> iterator = null;
+    private boolean batchable = false;
 
     public FlatMapStep(final Traversal traversal) {
         super(traversal);
@@ -24,6 +25,37 @@ public class FlatMapStep<S, E> extends AbstractStep<S, E> {
         this.function = function;
     }
 
+    public void reset() {
+        super.reset();
+        this.iterator = null;
+    }
+
+    public void setBatchSize(final int batchSize) {
+        super.setBatchSize(batchSize);
+        this.batchable = batchSize > 0 && !this.overridesProcessNextStart(FlatMapStep.class);
+    }
+
+    protected int processNextBatch(final Traverser<E>[] batch, int size) {
+        if (!this.batchable)
+            return super.processNextBatch(batch, size);
+        final String future = this.nextStep.getAs();
+        while (size < batch.length) {
+            if (null != this.iterator && this.iterator.hasNext()) {
+                final Traverser<E> traverser = this.iterator.next();
+                traverser.setFuture(future);
+                batch[size++] = traverser;
+            } else {
+                final Traverser<S> traverser = this.starts.poll();
+                if (null == traverser) {
+                    this.iterator = null;
+                    break;
+                }
+                this.iterator = new FlatMapHolderIterator<>(traverser, this, this.function.apply(traverser));
+            }
+        }
+        return size;
+    }
+
     protected Traverser<E> processNextStart() {
         while (true) {
             final Traverser<E> traverser = this.getNext();
@@ -1,6 +1,7 @@
 package com.tinkerpop.gremlin.process.graph.step.map;
 
 import com.tinkerpop.gremlin.process.Traversal;
+import com.tinkerpop.gremlin.process.Traverser;
 import com.tinkerpop.gremlin.util.function.SBiFunction;
 
 import java.util.ArrayList;
@@ -13,16 +14,17 @@ import java.util.concurrent.atomic.AtomicReference;
 public class FoldStep<S, E> extends MapStep<S, E> {
 
     private final AtomicReference<E> seed;
+    private final E initialSeed;
     public SBiFunction<E, S, E> foldFunction;
 
     public FoldStep(final Traversal traversal) {
         super(traversal);
         this.seed = null;
+        this.initialSeed = null;
         this.setFunction(traverser -> {
             final List<S> list = new ArrayList<>();
-            final S s = traverser.get();
-            list.add(s);
-            this.starts.forEachRemaining(t -> list.add(t.get()));
+            FoldStep.addBulk(traverser, list);
+            this.starts.forEachRemaining(t -> FoldStep.addBulk(t, list));
             return (E) list;
         });
     }
@@ -30,11 +32,30 @@ public class FoldStep<S, E> extends MapStep<S, E> {
     public FoldStep(final Traversal traversal, final E seed, final SBiFunction<E, S, E> foldFunction) {
         super(traversal);
         this.seed = new AtomicReference<>(seed);
+        this.initialSeed = seed;
         this.foldFunction = foldFunction;
         this.setFunction(traverser -> {
-            this.seed.set(this.foldFunction.apply(this.seed.get(), traverser.get()));
-            this.starts.forEachRemaining(previousTraverser -> this.seed.set(this.foldFunction.apply(this.seed.get(), previousTraverser.get())));
+            this.fold(traverser);
+            this.starts.forEachRemaining(this::fold);
             return (E) this.seed.get();
         });
     }
+
+    private void fold(final Traverser<S> traverser) {
+        for (long i = 0; i < traverser.getBulk(); i++) {
+            this.seed.set(this.foldFunction.apply(this.seed.get(), traverser.get()));
+        }
+    }
+
+    private static <S> void addBulk(final Traverser<S> traverser, final List<S> list) {
+        for (long i = 0; i < traverser.getBulk(); i++) {
+            list.add(traverser.get());
+        }
+    }
+
+    public void reset() {
+        super.reset();
+        if (null != this.seed)
+            this.seed.set(this.initialSeed);
+    }
 }
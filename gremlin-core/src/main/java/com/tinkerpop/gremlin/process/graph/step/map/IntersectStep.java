@@ -22,6 +22,13 @@ public class IntersectStep<S, E> extends AbstractStep<S, E> {
         this.traversalRing = new TraversalRing<>(traversals);
     }
 
+    public void reset() {
+        super.reset();
+        this.drainState = false;
+        this.traversalRing.reset();
+        this.traversalRing.forEach(Traversal::reset);
+    }
+
     protected Traverser<E> processNextStart() {
         while (true) {
             if (this.drainState) {
@@ -3,15 +3,17 @@ package com.tinkerpop.gremlin.process.graph.step.map;
 import com.tinkerpop.gremlin.process.Step;
 import com.tinkerpop.gremlin.process.Traversal;
 import com.tinkerpop.gremlin.process.Traverser;
+import com.tinkerpop.gremlin.process.graph.marker.Coalescable;
 import com.tinkerpop.gremlin.process.util.AbstractStep;
 import com.tinkerpop.gremlin.process.util.SingleIterator;
 import com.tinkerpop.gremlin.process.util.TraversalHelper;
+import com.tinkerpop.gremlin.process.util.TraverserSet;
 import com.tinkerpop.gremlin.util.function.SPredicate;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public class JumpStep<S> extends AbstractStep<S, S> {
+public class JumpStep<S> extends AbstractStep<S, S> implements Coalescable {
 
     public final String jumpAs;
     public Step jumpToStep;
@@ -19,6 +21,8 @@ public class JumpStep<S> extends AbstractStep<S, S> {
     public final SPredicate<Traverser<S>> emitPredicate;
     public final int loops;
     private final boolean jumpBack;
+    private boolean coalesce = false;
+    private TraverserSet<S> loopTraversers = new TraverserSet<>();
 
     public JumpStep(final Traversal traversal, final String jumpAs, final SPredicate<Traverser<S>> ifPredicate, final SPredicate<Traverser<S>> emitPredicate) {
         super(traversal);
@@ -60,7 +64,13 @@ public class JumpStep<S> extends AbstractStep<S, S> {
             if (this.jumpBack) traverser.incrLoops();
             if (doJump(traverser)) {
                 traverser.setFuture(this.jumpAs);
-                this.jumpToStep.addStarts(new SingleIterator(traverser));
+                if (this.coalesce) {
+                    // the looped traversers are coalesced while they wait to be pulled back into the loop
+                    if (this.loopTraversers.isEmpty())
+                        this.jumpToStep.addStarts(this.loopTraversers.drain());
+                    this.loopTraversers.add(traverser);
+                } else
+                    this.jumpToStep.addStarts(new SingleIterator(traverser));
                 if (this.emitPredicate != null && this.emitPredicate.test(traverser)) {
                     final Traverser<S> emitTraverser = traverser.makeSibling();
                     if (this.jumpBack) emitTraverser.resetLoops();
@@ -73,6 +83,15 @@ public class JumpStep<S> extends AbstractStep<S, S> {
         }
     }
 
+    public void setCoalesce(final boolean coalesce) {
+        this.coalesce = coalesce;
+    }
+
+    public void reset() {
+        super.reset();
+        this.loopTraversers.clear();
+    }
+
     public boolean unRollable() {
         return this.loops != -1 && null == this.emitPredicate;
     }
@@ -81,6 +100,12 @@ public class JumpStep<S> extends AbstractStep<S, S> {
         return null == this.ifPredicate ? traverser.getLoops() < this.loops : this.ifPredicate.test(traverser);
     }
 
+    public Object clone() throws CloneNotSupportedException {
+        final JumpStep<S> step = (JumpStep<S>) super.clone();
+        step.loopTraversers = new TraverserSet<>();
+        return step;
+    }
+
     public String toString() {
         return this.loops != -1 ? TraversalHelper.makeStepString(this, this.jumpAs, this.loops) : TraversalHelper.makeStepString(this, this.jumpAs);
     }
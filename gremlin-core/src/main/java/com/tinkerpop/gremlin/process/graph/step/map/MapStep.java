@@ -7,17 +7,53 @@ import com.tinkerpop.gremlin.process.util.AbstractStep;
 import com.tinkerpop.gremlin.process.util.TraversalHelper;
 import com.tinkerpop.gremlin.util.function.SFunction;
 
+import java.util.NoSuchElementException;
+
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class MapStep<S, E> extends AbstractStep<S, E> {
 
     public SFunction<Traverser<S>, E> function;
+    private boolean batchable = false;
 
     public MapStep(final Traversal traversal) {
         super(traversal);
     }
 
+    public void setBatchSize(final int batchSize) {
+        super.setBatchSize(batchSize);
+        this.batchable = batchSize > 0 && !this.overridesProcessNextStart(MapStep.class);
+    }
+
+    protected int processNextBatch(final Traverser<E>[] batch, int size) {
+        if (!this.batchable)
+            return super.processNextBatch(batch, size);
+        final String future = this.nextStep.getAs();
+        final boolean labeled = TraversalHelper.isLabeled(this);
+        try {
+            Traverser<S> traverser;
+            while (size < batch.length && null != (traverser = this.starts.poll())) {
+                final E newObject = this.function.apply(traverser);
+                if (NO_OBJECT != newObject) {
+                    final Traverser<E> end;
+                    final S oldObject = traverser.get();
+                    if (oldObject.getClass().equals(newObject.getClass()) && oldObject.equals(newObject)) {
+                        if (labeled && traverser instanceof PathTraverser)
+                            traverser.getPath().renameLastStep(this.getAs());
+                        end = (Traverser<E>) traverser;
+                    } else
+                        end = traverser.makeChild(this.getAs(), newObject);
+                    end.setFuture(future);
+                    batch[size++] = end;
+                }
+            }
+        } catch (final NoSuchElementException e) {
+            // the function has signaled that there are no more traversers
+        }
+        return size;
+    }
+
     protected Traverser<E> processNextStart() {
         while (true) {
             final Traverser<S> traverser = this.starts.next();
@@ -2,30 +2,98 @@ package com.tinkerpop.gremlin.process.graph.step.map;
 
 import com.tinkerpop.gremlin.process.Traversal;
 import com.tinkerpop.gremlin.process.Traverser;
+import com.tinkerpop.gremlin.process.graph.marker.Coalescable;
 import com.tinkerpop.gremlin.process.graph.marker.Reversible;
-import com.tinkerpop.gremlin.process.util.UnTraverserIterator;
+import com.tinkerpop.gremlin.process.util.TraverserSet;
+import org.javatuples.Pair;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 
 /**
+ * Sorts all the traversers by the comparator. If the order is limited (e.g. by a following {@code range()}), only the
+ * first traversers whose bulks add up to the limit are kept in a bounded heap while the traversers are drained.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public class OrderStep<S> extends FlatMapStep<S, S> implements Reversible {
+public class OrderStep<S> extends FlatMapStep<S, S> implements Reversible, Coalescable {
 
     public Comparator<Traverser<S>> comparator;
+    private boolean coalesce = false;
+    private long limit = -1l;
 
     public OrderStep(final Traversal traversal, final Comparator<Traverser<S>> comparator) {
         super(traversal);
         this.comparator = comparator;
-        this.setFunction(traverser -> {
-            final List<Traverser<S>> list = new ArrayList<>();
-            list.add(traverser);
-            this.starts.forEachRemaining(list::add);
-            Collections.sort(list, this.comparator);
-            return new UnTraverserIterator<>(list.iterator());
-        });
+    }
+
+    public void setCoalesce(final boolean coalesce) {
+        this.coalesce = coalesce;
+    }
+
+    /**
+     * Only keep the first traversers whose bulks add up to the limit.
+     */
+    public void setLimit(final long limit) {
+        this.limit = limit;
+    }
+
+    protected Traverser<S> processNextStart() {
+        if (null == this.iterator || !this.iterator.hasNext()) {
+            if (this.limit >= 0) {
+                this.iterator = this.top().iterator();
+            } else {
+                final List<Traverser<S>> list = new ArrayList<>();
+                if (this.coalesce) {
+                    final TraverserSet<S> traverserSet = new TraverserSet<>();
+                    traverserSet.add(this.starts.next());
+                    this.starts.forEachRemaining(traverserSet::add);
+                    traverserSet.iterator().forEachRemaining(list::add);
+                } else {
+                    list.add(this.starts.next());
+                    this.starts.forEachRemaining(list::add);
+                }
+                // a stable sort that is done in parallel for large arrays
+                final Traverser<S>[] array = list.toArray(new Traverser[list.size()]);
+                Arrays.parallelSort(array, this.comparator);
+                this.iterator = Arrays.asList(array).iterator();
+            }
+        }
+        final Traverser<S> traverser = this.iterator.next();
+        return traverser.makeChild(this.getAs(), traverser.get());
+    }
+
+    /**
+     * The traversers are not coalesced as the heap bounds the number of traversers. The arrival index of a traverser
+     * breaks the ties of the comparator so the result is the same as that of a stable sort.
+     */
+    private List<Traverser<S>> top() {
+        final Comparator<Pair<Traverser<S>, Long>> comparator = (a, b) -> {
+            final int compare = this.comparator.compare(a.getValue0(), b.getValue0());
+            return 0 != compare ? compare : Long.compare(a.getValue1(), b.getValue1());
+        };
+        // the last traverser in the order is at the head of the heap
+        final PriorityQueue<Pair<Traverser<S>, Long>> heap = new PriorityQueue<>(11, comparator.reversed());
+        long bulk = 0l;
+        long index = 0l;
+        Traverser<S> traverser = this.starts.next();
+        while (true) {
+            heap.add(Pair.with(traverser, index++));
+            bulk = bulk + traverser.getBulk();
+            while (bulk - heap.peek().getValue0().getBulk() >= this.limit) {
+                bulk = bulk - heap.poll().getValue0().getBulk();
+            }
+            if (!this.starts.hasNext())
+                break;
+            traverser = this.starts.next();
+        }
+        final List<Pair<Traverser<S>, Long>> list = new ArrayList<>(heap);
+        list.sort(comparator);
+        final List<Traverser<S>> traversers = new ArrayList<>(list.size());
+        list.forEach(pair -> traversers.add(pair.getValue0()));
+        return traversers;
     }
 }
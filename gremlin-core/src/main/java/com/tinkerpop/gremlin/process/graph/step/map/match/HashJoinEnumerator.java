@@ -0,0 +1,90 @@
+package com.tinkerpop.gremlin.process.graph.step.map.match;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * An Enumerator which joins the solutions of two Enumerators according to repeated variables.
+ * The solutions of the right Enumerator are computed when the join is created and are hashed by their values of the
+ * join variables. The solutions of the left Enumerator are then computed as needed and matched against the hash table.
+ * <p>
+ * Note: unlike the nested loop of a {@link CrossJoinEnumerator} and an {@link InnerJoinEnumerator}, this Enumerator
+ * computes each solution of its base Enumerators once, but it is not lazy in its right Enumerator
+ */
+public class HashJoinEnumerator<T> implements Enumerator<T> {
+    private final Enumerator<T> leftEnumerator;
+    private final List<String> joinVariables;
+    private final Map<List<T>, List<Map<String, T>>> rightSolutions = new HashMap<>();
+    private final List<Map<String, T>> solutions = new ArrayList<>();
+
+    private int leftIndex = 0;
+    private boolean leftComplete = false;
+
+    public HashJoinEnumerator(final Enumerator<T> leftEnumerator,
+                              final Enumerator<T> rightEnumerator,
+                              final Set<String> joinVariables) {
+        this.leftEnumerator = leftEnumerator;
+        this.joinVariables = new ArrayList<>(joinVariables);
+
+        for (int i = 0; ; i++) {
+            final Map<String, T> map = new HashMap<>();
+            if (!rightEnumerator.visitSolution(i, map::put)) {
+                break;
+            }
+            this.rightSolutions.computeIfAbsent(key(map), k -> new ArrayList<>()).add(map);
+        }
+    }
+
+    public int size() {
+        return solutions.size();
+    }
+
+    public boolean isComplete() {
+        return leftComplete || leftEnumerator.isComplete() && leftIndex >= leftEnumerator.size();
+    }
+
+    public boolean visitSolution(final int index,
+                                 final BiConsumer<String, T> visitor) {
+        while (index >= solutions.size()) {
+            if (leftComplete || !advance()) {
+                return false;
+            }
+        }
+
+        for (Map.Entry<String, T> entry : solutions.get(index).entrySet()) {
+            visitor.accept(entry.getKey(), entry.getValue());
+        }
+
+        return true;
+    }
+
+    // joins the next solution of the left Enumerator with the matching solutions of the right Enumerator
+    private boolean advance() {
+        final Map<String, T> map = new HashMap<>();
+        if (!leftEnumerator.visitSolution(leftIndex++, map::put)) {
+            leftComplete = true;
+            return false;
+        }
+
+        for (Map<String, T> right : rightSolutions.getOrDefault(key(map), Collections.emptyList())) {
+            final Map<String, T> solution = new HashMap<>(map);
+            solution.putAll(right);
+            solutions.add(solution);
+        }
+
+        return true;
+    }
+
+    private List<T> key(final Map<String, T> map) {
+        final List<T> key = new ArrayList<>(joinVariables.size());
+        for (String variable : joinVariables) {
+            key.add(map.get(variable));
+        }
+        return key;
+    }
+}
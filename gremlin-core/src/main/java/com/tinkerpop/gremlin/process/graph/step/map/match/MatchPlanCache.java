@@ -0,0 +1,75 @@
+package com.tinkerpop.gremlin.process.graph.step.map.match;
+
+import com.tinkerpop.gremlin.structure.Graph;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The branch factors that the {@link MatchStep}s of a graph observed, by the signature of their match query. A
+ * {@link MatchPlanCache} belongs to a single graph. As the branch factors are only valid for a graph of about the same
+ * shape, an entry expires once the number of vertices or edges of the graph has changed by more than half since the
+ * branch factors were observed. The least recently used entries are evicted when the cache is full.
+ */
+public class MatchPlanCache {
+
+    public static final int DEFAULT_SIZE = 1000;
+
+    // the relative change in the number of vertices or edges that expires an entry
+    private static final double MAXIMUM_DRIFT = 0.5d;
+
+    private final Map<String, Entry> entries;
+
+    public MatchPlanCache() {
+        this(DEFAULT_SIZE);
+    }
+
+    public MatchPlanCache(final int maximumSize) {
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+                return size() > maximumSize;
+            }
+        });
+    }
+
+    /**
+     * @return the branch factors of the traversals of the match query by their signature or {@code null} if none were
+     * cached or the graph has changed too much since they were observed
+     */
+    public Map<String, Double> get(final String signature, final Graph.Statistics statistics) {
+        final Entry entry = this.entries.get(signature);
+        if (null == entry)
+            return null;
+        if (drifted(entry.vertexCount, statistics.vertexCount()) || drifted(entry.edgeCount, statistics.edgeCount())) {
+            this.entries.remove(signature, entry);
+            return null;
+        }
+        return entry.branchFactors;
+    }
+
+    public void put(final String signature, final Map<String, Double> branchFactors, final Graph.Statistics statistics) {
+        this.entries.put(signature, new Entry(branchFactors, statistics.vertexCount(), statistics.edgeCount()));
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    private static boolean drifted(final long count, final long currentCount) {
+        return Math.abs(currentCount - count) > MAXIMUM_DRIFT * Math.max(1l, count);
+    }
+
+    private static final class Entry {
+        private final Map<String, Double> branchFactors;
+        private final long vertexCount;
+        private final long edgeCount;
+
+        private Entry(final Map<String, Double> branchFactors, final long vertexCount, final long edgeCount) {
+            this.branchFactors = branchFactors;
+            this.vertexCount = vertexCount;
+            this.edgeCount = edgeCount;
+        }
+    }
+}
@@ -3,12 +3,24 @@ package com.tinkerpop.gremlin.process.graph.step.map.match;
 import com.tinkerpop.gremlin.process.SimpleTraverser;
 import com.tinkerpop.gremlin.process.Traversal;
 import com.tinkerpop.gremlin.process.Traverser;
+import com.tinkerpop.gremlin.process.graph.step.filter.HasStep;
+import com.tinkerpop.gremlin.process.graph.step.filter.IdentityStep;
+import com.tinkerpop.gremlin.process.graph.step.map.EdgeVertexStep;
+import com.tinkerpop.gremlin.process.graph.step.map.StartStep;
+import com.tinkerpop.gremlin.process.graph.step.map.VertexStep;
 import com.tinkerpop.gremlin.process.util.AbstractStep;
 import com.tinkerpop.gremlin.process.util.FastNoSuchElementException;
 import com.tinkerpop.gremlin.process.util.SingleIterator;
 import com.tinkerpop.gremlin.process.util.TraversalHelper;
+import com.tinkerpop.gremlin.structure.Compare;
+import com.tinkerpop.gremlin.structure.Contains;
+import com.tinkerpop.gremlin.structure.Direction;
+import com.tinkerpop.gremlin.structure.Graph;
+import com.tinkerpop.gremlin.structure.util.HasContainer;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -36,6 +48,18 @@ public class MatchStep<S, E> extends AbstractStep<S, Map<String, E>> {
     // optimize before processing each start object, by default
     private static final int DEFAULT_STARTS_PER_OPTIMIZE = 1;
 
+    // the number of inputs that the estimated branch factor of a traversal weighs as against its observed branch factor
+    private static final int ESTIMATE_WEIGHT = 10;
+
+    // the estimated selectivity of a has() whose cardinality is not known from the statistics
+    private static final double DEFAULT_SELECTIVITY = 0.1;
+
+    // a join on shared labels is a hash join if its right side is expected to have at most this many solutions
+    private static final double HASH_JOIN_THRESHOLD = 1000;
+
+    // the weight of a cached branch factor against the branch factor estimated from the current statistics
+    private static final double CACHED_WEIGHT = 0.75;
+
     private final String startAs;
     private final Map<String, List<TraversalWrapper<S, S>>> traversalsByStartAs;
 
@@ -43,6 +67,12 @@ public class MatchStep<S, E> extends AbstractStep<S, Map<String, E>> {
     private int optimizeCounter = -1;
     private int anonLabelCounter = 0;
 
+    // set when the query is planned with the statistics of a graph
+    private boolean planned = false;
+    private transient Graph.Statistics statistics = null;
+    private transient MatchPlanCache planCache = null;
+    private String signature = null;
+
     private Enumerator<S> currentSolution;
     private int currentIndex;
 
@@ -86,6 +116,7 @@ public class MatchStep<S, E> extends AbstractStep<S, Map<String, E>> {
                     this.currentSolution = solveFor(new SingleIterator<>(this.currentStart.get()));
                     this.currentIndex = 0;
                 } else {
+                    cachePlan();
                     throw FastNoSuchElementException.instance();
                 }
             }
@@ -235,7 +266,7 @@ public class MatchStep<S, E> extends AbstractStep<S, Map<String, E>> {
                     Set<String> rightLabels = new HashSet<>();
                     addVariables(w.endAs, rightLabels);
                     Enumerator<S> ie = solveFor(w.endAs, updater);
-                    result = null == result ? ie : crossJoin(result, ie, leftLabels, rightLabels);
+                    result = null == result ? ie : join(result, ie, leftLabels, rightLabels, w.hashJoin);
                     leftLabels.addAll(rightLabels);
                 }
 
@@ -244,10 +275,11 @@ public class MatchStep<S, E> extends AbstractStep<S, Map<String, E>> {
         }
     }
 
-    private <T> Enumerator<T> crossJoin(final Enumerator<T> left,
-                                        final Enumerator<T> right,
-                                        final Set<String> leftLabels,
-                                        final Set<String> rightLabels) {
+    private <T> Enumerator<T> join(final Enumerator<T> left,
+                                   final Enumerator<T> right,
+                                   final Set<String> leftLabels,
+                                   final Set<String> rightLabels,
+                                   final boolean hashJoin) {
         Set<String> shared = new HashSet<>();
         for (String s : rightLabels) {
             if (leftLabels.contains(s)) {
@@ -255,6 +287,10 @@ public class MatchStep<S, E> extends AbstractStep<S, Map<String, E>> {
             }
         }
 
+        if (hashJoin && shared.size() > 0) {
+            return new HashJoinEnumerator<>(left, right, shared);
+        }
+
         Enumerator<T> cj = new CrossJoinEnumerator<>(left, right);
         return shared.size() > 0 ? new InnerJoinEnumerator<>(cj, shared) : cj;
     }
@@ -302,9 +338,100 @@ public class MatchStep<S, E> extends AbstractStep<S, Map<String, E>> {
                 updateOrderingFactor(t);
             }
             Collections.sort(outs);
+            // the first traversal is the left side of all joins
+            for (TraversalWrapper<S, S> t : outs) {
+                t.hashJoin = this.planned && t != outs.get(0) && findCardinality(t) <= HASH_JOIN_THRESHOLD;
+            }
         }
     }
 
+    // the expected number of solutions of the branch of the query plan at the traversal for one start value
+    private double findCardinality(final TraversalWrapper<S, S> root) {
+        double cardinality = root.findBranchFactor();
+        List<TraversalWrapper<S, S>> outs = traversalsByStartAs.get(root.endAs);
+        if (null != outs) {
+            for (TraversalWrapper<S, S> child : outs) {
+                cardinality *= findCardinality(child);
+            }
+        }
+        return cardinality;
+    }
+
+    /**
+     * Plans this match query with the cardinality statistics of a graph.
+     * Until a traversal has been given enough inputs, its branch factor is weighed against an estimate, so that the query plan
+     * does not depend on the first start values.
+     * The estimate is made from the statistics (the average degree of the vertices for the traversed labels and the selectivity
+     * of has() steps) and is blended with the branch factor observed by an earlier query with the same traversals on the same
+     * graph, if one is cached. Queries with traversals that can not be told apart by their steps (e.g. lambdas) are not cached.
+     * Once planned, joins on shared labels whose right side is expected to be small are hash joins instead of nested loops.
+     *
+     * @param statistics the statistics of the graph which the query is applied to
+     * @param planCache  the branch factors observed by earlier queries on the graph (or null to not cache)
+     */
+    public void plan(final Graph.Statistics statistics, final MatchPlanCache planCache) {
+        this.planned = true;
+        this.statistics = statistics;
+        this.planCache = planCache;
+
+        // the signatures are taken before the strategies of the traversals change their steps
+        final List<String> signatures = new ArrayList<>();
+        for (List<TraversalWrapper<S, S>> outs : this.traversalsByStartAs.values()) {
+            for (TraversalWrapper<S, S> w : outs) {
+                w.signature = w.describe();
+                signatures.add(w.signature);
+            }
+        }
+        this.signature = null == planCache || signatures.contains(null) ? null : this.startAs + sort(signatures);
+
+        final Map<String, Double> cached = null == this.signature ? null : planCache.get(this.signature, statistics);
+        for (List<TraversalWrapper<S, S>> outs : this.traversalsByStartAs.values()) {
+            for (TraversalWrapper<S, S> w : outs) {
+                final double estimate = estimateBranchFactor(w.traversal, statistics);
+                final Double branchFactor = null == cached ? null : cached.get(w.signature);
+                w.estimatedBranchFactor = null == branchFactor ? estimate : CACHED_WEIGHT * branchFactor + (1 - CACHED_WEIGHT) * estimate;
+            }
+        }
+    }
+
+    private static List<String> sort(final List<String> signatures) {
+        Collections.sort(signatures);
+        return signatures;
+    }
+
+    private void cachePlan() {
+        if (null == this.signature)
+            return;
+        final Map<String, Double> branchFactors = new HashMap<>();
+        for (List<TraversalWrapper<S, S>> outs : this.traversalsByStartAs.values()) {
+            for (TraversalWrapper<S, S> w : outs) {
+                branchFactors.put(w.signature, w.findBranchFactor());
+            }
+        }
+        this.planCache.put(this.signature, branchFactors, this.statistics);
+    }
+
+    private static double estimateBranchFactor(final Traversal traversal,
+                                               final Graph.Statistics statistics) {
+        final double vertexCount = Math.max(1, statistics.vertexCount());
+        double branchFactor = 1.0;
+        for (Object step : traversal.getSteps()) {
+            if (step instanceof VertexStep) {
+                final VertexStep vertexStep = (VertexStep) step;
+                double degree = statistics.edgeCount(vertexStep.labels) / vertexCount;
+                if (Direction.BOTH.equals(vertexStep.direction)) {
+                    degree *= 2;
+                }
+                branchFactor *= Math.min(degree, vertexStep.branchFactor);
+            } else if (step instanceof HasStep) {
+                final HasContainer hasContainer = ((HasStep) step).hasContainer;
+                final long count = Compare.EQUAL.equals(hasContainer.predicate) ? statistics.vertexCount(hasContainer.key, hasContainer.value) : -1;
+                branchFactor *= count < 0 ? DEFAULT_SELECTIVITY : Math.min(1.0, count / vertexCount);
+            }
+        }
+        return branchFactor;
+    }
+
     private double findCost(final TraversalWrapper<S, S> root) {
         double bf = root.findBranchFactor();
         return bf + findCost(root.endAs, root.findBranchFactor());
@@ -355,6 +482,9 @@ public class MatchStep<S, E> extends AbstractStep<S, Map<String, E>> {
         private int totalInputs = 0;
         private int totalOutputs = 0;
         private double orderingFactor;
+        private double estimatedBranchFactor = Double.NaN;
+        private boolean hashJoin = false;
+        private String signature = null;
 
         public TraversalWrapper(final Traversal<A, B> traversal,
                                 final String startAs,
@@ -374,9 +504,36 @@ public class MatchStep<S, E> extends AbstractStep<S, Map<String, E>> {
 
         // TODO: take variance into account, to avoid penalizing traversals for early encounters with super-inputs, or simply for never having been tried
         public double findBranchFactor() {
+            if (!Double.isNaN(this.estimatedBranchFactor)) {
+                return (this.totalOutputs + ESTIMATE_WEIGHT * this.estimatedBranchFactor) / (this.totalInputs + ESTIMATE_WEIGHT);
+            }
             return 0 == this.totalInputs ? 1 : this.totalOutputs / ((double) this.totalInputs);
         }
 
+        // identifies the traversal among the traversals of equal match queries or null if a step can not be identified
+        private String describe() {
+            final StringBuilder sb = new StringBuilder(this.startAs).append("->").append(this.endAs).append(":");
+            for (Object step : this.traversal.getSteps()) {
+                if (step instanceof VertexStep && VertexStep.class.equals(step.getClass())) {
+                    final VertexStep vertexStep = (VertexStep) step;
+                    sb.append(step).append(Arrays.toString(vertexStep.labels)).append(vertexStep.branchFactor);
+                } else if (step instanceof HasStep && HasStep.class.equals(step.getClass())) {
+                    final HasContainer hasContainer = ((HasStep) step).hasContainer;
+                    // a lambda predicate can not be identified
+                    if (!(hasContainer.predicate instanceof Compare) && !(hasContainer.predicate instanceof Contains))
+                        return null;
+                    sb.append(step).append(null == hasContainer.value ? "" : hasContainer.value.getClass().getName());
+                } else if (IdentityStep.class.equals(step.getClass()) || EdgeVertexStep.class.equals(step.getClass())
+                        || (StartStep.class.equals(step.getClass()) && null == ((StartStep) step).start)) {
+                    sb.append(step);
+                } else {
+                    // other steps may hold lambdas, which can not be told apart by their toString()
+                    return null;
+                }
+            }
+            return sb.toString();
+        }
+
         public int compareTo(final TraversalWrapper<A, B> other) {
             return ((Double) this.orderingFactor).compareTo(other.orderingFactor);
         }
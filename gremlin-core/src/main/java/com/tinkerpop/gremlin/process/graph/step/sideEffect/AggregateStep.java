@@ -4,6 +4,7 @@ import com.tinkerpop.gremlin.process.Traversal;
 import com.tinkerpop.gremlin.process.Traverser;
 import com.tinkerpop.gremlin.process.computer.MapReduce;
 import com.tinkerpop.gremlin.process.graph.marker.Bulkable;
+import com.tinkerpop.gremlin.process.graph.marker.Coalescable;
 import com.tinkerpop.gremlin.process.graph.marker.MapReducer;
 import com.tinkerpop.gremlin.process.graph.marker.Reversible;
 import com.tinkerpop.gremlin.process.graph.marker.SideEffectCapable;
@@ -11,6 +12,7 @@ import com.tinkerpop.gremlin.process.graph.marker.VertexCentric;
 import com.tinkerpop.gremlin.process.graph.step.sideEffect.mapreduce.AggregateMapReduce;
 import com.tinkerpop.gremlin.process.util.AbstractStep;
 import com.tinkerpop.gremlin.process.util.FastNoSuchElementException;
+import com.tinkerpop.gremlin.process.util.TraverserSet;
 import com.tinkerpop.gremlin.structure.Graph;
 import com.tinkerpop.gremlin.structure.Vertex;
 import com.tinkerpop.gremlin.util.function.SFunction;
@@ -24,12 +26,14 @@ import java.util.Queue;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public class AggregateStep<S> extends AbstractStep<S, S> implements SideEffectCapable, Reversible, Bulkable, VertexCentric, MapReducer<MapReduce.NullObject, Object, MapReduce.NullObject, Object, List<Object>> {
+public class AggregateStep<S> extends AbstractStep<S, S> implements SideEffectCapable, Reversible, Bulkable, Coalescable, VertexCentric, MapReducer<MapReduce.NullObject, Object, MapReduce.NullObject, Object, List<Object>> {
 
     public final SFunction<S, ?> preAggregateFunction;
     Collection aggregate;
     final Queue<Traverser<S>> aggregateTraversers = new LinkedList<>();
+    final TraverserSet<S> coalescedTraversers = new TraverserSet<>();
     private long bulkCount = 1l;
+    private boolean coalesce = false;
 
     public AggregateStep(final Traversal traversal, final SFunction<S, ?> preAggregateFunction) {
         super(traversal);
@@ -45,6 +49,10 @@ public class AggregateStep<S> extends AbstractStep<S, S> implements SideEffectCa
         this.bulkCount = bulkCount;
     }
 
+    public void setCoalesce(final boolean coalesce) {
+        this.coalesce = coalesce;
+    }
+
     @Override
     public void setAs(final String as) {
         this.traversal.memory().move(this.getAs(), as, ArrayList::new);
@@ -58,6 +66,12 @@ public class AggregateStep<S> extends AbstractStep<S, S> implements SideEffectCa
             vertex.property(hiddenAs, this.aggregate);
     }
 
+    public void reset() {
+        super.reset();
+        this.aggregateTraversers.clear();
+        this.coalescedTraversers.clear();
+    }
+
     public MapReduce<MapReduce.NullObject, Object, MapReduce.NullObject, Object, List<Object>> getMapReduce() {
         return new AggregateMapReduce(this);
     }
@@ -68,12 +82,18 @@ public class AggregateStep<S> extends AbstractStep<S, S> implements SideEffectCa
             if (this.starts.hasNext()) {
                 this.starts.forEachRemaining(traverser -> {
                     for (int i = 0; i < this.bulkCount; i++) {
-                        this.aggregate.add(null == this.preAggregateFunction ?
-                                traverser.get() :
-                                this.preAggregateFunction.apply(traverser.get()));
-                        this.aggregateTraversers.add(traverser.makeSibling());
+                        for (long j = 0; j < traverser.getBulk(); j++) {
+                            this.aggregate.add(null == this.preAggregateFunction ?
+                                    traverser.get() :
+                                    this.preAggregateFunction.apply(traverser.get()));
+                        }
+                        if (this.coalesce)
+                            this.coalescedTraversers.add(traverser.makeSibling());
+                        else
+                            this.aggregateTraversers.add(traverser.makeSibling());
                     }
                 });
+                this.coalescedTraversers.drain().forEachRemaining(this.aggregateTraversers::add);
             } else {
                 if (!this.aggregateTraversers.isEmpty())
                     return this.aggregateTraversers.remove().makeSibling();
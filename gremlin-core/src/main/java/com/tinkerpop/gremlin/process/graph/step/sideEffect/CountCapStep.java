@@ -25,7 +25,7 @@ public class CountCapStep<S> extends FilterStep<S> implements SideEffectCapable,
     public CountCapStep(final Traversal traversal) {
         super(traversal);
         this.setPredicate(traverser -> {
-            this.count.set(this.count.get() + this.bulkCount);
+            this.count.set(this.count.get() + (this.bulkCount * traverser.getBulk()));
             if (!this.vertexCentric) this.traversal.memory().set(this.getAs(), this.count.get());
             return true;
         });
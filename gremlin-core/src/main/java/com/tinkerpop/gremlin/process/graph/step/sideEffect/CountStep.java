@@ -22,8 +22,8 @@ public class CountStep<S> extends MapStep<S, Long> implements Bulkable {
     public CountStep(final Traversal traversal) {
         super(traversal);
         this.setFunction(traverser -> {
-            this.counter.set(this.counter.get() + this.bulkCount);
-            this.starts.forEachRemaining(previousTraverser -> this.counter.set(this.counter.get() + this.bulkCount));
+            this.counter.set(this.counter.get() + (this.bulkCount * traverser.getBulk()));
+            this.starts.forEachRemaining(previousTraverser -> this.counter.set(this.counter.get() + (this.bulkCount * previousTraverser.getBulk())));
             return this.counter.get();
         });
     }
@@ -41,6 +41,12 @@ public class CountStep<S> extends MapStep<S, Long> implements Bulkable {
         }
     }
 
+    public void reset() {
+        super.reset();
+        this.done.set(false);
+        this.counter.set(0l);
+    }
+
     public void setCurrentBulkCount(final long bulkCount) {
         this.bulkCount = bulkCount;
     }
@@ -2,6 +2,7 @@ package com.tinkerpop.gremlin.process.graph.step.sideEffect;
 
 import com.tinkerpop.gremlin.process.Traversal;
 import com.tinkerpop.gremlin.process.computer.MapReduce;
+import com.tinkerpop.gremlin.process.graph.marker.Bulkable;
 import com.tinkerpop.gremlin.process.graph.marker.MapReducer;
 import com.tinkerpop.gremlin.process.graph.marker.Reversible;
 import com.tinkerpop.gremlin.process.graph.marker.SideEffectCapable;
@@ -21,7 +22,7 @@ import java.util.Map;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public class GroupByStep<S, K, V, R> extends FilterStep<S> implements SideEffectCapable, Reversible, VertexCentric, MapReducer<Object, Collection, Object, Object, Map> {
+public class GroupByStep<S, K, V, R> extends FilterStep<S> implements SideEffectCapable, Reversible, Bulkable, VertexCentric, MapReducer<Object, Collection, Object, Object, Map> {
 
     public Map<K, Collection<V>> groupByMap;
     public final Map<K, R> reduceMap;
@@ -29,6 +30,7 @@ public class GroupByStep<S, K, V, R> extends FilterStep<S> implements SideEffect
     public final SFunction<S, V> valueFunction;
     public final SFunction<Collection<V>, R> reduceFunction;
     public boolean vertexCentric = false;
+    private long bulkCount = 1l;
 
     public GroupByStep(final Traversal traversal, final SFunction<S, K> keyFunction, final SFunction<S, V> valueFunction, final SFunction<Collection<V>, R> reduceFunction) {
         super(traversal);
@@ -38,7 +40,7 @@ public class GroupByStep<S, K, V, R> extends FilterStep<S> implements SideEffect
         this.valueFunction = valueFunction == null ? s -> (V) s : valueFunction;
         this.reduceFunction = reduceFunction;
         this.setPredicate(traverser -> {
-            doGroup(traverser.get(), this.groupByMap, this.keyFunction, this.valueFunction);
+            doGroup(traverser.get(), this.bulkCount * traverser.getBulk(), this.groupByMap, this.keyFunction, this.valueFunction);
             if (!vertexCentric) {
                 if (null != reduceFunction && !this.starts.hasNext()) {
                     doReduce(this.groupByMap, this.reduceMap, this.reduceFunction);
@@ -55,15 +57,20 @@ public class GroupByStep<S, K, V, R> extends FilterStep<S> implements SideEffect
         super.setAs(as);
     }
 
-    private static <S, K, V> void doGroup(final S s, final Map<K, Collection<V>> groupMap, final SFunction<S, K> keyFunction, final SFunction<S, V> valueFunction) {
+    private static <S, K, V> void doGroup(final S s, final long bulk, final Map<K, Collection<V>> groupMap, final SFunction<S, K> keyFunction, final SFunction<S, V> valueFunction) {
         final K key = keyFunction.apply(s);
         final V value = valueFunction.apply(s);
-        Collection<V> values = groupMap.get(key);
-        if (null == values) {
-            values = new ArrayList<>();
-            groupMap.put(key, values);
+        final Collection<V> values = groupMap.computeIfAbsent(key, k -> new ArrayList<>());
+        if (1l == bulk)
+            GroupByStep.addValue(value, values);
+        else {
+            // the key and value are computed once for all the traversers of the bulk
+            final Collection<V> bulkValues = new ArrayList<>();
+            GroupByStep.addValue(value, bulkValues);
+            for (long i = 0; i < bulk; i++) {
+                values.addAll(bulkValues);
+            }
         }
-        GroupByStep.addValue(value, values);
     }
 
     private static <K, V, R> void doReduce(final Map<K, Collection<V>> groupMap, final Map<K, R> reduceMap, final SFunction<Collection<V>, R> reduceFunction) {
@@ -82,6 +89,10 @@ public class GroupByStep<S, K, V, R> extends FilterStep<S> implements SideEffect
         }
     }
 
+    public void setCurrentBulkCount(final long bulkCount) {
+        this.bulkCount = bulkCount;
+    }
+
     public void setCurrentVertex(final Vertex vertex) {
         this.vertexCentric = true;
         final String hiddenAs = Graph.Key.hide(this.getAs());
@@ -9,20 +9,28 @@ import com.tinkerpop.gremlin.process.graph.marker.SideEffectCapable;
 import com.tinkerpop.gremlin.process.graph.marker.VertexCentric;
 import com.tinkerpop.gremlin.process.graph.step.filter.FilterStep;
 import com.tinkerpop.gremlin.process.graph.step.sideEffect.mapreduce.GroupCountMapReduce;
-import com.tinkerpop.gremlin.process.util.MapHelper;
 import com.tinkerpop.gremlin.structure.Graph;
 import com.tinkerpop.gremlin.structure.Vertex;
 import com.tinkerpop.gremlin.util.function.SFunction;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * Counts the traversers by object (or by the object of the pre-group function). The counts are mutable counters so
+ * that an increment does not allocate a new value. When the step is vertex-centric (i.e. executed by a
+ * {@link com.tinkerpop.gremlin.process.computer.GraphComputer}), the counters are stored at the vertex. Otherwise,
+ * the counts are copied to the {@code Map<Object, Long>} side effect once the starts of the step are exhausted.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class GroupCountStep<S> extends FilterStep<S> implements SideEffectCapable, Reversible, Bulkable, VertexCentric, MapReducer<Object, Long, Object, Long, Map<Object, Long>> {
 
     public Map<Object, Long> groupCountMap;
+    private final Map<Object, AtomicLong> counters = new HashMap<>();
+    private Map<Object, AtomicLong> vertexCountMap = null;
     public SFunction<S, ?> preGroupFunction;
     private long bulkCount = 1l;
 
@@ -31,9 +39,15 @@ public class GroupCountStep<S> extends FilterStep<S> implements SideEffectCapabl
         this.preGroupFunction = preGroupFunction;
         this.groupCountMap = this.traversal.memory().getOrCreate(this.getAs(), HashMap::new);
         this.setPredicate(traverser -> {
-            MapHelper.incr(this.groupCountMap,
-                    null == this.preGroupFunction ? traverser.get() : this.preGroupFunction.apply(traverser.get()),
-                    this.bulkCount);
+            final Object object = null == this.preGroupFunction ? traverser.get() : this.preGroupFunction.apply(traverser.get());
+            final long count = this.bulkCount * traverser.getBulk();
+            if (null == this.vertexCountMap) {
+                // a count that is already in the side effect is counted on from
+                increment(this.counters, object, count, this.groupCountMap);
+                if (!this.starts.hasNext())
+                    this.counters.forEach((key, counter) -> this.groupCountMap.put(key, counter.get()));
+            } else
+                increment(this.vertexCountMap, object, count, Collections.emptyMap());
             return true;
         });
     }
@@ -44,6 +58,14 @@ public class GroupCountStep<S> extends FilterStep<S> implements SideEffectCapabl
         super.setAs(as);
     }
 
+    private static void increment(final Map<Object, AtomicLong> counters, final Object object, final long count, final Map<Object, Long> initialCounts) {
+        final AtomicLong counter = counters.get(object);
+        if (null == counter)
+            counters.put(object, new AtomicLong(initialCounts.getOrDefault(object, 0l) + count));
+        else
+            counter.addAndGet(count);
+    }
+
     public GroupCountStep(final Traversal traversal) {
         this(traversal, null);
     }
@@ -54,9 +76,9 @@ public class GroupCountStep<S> extends FilterStep<S> implements SideEffectCapabl
 
     public void setCurrentVertex(final Vertex vertex) {
         final String hiddenAs = Graph.Key.hide(this.getAs());
-        this.groupCountMap = vertex.<java.util.Map<Object, Long>>property(hiddenAs).orElse(new HashMap<>());
+        this.vertexCountMap = vertex.<java.util.Map<Object, AtomicLong>>property(hiddenAs).orElse(new HashMap<>());
         if (!vertex.property(hiddenAs).isPresent())
-            vertex.property(hiddenAs, this.groupCountMap);
+            vertex.property(hiddenAs, this.vertexCountMap);
     }
 
     public MapReduce<Object, Long, Object, Long, Map<Object, Long>> getMapReduce() {
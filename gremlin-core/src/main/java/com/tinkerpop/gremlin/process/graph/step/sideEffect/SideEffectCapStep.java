@@ -40,6 +40,11 @@ public class SideEffectCapStep<S, E> extends AbstractStep<S, E> implements SideE
         }
     }
 
+    public void reset() {
+        super.reset();
+        this.done = false;
+    }
+
     public String toString() {
         return Graph.Key.isHidden(this.sideEffectAs) ? super.toString() : TraversalHelper.makeStepString(this, this.sideEffectAs);
     }
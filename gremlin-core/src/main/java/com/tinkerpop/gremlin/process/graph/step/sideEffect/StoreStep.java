@@ -32,7 +32,7 @@ public class StoreStep<S> extends FilterStep<S> implements SideEffectCapable, Re
         this.store = this.traversal.memory().getOrCreate(this.getAs(), ArrayList::new);
         this.setPredicate(traverser -> {
             final Object storeObject = null == this.preStoreFunction ? traverser.get() : this.preStoreFunction.apply(traverser.get());
-            for (int i = 0; i < this.bulkCount; i++) {
+            for (long i = 0; i < this.bulkCount * traverser.getBulk(); i++) {
                 this.store.add(storeObject);
             }
             return true;
@@ -30,6 +30,11 @@ public class TimeLimitStep<S> extends FilterStep<S> implements Reversible {
         });
     }
 
+    public void reset() {
+        super.reset();
+        this.startTime.set(-1l);
+    }
+
     public String toString() {
         return TraversalHelper.makeStepString(this, this.timeLimit);
     }
@@ -27,6 +27,6 @@ public class AsStrategy implements TraversalStrategy {
     }
 
     public int compareTo(final TraversalStrategy traversalStrategy) {
-        return traversalStrategy instanceof TraverserSourceStrategy ? -1 : 1;
+        return traversalStrategy instanceof TraverserSourceStrategy || traversalStrategy instanceof BatchStrategy ? -1 : 1;
     }
 }
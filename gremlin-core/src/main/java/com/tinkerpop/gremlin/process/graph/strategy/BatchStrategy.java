@@ -0,0 +1,44 @@
+package com.tinkerpop.gremlin.process.graph.strategy;
+
+import com.tinkerpop.gremlin.process.Step;
+import com.tinkerpop.gremlin.process.Traversal;
+import com.tinkerpop.gremlin.process.TraversalStrategy;
+import com.tinkerpop.gremlin.process.util.AbstractStep;
+
+import java.util.List;
+
+/**
+ * An opt-in strategy that has the steps of a traversal pull their starts from the previous step in batches of
+ * {@link #BATCH_SIZE} traversers instead of one traverser at a time. {@code FilterStep}, {@code MapStep} and
+ * {@code FlatMapStep} process a batch in a single loop while all other steps fall back to filling the batch one
+ * traverser at a time. As steps process up to a batch ahead of their consumers, lambdas with side-effects may be
+ * evaluated earlier than in the default pull model.
+ * The batch size is set once all other strategies have added, removed or replaced the steps of the traversal.
+ * <p/>
+ * <pre>
+ * traversal.strategies().register(BatchStrategy.instance());
+ * </pre>
+ */
+public class BatchStrategy implements TraversalStrategy {
+
+    public static final int BATCH_SIZE = 256;
+
+    private static final BatchStrategy INSTANCE = new BatchStrategy();
+
+    private BatchStrategy() {
+    }
+
+    public void apply(final Traversal traversal) {
+        ((List<Step>) traversal.getSteps()).stream()
+                .filter(step -> step instanceof AbstractStep)
+                .forEach(step -> ((AbstractStep) step).setBatchSize(BATCH_SIZE));
+    }
+
+    public int compareTo(final TraversalStrategy traversalStrategy) {
+        return traversalStrategy instanceof BatchStrategy ? 0 : 1;
+    }
+
+    public static BatchStrategy instance() {
+        return INSTANCE;
+    }
+}
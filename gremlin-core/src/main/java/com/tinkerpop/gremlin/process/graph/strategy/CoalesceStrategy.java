@@ -0,0 +1,62 @@
+package com.tinkerpop.gremlin.process.graph.strategy;
+
+import com.tinkerpop.gremlin.process.Step;
+import com.tinkerpop.gremlin.process.Traversal;
+import com.tinkerpop.gremlin.process.TraversalStrategy;
+import com.tinkerpop.gremlin.process.graph.marker.Coalescable;
+import com.tinkerpop.gremlin.process.graph.step.filter.FilterStep;
+import com.tinkerpop.gremlin.process.graph.step.map.ChooseStep;
+import com.tinkerpop.gremlin.process.graph.step.map.FlatMapStep;
+import com.tinkerpop.gremlin.process.graph.step.map.JumpStep;
+import com.tinkerpop.gremlin.process.graph.step.map.MapStep;
+import com.tinkerpop.gremlin.process.graph.step.map.UnionStep;
+import com.tinkerpop.gremlin.process.graph.step.sideEffect.SideEffectStep;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Enables the coalescing of equal traversers at the barrier points of a traversal (e.g. {@code order()},
+ * {@code aggregate()} and the traversers looped by {@code jump()}). The remainder of the traversal then processes
+ * each coalesced traverser once according to its bulk. A step that applies a user function (e.g. {@code sideEffect()},
+ * {@code map()} and {@code filter()}) would call the function once per coalesced traverser and not once per bulk. As
+ * such, a barrier is not coalesced if such a step follows it (for {@code jump()}, from the step that is jumped to).
+ * This strategy is for standard (non-computer) execution and should be unregistered when a traversal is prepared for
+ * a {@link com.tinkerpop.gremlin.process.computer.GraphComputer}.
+ */
+public class CoalesceStrategy implements TraversalStrategy.NoDependencies {
+
+    private static final CoalesceStrategy INSTANCE = new CoalesceStrategy();
+
+    // the steps that apply a user function to each traverser
+    private static final List<Class<? extends Step>> FUNCTION_STEPS = (List) Arrays.asList(
+            FilterStep.class, MapStep.class, FlatMapStep.class, SideEffectStep.class, ChooseStep.class, UnionStep.class);
+
+    private CoalesceStrategy() {
+    }
+
+    public void apply(final Traversal traversal) {
+        final List<Step> steps = traversal.getSteps();
+        for (int i = 0; i < steps.size(); i++) {
+            final Step step = steps.get(i);
+            if (step instanceof Coalescable) {
+                final int from = step instanceof JumpStep && null != ((JumpStep) step).jumpToStep ?
+                        steps.indexOf(((JumpStep) step).jumpToStep) :
+                        i + 1;
+                ((Coalescable) step).setCoalesce(!applyFunctions(steps.subList(Math.max(0, from), steps.size())));
+            }
+        }
+    }
+
+    private static boolean applyFunctions(final List<Step> steps) {
+        for (final Step step : steps) {
+            if (FUNCTION_STEPS.contains(step.getClass()))
+                return true;
+        }
+        return false;
+    }
+
+    public static CoalesceStrategy instance() {
+        return INSTANCE;
+    }
+}
@@ -24,7 +24,7 @@ public class JumpComputerStrategy implements TraversalStrategy {
     }
 
     public int compareTo(final TraversalStrategy traversalStrategy) {
-        return (traversalStrategy instanceof TraverserSourceStrategy || traversalStrategy instanceof UnrollJumpStrategy) ? -1 : 1;
+        return (traversalStrategy instanceof TraverserSourceStrategy || traversalStrategy instanceof UnrollJumpStrategy || traversalStrategy instanceof BatchStrategy) ? -1 : 1;
     }
 
     public static JumpComputerStrategy instance() {
@@ -0,0 +1,48 @@
+package com.tinkerpop.gremlin.process.graph.strategy;
+
+import com.tinkerpop.gremlin.process.Traversal;
+import com.tinkerpop.gremlin.process.TraversalStrategy;
+import com.tinkerpop.gremlin.process.graph.step.map.match.MatchPlanCache;
+import com.tinkerpop.gremlin.process.graph.step.map.match.MatchStep;
+import com.tinkerpop.gremlin.process.util.TraversalHelper;
+import com.tinkerpop.gremlin.structure.Graph;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * Plans the {@code match()} steps of a traversal with the {@link Graph.Statistics} of its graph so that the order of
+ * the match patterns does not depend on the branch factors observed for the first starts. If the graph provides no
+ * statistics (or the traversal is not bound to a graph, e.g. on a {@link com.tinkerpop.gremlin.process.computer.GraphComputer}),
+ * the match steps are left to their observed branch factors. The branch factors observed by the match steps of a graph
+ * are cached for that graph only (see {@link MatchPlanCache}) and the caches of graphs that are no longer referenced are
+ * dropped.
+ */
+public class MatchStatisticsStrategy implements TraversalStrategy.NoDependencies {
+
+    private static final MatchStatisticsStrategy INSTANCE = new MatchStatisticsStrategy();
+
+    // static as the strategies are serialized with the traversals that they are registered to
+    private static final Map<Graph, MatchPlanCache> PLAN_CACHES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private MatchStatisticsStrategy() {
+    }
+
+    public void apply(final Traversal traversal) {
+        final Optional<Graph> graph = traversal.memory().get(Graph.Key.hide("g"));
+        if (graph.isPresent()) {
+            graph.get().statistics().ifPresent(statistics ->
+                    TraversalHelper.getStepsOfClass(MatchStep.class, traversal).forEach(step -> step.plan(statistics, this.getPlanCache(graph.get()))));
+        }
+    }
+
+    public MatchPlanCache getPlanCache(final Graph graph) {
+        return PLAN_CACHES.computeIfAbsent(graph, g -> new MatchPlanCache());
+    }
+
+    public static MatchStatisticsStrategy instance() {
+        return INSTANCE;
+    }
+}
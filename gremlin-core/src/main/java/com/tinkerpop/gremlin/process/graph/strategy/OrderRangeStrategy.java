@@ -0,0 +1,43 @@
+package com.tinkerpop.gremlin.process.graph.strategy;
+
+import com.tinkerpop.gremlin.process.Step;
+import com.tinkerpop.gremlin.process.Traversal;
+import com.tinkerpop.gremlin.process.TraversalStrategy;
+import com.tinkerpop.gremlin.process.graph.step.filter.IdentityStep;
+import com.tinkerpop.gremlin.process.graph.step.filter.RangeStep;
+import com.tinkerpop.gremlin.process.graph.step.map.OrderStep;
+import com.tinkerpop.gremlin.process.util.TraversalHelper;
+
+import java.util.List;
+
+/**
+ * Limits an {@code order()} that is followed by a {@code range()} to the traversers that can be in the range, so the
+ * order is a top-k selection instead of a full sort (e.g. {@code g.V().order(...).range(0,9)}). This strategy is for
+ * standard (non-computer) execution and should be unregistered when a traversal is prepared for a
+ * {@link com.tinkerpop.gremlin.process.computer.GraphComputer}.
+ */
+public class OrderRangeStrategy implements TraversalStrategy.NoDependencies {
+
+    private static final OrderRangeStrategy INSTANCE = new OrderRangeStrategy();
+
+    private OrderRangeStrategy() {
+    }
+
+    public void apply(final Traversal traversal) {
+        final List<Step> steps = traversal.getSteps();
+        for (int i = 0; i < steps.size(); i++) {
+            if (steps.get(i) instanceof OrderStep) {
+                int j = i + 1;
+                while (j < steps.size() && steps.get(j) instanceof IdentityStep && !TraversalHelper.isLabeled(steps.get(j))) {
+                    j++;
+                }
+                if (j < steps.size() && steps.get(j) instanceof RangeStep && ((RangeStep) steps.get(j)).high != -1)
+                    ((OrderStep) steps.get(i)).setLimit(((RangeStep) steps.get(j)).high + 1l);
+            }
+        }
+    }
+
+    public static OrderRangeStrategy instance() {
+        return INSTANCE;
+    }
+}
@@ -23,7 +23,7 @@ public class SideEffectCapComputerStrategy implements TraversalStrategy {
     }
 
     public int compareTo(final TraversalStrategy traversalStrategy) {
-        return traversalStrategy instanceof TraverserSourceStrategy ? -1 : 1;
+        return traversalStrategy instanceof TraverserSourceStrategy || traversalStrategy instanceof BatchStrategy ? -1 : 1;
     }
 
     public static SideEffectCapComputerStrategy instance() {
@@ -24,7 +24,7 @@ public class TraverserSourceStrategy implements TraversalStrategy {
     }
 
     public int compareTo(final TraversalStrategy traversalStrategy) {
-        return 1;
+        return traversalStrategy instanceof BatchStrategy ? -1 : 1;
     }
 
     public static TraverserSourceStrategy instance() {
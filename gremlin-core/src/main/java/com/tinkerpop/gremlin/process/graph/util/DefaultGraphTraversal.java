@@ -1,8 +1,11 @@
 package com.tinkerpop.gremlin.process.graph.util;
 
 import com.tinkerpop.gremlin.process.graph.GraphTraversal;
+import com.tinkerpop.gremlin.process.graph.strategy.CoalesceStrategy;
 import com.tinkerpop.gremlin.process.graph.strategy.DedupOptimizerStrategy;
 import com.tinkerpop.gremlin.process.graph.strategy.IdentityReductionStrategy;
+import com.tinkerpop.gremlin.process.graph.strategy.MatchStatisticsStrategy;
+import com.tinkerpop.gremlin.process.graph.strategy.OrderRangeStrategy;
 import com.tinkerpop.gremlin.process.graph.strategy.SideEffectCapStrategy;
 import com.tinkerpop.gremlin.process.graph.strategy.UnrollJumpStrategy;
 import com.tinkerpop.gremlin.process.util.DefaultTraversal;
@@ -19,6 +22,9 @@ public class DefaultGraphTraversal<S, E> extends DefaultTraversal<S, E> implemen
         this.strategies.register(IdentityReductionStrategy.instance());
         this.strategies.register(SideEffectCapStrategy.instance());
         this.strategies.register(UnrollJumpStrategy.instance());
+        this.strategies.register(CoalesceStrategy.instance());
+        this.strategies.register(OrderRangeStrategy.instance());
+        this.strategies.register(MatchStatisticsStrategy.instance());
     }
 
     public DefaultGraphTraversal(final Graph graph) {
@@ -83,12 +83,70 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
         }
     }
 
+    public int nextBatch(final Traverser<E>[] batch) {
+        int size = 0;
+        if (this.available && batch.length > 0) {
+            this.available = false;
+            batch[size++] = this.nextEnd;
+            this.nextEnd = null;
+        }
+        return this.processNextBatch(batch, size);
+    }
+
+    /**
+     * Set the size of the batches in which the starts of this step are pulled from the previous step.
+     * A size of 0 (the default) pulls one traverser at a time.
+     */
+    public void setBatchSize(final int batchSize) {
+        this.starts.setBatchSize(batchSize);
+    }
+
+    public void reset() {
+        this.starts.clear();
+        this.available = false;
+        this.nextEnd = null;
+    }
+
     public <A, B> Traversal<A, B> getTraversal() {
         return this.traversal;
     }
 
     protected abstract Traverser<E> processNextStart() throws NoSuchElementException;
 
+    /**
+     * Fill the batch from the provided size onwards and return the new size of the batch. This default implementation
+     * repeatedly calls {@link #processNextStart()} and is overridden by steps that can process a batch directly.
+     */
+    protected int processNextBatch(final Traverser<E>[] batch, int size) {
+        final String future = this.nextStep.getAs();
+        try {
+            while (size < batch.length) {
+                final Traverser<E> traverser = this.processNextStart();
+                traverser.setFuture(future);
+                batch[size++] = traverser;
+            }
+        } catch (final NoSuchElementException e) {
+            // the step currently has no more traversers
+        }
+        return size;
+    }
+
+    /**
+     * Determine whether the class of this step (or a class between it and the provided class) overrides
+     * {@link #processNextStart()}. If so, the batch implementation of the provided class can not be used.
+     */
+    protected boolean overridesProcessNextStart(final Class<? extends AbstractStep> stepClass) {
+        for (Class<?> c = this.getClass(); !c.equals(stepClass); c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("processNextStart");
+                return true;
+            } catch (final NoSuchMethodException e) {
+                // continue to the superclass
+            }
+        }
+        return false;
+    }
+
     public String toString() {
         return TraversalHelper.makeStepString(this);
     }
@@ -96,6 +154,7 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
     public Object clone() throws CloneNotSupportedException {
         final AbstractStep step = (AbstractStep) super.clone();
         step.starts = new ExpandableStepIterator<S>(step);
+        step.starts.setBatchSize(this.starts.getBatchSize());
         step.previousStep = EmptyStep.instance();
         step.nextStep = EmptyStep.instance();
         step.available = false;
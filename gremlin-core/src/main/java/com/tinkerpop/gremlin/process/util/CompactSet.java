@@ -0,0 +1,175 @@
+package com.tinkerpop.gremlin.process.util;
+
+import com.carrotsearch.hppc.LongOpenHashSet;
+import com.tinkerpop.gremlin.structure.Edge;
+import com.tinkerpop.gremlin.structure.Element;
+import com.tinkerpop.gremlin.structure.Vertex;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A {@link CompactSet} is an add-only set that stores compact keys instead of the objects added to it. Elements are
+ * stored by their id (elements are equal if they are of the same type and have the same id) and long ids and longs
+ * are stored in primitive hash sets. Other objects are stored as is.
+ * <p/>
+ * An approximate {@link CompactSet} stores all objects in a Bloom filter of a few bits per object. It never reports
+ * an object that was added as new, but it reports a new object as already added with the provided false positive
+ * probability.
+ */
+public class CompactSet implements Serializable {
+
+    private static final long VERTEX_SEED = 0x9E3779B97F4A7C15l;
+    private static final long EDGE_SEED = 0xC2B2AE3D27D4EB4Fl;
+
+    private final long expectedSize;
+    private final double falsePositiveProbability;
+
+    // the sets are created as objects of their kind are added (the primitive sets are not serializable and are
+    // written as arrays)
+    private transient LongOpenHashSet vertexLongIds;
+    private transient LongOpenHashSet edgeLongIds;
+    private transient LongOpenHashSet longs;
+    private Set<Object> vertexIds;
+    private Set<Object> edgeIds;
+    private Set<Object> objects;
+    private BloomFilter filter;
+
+    public CompactSet() {
+        this(-1, 0.0d);
+    }
+
+    /**
+     * Create an approximate set that is sized for the expected number of objects.
+     */
+    public CompactSet(final long expectedSize, final double falsePositiveProbability) {
+        if (expectedSize >= 0 && (falsePositiveProbability <= 0.0d || falsePositiveProbability >= 1.0d))
+            throw new IllegalArgumentException("The false positive probability must be between 0 and 1: " + falsePositiveProbability);
+        this.expectedSize = expectedSize;
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    public boolean isApproximate() {
+        return this.expectedSize >= 0;
+    }
+
+    /**
+     * @return whether the object was not in the set
+     */
+    public boolean add(final Object object) {
+        if (this.isApproximate()) {
+            if (null == this.filter)
+                this.filter = new BloomFilter(this.expectedSize, this.falsePositiveProbability);
+            return this.filter.add(hash(object));
+        } else if (object instanceof Vertex) {
+            final Object id = ((Vertex) object).id();
+            if (id instanceof Long) {
+                if (null == this.vertexLongIds) this.vertexLongIds = new LongOpenHashSet();
+                return this.vertexLongIds.add((Long) id);
+            } else {
+                if (null == this.vertexIds) this.vertexIds = new HashSet<>();
+                return this.vertexIds.add(id);
+            }
+        } else if (object instanceof Edge) {
+            final Object id = ((Edge) object).id();
+            if (id instanceof Long) {
+                if (null == this.edgeLongIds) this.edgeLongIds = new LongOpenHashSet();
+                return this.edgeLongIds.add((Long) id);
+            } else {
+                if (null == this.edgeIds) this.edgeIds = new HashSet<>();
+                return this.edgeIds.add(id);
+            }
+        } else if (object instanceof Long) {
+            if (null == this.longs) this.longs = new LongOpenHashSet();
+            return this.longs.add((Long) object);
+        } else {
+            if (null == this.objects) this.objects = new HashSet<>();
+            return this.objects.add(object);
+        }
+    }
+
+    public void clear() {
+        this.vertexLongIds = null;
+        this.edgeLongIds = null;
+        this.longs = null;
+        this.vertexIds = null;
+        this.edgeIds = null;
+        this.objects = null;
+        this.filter = null;
+    }
+
+    private void writeObject(final ObjectOutputStream output) throws IOException {
+        output.defaultWriteObject();
+        output.writeObject(null == this.vertexLongIds ? null : this.vertexLongIds.toArray());
+        output.writeObject(null == this.edgeLongIds ? null : this.edgeLongIds.toArray());
+        output.writeObject(null == this.longs ? null : this.longs.toArray());
+    }
+
+    private void readObject(final ObjectInputStream input) throws IOException, ClassNotFoundException {
+        input.defaultReadObject();
+        this.vertexLongIds = toSet((long[]) input.readObject());
+        this.edgeLongIds = toSet((long[]) input.readObject());
+        this.longs = toSet((long[]) input.readObject());
+    }
+
+    private static LongOpenHashSet toSet(final long[] values) {
+        return null == values ? null : LongOpenHashSet.from(values);
+    }
+
+    private static long hash(final Object object) {
+        if (object instanceof Element) {
+            final Object id = ((Element) object).id();
+            final long hash = id instanceof Long ? (Long) id : Objects.hashCode(id);
+            return mix(hash ^ (object instanceof Vertex ? VERTEX_SEED : EDGE_SEED));
+        } else if (object instanceof Long)
+            return mix((Long) object);
+        else
+            return mix(Objects.hashCode(object));
+    }
+
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDl;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53l;
+        return hash ^ (hash >>> 33);
+    }
+
+    private static class BloomFilter implements Serializable {
+
+        private final long[] bits;
+        private final long size;
+        private final int hashes;
+
+        private BloomFilter(final long expectedSize, final double falsePositiveProbability) {
+            final long n = Math.max(1l, expectedSize);
+            final double ln2 = Math.log(2.0d);
+            this.size = Math.max(64l, Math.min((long) Integer.MAX_VALUE * 64l, (long) Math.ceil(-n * Math.log(falsePositiveProbability) / (ln2 * ln2))));
+            this.bits = new long[(int) ((this.size + 63l) / 64l)];
+            this.hashes = Math.max(1, (int) Math.round((double) this.size / n * ln2));
+        }
+
+        /**
+         * @return whether any bit of the hash was not set
+         */
+        private boolean add(final long hash) {
+            final long step = Long.rotateLeft(hash, 32) | 1l;
+            boolean added = false;
+            long combined = hash;
+            for (int i = 0; i < this.hashes; i++) {
+                final long bit = Math.floorMod(combined, this.size);
+                final int index = (int) (bit >>> 6);
+                final long mask = 1l << bit;
+                if ((this.bits[index] & mask) == 0) {
+                    this.bits[index] = this.bits[index] | mask;
+                    added = true;
+                }
+                combined = combined + step;
+            }
+            return added;
+        }
+    }
+}
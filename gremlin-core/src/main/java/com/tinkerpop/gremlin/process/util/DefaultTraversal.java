@@ -19,6 +19,8 @@ public class DefaultTraversal<S, E> implements Traversal<S, E> {
     protected final List<Step> steps = new ArrayList<>();
     protected final Strategies strategies = new DefaultStrategies(this);
     protected final Memory memory = new DefaultMemory();
+    protected Traverser<E> lastEnd = null;
+    protected long lastEndCount = 0l;
 
     public DefaultTraversal() {
         this.strategies.register(TraverserSourceStrategy.instance());
@@ -53,12 +55,28 @@ public class DefaultTraversal<S, E> implements Traversal<S, E> {
 
     public boolean hasNext() {
         this.applyStrategies();
-        return this.steps.get(this.steps.size() - 1).hasNext();
+        return this.lastEndCount > 0l || this.steps.get(this.steps.size() - 1).hasNext();
     }
 
     public E next() {
         this.applyStrategies();
-        return ((Traverser<E>) this.steps.get(this.steps.size() - 1).next()).get();
+        if (this.lastEndCount > 0l) {
+            this.lastEndCount--;
+            return this.lastEnd.get();
+        } else {
+            final Traverser<E> traverser = (Traverser<E>) this.steps.get(this.steps.size() - 1).next();
+            if (traverser.getBulk() > 1l) {
+                this.lastEnd = traverser;
+                this.lastEndCount = traverser.getBulk() - 1l;
+            }
+            return traverser.get();
+        }
+    }
+
+    public void reset() {
+        Traversal.super.reset();
+        this.lastEnd = null;
+        this.lastEndCount = 0l;
     }
 
     public String toString() {
@@ -4,35 +4,83 @@ import com.tinkerpop.gremlin.process.Step;
 import com.tinkerpop.gremlin.process.Traverser;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.Queue;
 
 /**
+ * The starts of a step. Traversers are pulled from the previous step and, once it is exhausted, from the iterators
+ * added to the step (e.g. by a {@link com.tinkerpop.gremlin.process.graph.step.map.JumpStep}).
+ * If a batch size is set, the traversers are pulled from the previous step in batches via {@link Step#nextBatch}
+ * and buffered.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class ExpandableStepIterator<E> implements Iterator<Traverser<E>>, Serializable {
 
     private final ExpandableIterator<Traverser<E>> expander = new ExpandableIterator<>();
     private Step<?, E> hostStep = EmptyStep.instance();
+    private Traverser<E>[] batch = null;
+    private int batchIndex = 0;
+    private int batchLength = 0;
 
     public ExpandableStepIterator(final Step<?, E> hostStep) {
         this.hostStep = hostStep;
     }
 
+    public void setBatchSize(final int batchSize) {
+        this.batch = batchSize > 0 ? new Traverser[batchSize] : null;
+        this.batchIndex = 0;
+        this.batchLength = 0;
+    }
+
+    public int getBatchSize() {
+        return null == this.batch ? 0 : this.batch.length;
+    }
+
     public void clear() {
         this.expander.clear();
+        if (null != this.batch) {
+            Arrays.fill(this.batch, null);
+            this.batchIndex = 0;
+            this.batchLength = 0;
+        }
     }
 
     public boolean hasNext() {
-        return this.hostStep.getPreviousStep().hasNext() || this.expander.hasNext();
+        if (null == this.batch)
+            return this.hostStep.getPreviousStep().hasNext() || this.expander.hasNext();
+        else
+            return this.batchIndex < this.batchLength || this.fillBatch();
     }
 
     public Traverser<E> next() {
-        if (this.hostStep.getPreviousStep().hasNext())
-            return (Traverser<E>) this.hostStep.getPreviousStep().next();
-        else
-            return this.expander.next();
+        if (null == this.batch) {
+            if (this.hostStep.getPreviousStep().hasNext())
+                return (Traverser<E>) this.hostStep.getPreviousStep().next();
+            else
+                return this.expander.next();
+        } else {
+            final Traverser<E> traverser = this.poll();
+            if (null == traverser)
+                throw FastNoSuchElementException.instance();
+            return traverser;
+        }
+    }
+
+    /**
+     * Get the next traverser or null if there are no more traversers.
+     */
+    public Traverser<E> poll() {
+        if (null == this.batch)
+            return this.hasNext() ? this.next() : null;
+        else if (this.batchIndex < this.batchLength || this.fillBatch()) {
+            final Traverser<E> traverser = this.batch[this.batchIndex];
+            this.batch[this.batchIndex++] = null;
+            return traverser;
+        } else
+            return null;
     }
 
     public void add(final Iterator<E> iterator) {
@@ -44,21 +92,31 @@ public class ExpandableStepIterator<E> implements Iterator<Traverser<E>>, Serial
     }
 
     public boolean isEmpty() {
-        return this.expander.queue.isEmpty();
+        return this.expander.queue.isEmpty() && this.batchIndex >= this.batchLength;
+    }
+
+    private boolean fillBatch() {
+        this.batchIndex = 0;
+        this.batchLength = ((Step<?, E>) this.hostStep.getPreviousStep()).nextBatch(this.batch);
+        while (this.batchLength < this.batch.length && this.expander.hasNext()) {
+            this.batch[this.batchLength++] = this.expander.next();
+        }
+        return this.batchLength > 0;
     }
 
     public class ExpandableIterator<T> implements Iterator<T>, Serializable {
 
-        private final Queue<Iterator<T>> queue = new LinkedList<>();
+        private final Queue<Iterator<T>> queue = new ArrayDeque<>();
 
         public void clear() {
             this.queue.clear();
         }
 
         public boolean hasNext() {
-            for (final Iterator<T> itty : this.queue) {
-                if (itty.hasNext())
+            while (!this.queue.isEmpty()) {
+                if (this.queue.element().hasNext())
                     return true;
+                this.queue.remove();
             }
             return false;
         }
@@ -66,7 +124,7 @@ public class ExpandableStepIterator<E> implements Iterator<Traverser<E>>, Serial
         public T next() {
             while (true) {
                 final Iterator<T> itty = this.queue.element();
-                if (null != itty && itty.hasNext()) return itty.next();
+                if (itty.hasNext()) return itty.next();
                 else this.queue.remove();
             }
         }
@@ -5,21 +5,22 @@ import java.util.List;
 import java.util.Map;
 
 /**
+ * Helpers to increment the values of maps. A key is looked up once per increment, so the increments are atomic if the
+ * map is a {@link java.util.concurrent.ConcurrentMap}.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class MapHelper {
 
     public static <T> void incr(final Map<T, Long> map, final T key, final Long value) {
-        map.put(key, value + map.getOrDefault(key, 0l));
+        map.merge(key, value, Long::sum);
     }
 
     public static <T> void incr(final Map<T, Double> map, final T key, final Double value) {
-        map.put(key, value + map.getOrDefault(key, 0.0d));
+        map.merge(key, value, Double::sum);
     }
 
     public static <T, U> void incr(final Map<T, List<U>> map, final T key, final U value) {
-        final List<U> temp = map.getOrDefault(key, new ArrayList<>());
-        temp.add(value);
-        map.put(key, temp);
+        map.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
     }
 }
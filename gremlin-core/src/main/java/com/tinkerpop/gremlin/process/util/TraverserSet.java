@@ -0,0 +1,73 @@
+package com.tinkerpop.gremlin.process.util;
+
+import com.tinkerpop.gremlin.process.Traverser;
+import org.javatuples.Triplet;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A {@link TraverserSet} is an insertion ordered collection of traversers that coalesces equal traversers into a
+ * single traverser whose bulk is the sum of their bulks. Traversers are equal if they are at the same object and
+ * have the same loops and future. Traversers that track paths are only equal to themselves.
+ */
+public class TraverserSet<S> implements Serializable {
+
+    private final Map<Object, Traverser<S>> traversers = new LinkedHashMap<>();
+
+    public void add(final Traverser<S> traverser) {
+        final Object key = traverser.hasPath() ? traverser : Triplet.with(traverser.get(), traverser.getLoops(), traverser.getFuture());
+        final Traverser<S> existing = this.traversers.get(key);
+        if (null == existing)
+            this.traversers.put(key, traverser);
+        else
+            existing.setBulk(existing.getBulk() + traverser.getBulk());
+    }
+
+    public Traverser<S> remove() {
+        final Iterator<Traverser<S>> iterator = this.traversers.values().iterator();
+        if (!iterator.hasNext())
+            throw FastNoSuchElementException.instance();
+        final Traverser<S> traverser = iterator.next();
+        iterator.remove();
+        return traverser;
+    }
+
+    public boolean isEmpty() {
+        return this.traversers.isEmpty();
+    }
+
+    public int size() {
+        return this.traversers.size();
+    }
+
+    public void clear() {
+        this.traversers.clear();
+    }
+
+    public Iterator<Traverser<S>> iterator() {
+        return this.traversers.values().iterator();
+    }
+
+    /**
+     * Get an iterator that removes each traverser it returns. Traversers added to the set while the iterator is
+     * being consumed are returned by the iterator.
+     */
+    public Iterator<Traverser<S>> drain() {
+        return new Iterator<Traverser<S>>() {
+            public boolean hasNext() {
+                return !TraverserSet.this.isEmpty();
+            }
+
+            public Traverser<S> next() {
+                return TraverserSet.this.remove();
+            }
+        };
+    }
+
+    public String toString() {
+        return this.traversers.values().toString();
+    }
+}
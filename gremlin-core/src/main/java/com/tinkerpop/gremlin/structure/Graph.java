@@ -195,6 +195,32 @@ public interface Graph extends AutoCloseable {
 
     }
 
+    /**
+     * Get the {@link Statistics} of the graph which traversal planners (e.g. of {@code match()}) use to estimate the
+     * cost of a traversal. By default, a graph provides no statistics.
+     */
+    public default Optional<Statistics> statistics() {
+        return Optional.empty();
+    }
+
+    /**
+     * Graph statistics are cardinality estimates that are cheap to compute. They need not be exact.
+     */
+    public interface Statistics {
+
+        public long vertexCount();
+
+        /**
+         * @return the number of edges with any of the labels (all edges if no labels are provided)
+         */
+        public long edgeCount(final String... labels);
+
+        /**
+         * @return the number of vertices whose value for the key is the provided value or -1 if it is not known
+         */
+        public long vertexCount(final String key, final Object value);
+    }
+
     /**
      * Gets the {@link Features} exposed by the underlying {@code Graph} implementation.
      */
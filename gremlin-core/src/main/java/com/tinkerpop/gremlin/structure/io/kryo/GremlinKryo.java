@@ -230,8 +230,8 @@ public final class GremlinKryo {
             add(Triplet.<Class, Serializer, Integer>with(PathTraverser.class, null, 56));
             add(Triplet.<Class, Serializer, Integer>with(TraverserCountTracker.class, null, 57));
             add(Triplet.<Class, Serializer, Integer>with(TraverserPathTracker.class, null, 58));
-            add(Triplet.<Class, Serializer, Integer>with(Path.class, null, 59));
-            add(Triplet.<Class, Serializer, Integer>with(DetachedPath.class, null, 60)); // is this needed?
+            add(Triplet.<Class, Serializer, Integer>with(Path.class, new PathSerializer(), 59));
+            add(Triplet.<Class, Serializer, Integer>with(DetachedPath.class, new PathSerializer(), 60)); // is this needed?
             add(Triplet.<Class, Serializer, Integer>with(Optional.class, null, 61));
             add(Triplet.<Class, Serializer, Integer>with(AtomicLong.class, null, 62)); // this is all needed for serializing properties in TinkerGraph
         }};
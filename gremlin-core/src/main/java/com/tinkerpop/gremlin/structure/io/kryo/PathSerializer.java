@@ -0,0 +1,32 @@
+package com.tinkerpop.gremlin.structure.io.kryo;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.tinkerpop.gremlin.process.Path;
+
+/**
+ * Serializes a {@link Path} (or {@link com.tinkerpop.gremlin.structure.util.detached.DetachedPath}) as its
+ * flattened list of as-labels and objects.
+ */
+class PathSerializer extends Serializer<Path> {
+    @Override
+    public void write(final Kryo kryo, final Output output, final Path path) {
+        output.writeInt(path.size(), true);
+        path.forEach((as, object) -> {
+            output.writeString(as);
+            kryo.writeClassAndObject(output, object);
+        });
+    }
+
+    @Override
+    public Path read(final Kryo kryo, final Input input, final Class<Path> pathClass) {
+        final Path path = kryo.newInstance(pathClass);
+        final int size = input.readInt(true);
+        for (int i = 0; i < size; i++) {
+            path.add(input.readString(), kryo.readClassAndObject(input));
+        }
+        return path;
+    }
+}
@@ -6,7 +6,13 @@ import com.tinkerpop.gremlin.structure.Graph;
 import com.tinkerpop.gremlin.structure.Property;
 import com.tinkerpop.gremlin.structure.Vertex;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
+ * A {@link DetachedPath} shares the steps of the path it was detached from that are already detached. As such,
+ * detaching the path of a child traverser only detaches the steps the child added to its parent's path.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class DetachedPath extends Path {
@@ -16,19 +22,17 @@ public class DetachedPath extends Path {
     }
 
     private DetachedPath(final Path path) {
-        path.forEach((as, object) -> {
-            if (object instanceof DetachedElement || object instanceof DetachedProperty) {
-                this.add(as, object);
-            } else if (object instanceof Vertex) {
-                this.add(as, DetachedVertex.detach((Vertex) object));
-            } else if (object instanceof Edge) {
-                this.add(as, DetachedEdge.detach((Edge) object));
-            } else if (object instanceof Property) {
-                this.add(as, DetachedProperty.detach((Property) object));
-            } else {
-                this.add(as, object);
-            }
-        });
+        super(path);
+        final List<Link> attached = new ArrayList<>();
+        Link link = this.head;
+        while (null != link && !link.detached) {
+            attached.add(link);
+            link = link.parent;
+        }
+        for (int i = attached.size() - 1; i >= 0; i--) {
+            link = new Link(link, attached.get(i).as, detach(attached.get(i).object), true);
+        }
+        this.setHead(link);
     }
 
     public Path attach(final Graph graph) {
@@ -47,7 +51,26 @@ public class DetachedPath extends Path {
         return path;
     }
 
+    public void add(final String as, final Object object) {
+        this.setHead(new Link(this.head, as, detach(object), true));
+        this.size++;
+    }
+
     public static DetachedPath detach(final Path path) {
-        return new DetachedPath(path);
+        return path instanceof DetachedPath ? (DetachedPath) path : new DetachedPath(path);
+    }
+
+    private static Object detach(final Object object) {
+        if (object instanceof DetachedElement || object instanceof DetachedProperty) {
+            return object;
+        } else if (object instanceof Vertex) {
+            return DetachedVertex.detach((Vertex) object);
+        } else if (object instanceof Edge) {
+            return DetachedEdge.detach((Edge) object);
+        } else if (object instanceof Property) {
+            return DetachedProperty.detach((Property) object);
+        } else {
+            return object;
+        }
     }
 }
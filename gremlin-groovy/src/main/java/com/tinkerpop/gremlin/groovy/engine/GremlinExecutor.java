@@ -29,6 +29,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Execute Gremlin scripts against a {@code ScriptEngine} instance.  It is designed to host any JSR-223 enabled
@@ -98,24 +99,43 @@ public class GremlinExecutor implements AutoCloseable {
     }
 
     public CompletableFuture<Object> eval(final String script, final Optional<String> language, final Bindings boundVars) {
-        final Bindings bindings = new SimpleBindings();
-        bindings.putAll(this.globalBindings);
-        bindings.putAll(boundVars);
-
         final String lang = language.orElse("gremlin-groovy");
 
         if (logger.isDebugEnabled())
             logger.debug("Preparing to evaluate script - {} - in thread [{}]", script, Thread.currentThread().getName());
 
-        // select the gremlin threadpool to execute the script evaluation in
+        return evaluate(script, boundVars, bindings -> {
+            if (logger.isDebugEnabled())
+                logger.debug("Evaluating script - {} - in thread [{}]", script, Thread.currentThread().getName());
+
+            return scriptEngines.eval(script, bindings, lang);
+        });
+    }
+
+    /**
+     * Apply a function to the bindings without going through a {@code ScriptEngine}.  The function is executed on
+     * the same thread pool as scripts, with the same timeout and the same callbacks before and after evaluation, and
+     * the bindings given to it contain the global bindings.
+     *
+     * @param function  the function to apply, typically one that was compiled ahead of time on the client
+     * @param boundVars the bindings to apply in addition to the global bindings
+     */
+    public CompletableFuture<Object> eval(final Function<Bindings, Object> function, final Bindings boundVars) {
+        return evaluate(function, boundVars, function::apply);
+    }
+
+    private CompletableFuture<Object> evaluate(final Object request, final Bindings boundVars,
+                                               final ThrowingFunction<Bindings, Object> evaluation) {
+        final Bindings bindings = new SimpleBindings();
+        bindings.putAll(this.globalBindings);
+        bindings.putAll(boundVars);
+
+        // select the gremlin threadpool to execute the evaluation in
         final AtomicBoolean abort = new AtomicBoolean(false);
         final CompletableFuture<Object> future = CompletableFuture.supplyAsync(() -> {
             try {
-                if (logger.isDebugEnabled())
-                    logger.debug("Evaluating script - {} - in thread [{}]", script, Thread.currentThread().getName());
-
                 beforeEval.accept(bindings);
-                final Object o = scriptEngines.eval(script, bindings, lang);
+                final Object o = evaluation.apply(bindings);
 
                 if (abort.get())
                     afterTimeout.accept(bindings);
@@ -129,7 +149,7 @@ public class GremlinExecutor implements AutoCloseable {
             }
         }, executorService);
 
-        scheduleTimeout(future, script, abort);
+        scheduleTimeout(future, request, abort);
 
         return future;
     }
@@ -157,7 +177,7 @@ public class GremlinExecutor implements AutoCloseable {
         scriptEngines.close();
     }
 
-    private void scheduleTimeout(final CompletableFuture<Object> evaluationFuture, final String script, final AtomicBoolean abort) {
+    private void scheduleTimeout(final CompletableFuture<Object> evaluationFuture, final Object script, final AtomicBoolean abort) {
         if (scriptEvaluationTimeout > 0) {
             // Schedule a timeout in the io threadpool for future execution - killing an eval is cheap
             final ScheduledFuture<?> sf = scheduledExecutorService.schedule(() -> {
@@ -384,6 +404,11 @@ public class GremlinExecutor implements AutoCloseable {
         }
     }
 
+    @FunctionalInterface
+    private interface ThrowingFunction<T, R> {
+        R apply(final T t) throws Exception;
+    }
+
     private static class EngineSettings {
         private List<String> imports;
         private List<String> staticImports;
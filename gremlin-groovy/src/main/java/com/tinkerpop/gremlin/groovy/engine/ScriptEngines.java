@@ -165,6 +165,13 @@ public class ScriptEngines implements AutoCloseable {
         }
     }
 
+    /**
+     * Get the {@code ScriptEngine} configured for a language.
+     */
+    public Optional<ScriptEngine> get(final String language) {
+        return Optional.ofNullable(scriptEngines.get(language));
+    }
+
     /**
      * List dependencies for those {@code ScriptEngine} objects that implement the {@link DependencyManager} interface.
      */
@@ -242,8 +249,10 @@ public class ScriptEngines implements AutoCloseable {
                 }
             }
 
+            final int classCacheSize = ((Number) config.getOrDefault("classCacheSize", GremlinGroovyScriptEngine.DEFAULT_CLASS_CACHE_SIZE)).intValue();
+            final boolean extractLiterals = (Boolean) config.getOrDefault("extractLiterals", false);
             return Optional.of((ScriptEngine) new GremlinGroovyScriptEngine(
-                    new DefaultImportCustomizerProvider(imports, staticImports), securityCustomizerProvider));
+                    new DefaultImportCustomizerProvider(imports, staticImports), securityCustomizerProvider, classCacheSize, extractLiterals));
         } else {
             final ScriptEngineManager manager = new ScriptEngineManager();
             return Optional.ofNullable(manager.getEngineByName(language));
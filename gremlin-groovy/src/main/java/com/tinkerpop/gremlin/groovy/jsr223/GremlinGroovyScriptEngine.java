@@ -34,13 +34,16 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.Reader;
 import java.io.Writer;
+import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -69,10 +72,29 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
         }
     };
 
+    public static final int DEFAULT_CLASS_CACHE_SIZE = 1000;
+
+    /**
+     * Script to generated Class map which is bounded by evicting the least recently used script.
+     */
+    private final ClassCache classMap;
+    private final AtomicLong classCacheHits = new AtomicLong(0l);
+    private final AtomicLong classCacheMisses = new AtomicLong(0l);
+
+    /**
+     * Whether the literals of a script are extracted so that scripts that only differ in literals share a class.
+     */
+    private final boolean extractLiterals;
+
     /**
-     * Script to generated Class map.
+     * The names of the methods of a script class which are registered as global closures on each evaluation.
      */
-    private ManagedConcurrentValueMap<String, Class> classMap = new ManagedConcurrentValueMap<>(ReferenceBundle.getSoftBundle());
+    private static final ClassValue<String[]> scriptMethodNames = new ClassValue<String[]>() {
+        @Override
+        protected String[] computeValue(final Class<?> scriptClass) {
+            return Stream.of(scriptClass.getMethods()).map(Method::getName).distinct().toArray(String[]::new);
+        }
+    };
 
     /**
      * Global closures map - this is used to simulate a single global functions namespace
@@ -107,9 +129,20 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
     }
 
     public GremlinGroovyScriptEngine(final ImportCustomizerProvider importCustomizerProvider, final SecurityCustomizerProvider securityCustomizerProvider) {
+        this(importCustomizerProvider, securityCustomizerProvider, DEFAULT_CLASS_CACHE_SIZE, false);
+    }
+
+    /**
+     * @param classCacheSize  the maximum number of compiled script classes to cache
+     * @param extractLiterals whether to replace the literals of scripts with variables (see {@link ParameterizedScript})
+     */
+    public GremlinGroovyScriptEngine(final ImportCustomizerProvider importCustomizerProvider, final SecurityCustomizerProvider securityCustomizerProvider,
+                                     final int classCacheSize, final boolean extractLiterals) {
         GremlinLoader.load();
         this.importCustomizerProvider = importCustomizerProvider;
         this.securityProvider = Optional.ofNullable(securityCustomizerProvider);
+        this.extractLiterals = extractLiterals;
+        this.classMap = new ClassCache(classCacheSize);
         createClassLoader();
     }
 
@@ -213,9 +246,23 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
         } catch (ClassCastException cce) { /*ignore.*/ }
 
         try {
-            final Class clazz = getScriptClass(script);
+            Map<String, Object> literals = Collections.emptyMap();
+            Class clazz = null;
+            if (this.extractLiterals) {
+                final ParameterizedScript parameterizedScript = ParameterizedScript.extract(script);
+                if (!parameterizedScript.getLiterals().isEmpty()) {
+                    try {
+                        clazz = getScriptClass(parameterizedScript.getScript());
+                        literals = parameterizedScript.getLiterals();
+                    } catch (Exception e) {
+                        // compile the script as provided so that errors refer to the original script
+                        clazz = null;
+                    }
+                }
+            }
+            if (null == clazz) clazz = getScriptClass(script);
             if (null == clazz) throw new ScriptException("Script class is null");
-            return eval(clazz, context);
+            return eval(clazz, context, literals);
         } catch (SyntaxException e) {
             throw new ScriptException(e.getMessage(), e.getSourceLocator(), e.getLine());
         } catch (Exception e) {
@@ -281,14 +328,40 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
         ensureSandbox();
 
         Class clazz = classMap.get(script);
-        if (clazz != null) return clazz;
+        if (clazz != null) {
+            classCacheHits.incrementAndGet();
+            return clazz;
+        }
 
+        classCacheMisses.incrementAndGet();
         clazz = loader.parseClass(script, generateScriptName());
         classMap.put(script, clazz);
         return clazz;
     }
 
+    /**
+     * The number of script evaluations and compilations that found their class in the cache.
+     */
+    public long getClassCacheHits() {
+        return this.classCacheHits.get();
+    }
+
+    /**
+     * The number of script evaluations and compilations that had to compile their class.
+     */
+    public long getClassCacheMisses() {
+        return this.classCacheMisses.get();
+    }
+
+    public int getClassCacheSize() {
+        return this.classMap.size();
+    }
+
     Object eval(final Class scriptClass, final ScriptContext context) throws ScriptException {
+        return eval(scriptClass, context, Collections.emptyMap());
+    }
+
+    Object eval(final Class scriptClass, final ScriptContext context, final Map<String, Object> literals) throws ScriptException {
         ensureSandbox();
 
         context.setAttribute("context", context, ScriptContext.ENGINE_SCOPE);
@@ -296,6 +369,8 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
         context.setAttribute("out", writer instanceof PrintWriter ? writer : new PrintWriter(writer), ScriptContext.ENGINE_SCOPE);
         final Binding binding = new Binding() {
             public Object getVariable(final String name) {
+                if (literals.containsKey(name))
+                    return literals.get(name);
                 synchronized (context) {
                     final int scope = context.getAttributesScope(name);
                     if (scope != -1) {
@@ -318,10 +393,9 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
 
         try {
             final Script scriptObject = InvokerHelper.createScript(scriptClass, binding);
-            Stream.of(scriptClass.getMethods()).forEach(m -> {
-                final String name = m.getName();
+            for (final String name : scriptMethodNames.get(scriptClass)) {
                 globalClosures.put(name, new MethodClosure(scriptObject, name));
-            });
+            }
 
             final MetaClass oldMetaClass = scriptObject.getMetaClass();
             scriptObject.setMetaClass(new DelegatingMetaClass(oldMetaClass) {
@@ -451,4 +525,58 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
         return buf.toString();
     }
 
-}
\ No newline at end of file
+
+    /**
+     * A bounded cache of script classes that does not lock on reads. Each read records the time of the access and the
+     * least recently accessed scripts are evicted when a put exceeds the bound. Evictions are serialized, but as a
+     * put follows the compilation of a script they are rare compared to reads.
+     */
+    private static final class ClassCache {
+        private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+        private final AtomicLong clock = new AtomicLong(0l);
+        private final int maximumSize;
+
+        private ClassCache(final int maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        private Class get(final String script) {
+            final Entry entry = this.entries.get(script);
+            if (null == entry)
+                return null;
+            entry.lastAccess = this.clock.incrementAndGet();
+            return entry.clazz;
+        }
+
+        private void put(final String script, final Class clazz) {
+            this.entries.put(script, new Entry(clazz, this.clock.incrementAndGet()));
+            if (this.entries.size() > this.maximumSize) {
+                synchronized (this) {
+                    while (this.entries.size() > this.maximumSize) {
+                        this.entries.entrySet().stream()
+                                .min((a, b) -> Long.compare(a.getValue().lastAccess, b.getValue().lastAccess))
+                                .ifPresent(eldest -> this.entries.remove(eldest.getKey(), eldest.getValue()));
+                    }
+                }
+            }
+        }
+
+        private int size() {
+            return this.entries.size();
+        }
+
+        private void clear() {
+            this.entries.clear();
+        }
+
+        private static final class Entry {
+            private final Class clazz;
+            private volatile long lastAccess;
+
+            private Entry(final Class clazz, final long lastAccess) {
+                this.clazz = clazz;
+                this.lastAccess = lastAccess;
+            }
+        }
+    }
+}
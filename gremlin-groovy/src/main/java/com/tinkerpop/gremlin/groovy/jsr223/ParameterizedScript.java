@@ -0,0 +1,324 @@
+package com.tinkerpop.gremlin.groovy.jsr223;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A script whose number and string literals are replaced by variables so that scripts that only differ in their
+ * literals share the same compiled class. The values of the literals are bound to the variables at evaluation.
+ * <p/>
+ * The extraction is conservative: literals used as property or method names, map keys, labels, case labels and
+ * default parameter values are left in place, and scripts with constructs where a variable can not stand in for a
+ * literal (class declarations, static members, annotations, triple-quoted, slashy and dollar-slashy strings) are not
+ * parameterized at all.
+ */
+public final class ParameterizedScript {
+
+    public static final String LITERAL_PREFIX = "__gremlinLiteral";
+
+    private static final String[] UNSUPPORTED_KEYWORDS = {"class", "interface", "enum", "trait", "static"};
+
+    private final String script;
+    private final Map<String, Object> literals;
+
+    private ParameterizedScript(final String script, final Map<String, Object> literals) {
+        this.script = script;
+        this.literals = literals;
+    }
+
+    /**
+     * The script with its literals replaced by variables.
+     */
+    public String getScript() {
+        return this.script;
+    }
+
+    /**
+     * The values of the extracted literals by variable name.
+     */
+    public Map<String, Object> getLiterals() {
+        return this.literals;
+    }
+
+    /**
+     * Extract the literals of the script. If the script can not be parameterized, the original script is returned
+     * without literals.
+     */
+    public static ParameterizedScript extract(final String script) {
+        if (script.contains(LITERAL_PREFIX))
+            return new ParameterizedScript(script, Collections.emptyMap());
+        try {
+            return new Extractor(script).extract();
+        } catch (final NotParameterizable e) {
+            return new ParameterizedScript(script, Collections.emptyMap());
+        }
+    }
+
+    /**
+     * Thrown by the {@link Extractor} to abandon the extraction of a script that can not be parameterized. A single
+     * instance without a stack trace is used as it only signals the outcome.
+     */
+    private static final class NotParameterizable extends RuntimeException {
+        private static final NotParameterizable INSTANCE = new NotParameterizable();
+
+        private NotParameterizable() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static class Extractor {
+        private final String source;
+        private final StringBuilder script;
+        private final Map<String, Object> literals = new HashMap<>();
+        private int position = 0;
+        // the last significant (non-whitespace, non-comment) character written
+        private char previous = 0;
+        // the open brackets, parentheses and braces
+        private final Deque<Character> brackets = new ArrayDeque<>();
+
+        private Extractor(final String source) {
+            this.source = source;
+            this.script = new StringBuilder(source.length());
+        }
+
+        private ParameterizedScript extract() {
+            while (this.position < this.source.length()) {
+                final char c = this.source.charAt(this.position);
+                if (c == '/' && this.peek(1) == '/') {
+                    this.copyUntil(this.lineEnd());
+                } else if (c == '/' && this.peek(1) == '*') {
+                    final int end = this.source.indexOf("*/", this.position + 2);
+                    if (end < 0) throw NotParameterizable.INSTANCE;
+                    this.copyUntil(end + 2);
+                } else if (c == '/') {
+                    // a slashy string can not be told apart from a division without parsing
+                    if (!isIdentifierPart(this.previous) && this.previous != ')' && this.previous != ']')
+                        throw NotParameterizable.INSTANCE;
+                    this.copySignificant(c);
+                } else if (c == '\'' || c == '"') {
+                    this.string(c);
+                } else if (Character.isDigit(c)) {
+                    this.number();
+                } else if (c == '@' || (c == '$' && this.peek(1) == '/')) {
+                    throw NotParameterizable.INSTANCE;
+                } else if (Character.isJavaIdentifierStart(c)) {
+                    this.identifier();
+                } else if (Character.isWhitespace(c)) {
+                    this.script.append(c);
+                    this.position++;
+                } else {
+                    this.copySignificant(c);
+                }
+            }
+            return this.literals.isEmpty() ?
+                    new ParameterizedScript(this.source, Collections.emptyMap()) :
+                    new ParameterizedScript(this.script.toString(), this.literals);
+        }
+
+        private void identifier() {
+            final int start = this.position;
+            while (this.position < this.source.length() && Character.isJavaIdentifierPart(this.source.charAt(this.position))) {
+                this.position++;
+            }
+            final String identifier = this.source.substring(start, this.position);
+            for (final String keyword : UNSUPPORTED_KEYWORDS) {
+                if (keyword.equals(identifier) && this.previous != '.')
+                    throw NotParameterizable.INSTANCE;
+            }
+            this.script.append(identifier);
+            this.previous = identifier.charAt(identifier.length() - 1);
+        }
+
+        private void string(final char quote) {
+            if (this.peek(1) == quote && this.peek(2) == quote)
+                throw NotParameterizable.INSTANCE;
+            final int start = this.position;
+            final StringBuilder value = new StringBuilder();
+            boolean gstring = false;
+            this.position++;
+            while (true) {
+                if (this.position >= this.source.length())
+                    throw NotParameterizable.INSTANCE;
+                final char c = this.source.charAt(this.position++);
+                if (c == quote) {
+                    break;
+                } else if (c == '\n') {
+                    throw NotParameterizable.INSTANCE;
+                } else if (c == '\\') {
+                    value.append(this.escape());
+                } else {
+                    if (c == '$' && quote == '"')
+                        gstring = true;
+                    value.append(c);
+                }
+            }
+            if (gstring || !this.isLiteralContext(start))
+                this.copyFrom(start, quote);
+            else
+                this.bind(value.toString());
+        }
+
+        private char escape() {
+            if (this.position >= this.source.length())
+                throw NotParameterizable.INSTANCE;
+            final char c = this.source.charAt(this.position++);
+            switch (c) {
+                case 'n':
+                    return '\n';
+                case 't':
+                    return '\t';
+                case 'r':
+                    return '\r';
+                case 'b':
+                    return '\b';
+                case 'f':
+                    return '\f';
+                case '\\':
+                case '\'':
+                case '"':
+                case '$':
+                    return c;
+                default:
+                    throw NotParameterizable.INSTANCE;
+            }
+        }
+
+        private void number() {
+            if (isIdentifierPart(this.previous) || this.previous == '.') {
+                this.position++;
+                this.script.append(this.source.charAt(this.position - 1));
+                this.previous = this.source.charAt(this.position - 1);
+                return;
+            }
+            final int start = this.position;
+            if (this.source.charAt(this.position) == '0' && this.position + 1 < this.source.length() && Character.isLetterOrDigit(this.peek(1))
+                    && Character.toLowerCase(this.peek(1)) != 'l' && Character.toLowerCase(this.peek(1)) != 'd'
+                    && Character.toLowerCase(this.peek(1)) != 'f' && Character.toLowerCase(this.peek(1)) != 'g'
+                    && Character.toLowerCase(this.peek(1)) != 'i')
+                throw NotParameterizable.INSTANCE; // hexadecimal, binary and octal literals
+            this.digits();
+            boolean decimal = false;
+            if (this.peek(0) == '.' && Character.isDigit(this.peek(1))) {
+                decimal = true;
+                this.position++;
+                this.digits();
+            }
+            if (Character.toLowerCase(this.peek(0)) == 'e') {
+                decimal = true;
+                this.position++;
+                if (this.peek(0) == '+' || this.peek(0) == '-')
+                    this.position++;
+                if (!Character.isDigit(this.peek(0)))
+                    throw NotParameterizable.INSTANCE;
+                this.digits();
+            }
+            final String digits = this.source.substring(start, this.position);
+            final char suffix = Character.toLowerCase(this.peek(0));
+            final Object value;
+            if (suffix == 'l' || suffix == 'i' || suffix == 'g' || suffix == 'd' || suffix == 'f') {
+                this.position++;
+                if (decimal && (suffix == 'l' || suffix == 'i'))
+                    throw NotParameterizable.INSTANCE;
+                value = suffix == 'l' ? Long.valueOf(digits) :
+                        suffix == 'i' ? Integer.valueOf(digits) :
+                                suffix == 'd' ? Double.valueOf(digits) :
+                                        suffix == 'f' ? Float.valueOf(digits) :
+                                                decimal ? new BigDecimal(digits) : new BigInteger(digits);
+            } else if (decimal) {
+                value = new BigDecimal(digits);
+            } else {
+                final BigInteger integer = new BigInteger(digits);
+                value = integer.bitLength() < 32 ? (Object) integer.intValue() : integer.bitLength() < 64 ? (Object) integer.longValue() : integer;
+            }
+            if (isIdentifierPart(this.peek(0)))
+                throw NotParameterizable.INSTANCE;
+
+            if (this.isLiteralContext(start))
+                this.bind(value);
+            else
+                this.copyFrom(start, this.source.charAt(this.position - 1));
+        }
+
+        private void digits() {
+            while (Character.isDigit(this.peek(0))) {
+                this.position++;
+            }
+            if (this.peek(0) == '_')
+                throw NotParameterizable.INSTANCE;
+        }
+
+        /**
+         * A literal can be replaced by a variable unless it is a property or method name, is followed by a colon
+         * (a map key, a label, a case label or a branch of a ternary) or is a default parameter value.
+         */
+        private boolean isLiteralContext(final int start) {
+            if (this.previous == '.' || this.isDefaultValue(start))
+                return false;
+            int next = this.position;
+            while (next < this.source.length() && Character.isWhitespace(this.source.charAt(next))) {
+                next++;
+            }
+            return next >= this.source.length() || this.source.charAt(next) != ':';
+        }
+
+        /**
+         * A literal assigned within parentheses is taken to be the default value of a method parameter, as in
+         * {@code def m(int a = 5)}.
+         */
+        private boolean isDefaultValue(final int start) {
+            if (this.previous != '=' || this.brackets.isEmpty() || this.brackets.peek() != '(')
+                return false;
+            int assignment = start - 1;
+            while (Character.isWhitespace(this.source.charAt(assignment))) {
+                assignment--;
+            }
+            // a comparison (==, !=, <=, >=) rather than an assignment
+            return assignment == 0 || "=!<>".indexOf(this.source.charAt(assignment - 1)) < 0;
+        }
+
+        private void bind(final Object value) {
+            final String variable = LITERAL_PREFIX + this.literals.size();
+            this.literals.put(variable, value);
+            this.script.append(variable);
+            this.previous = '0';
+        }
+
+        private void copyFrom(final int start, final char last) {
+            this.script.append(this.source, start, this.position);
+            this.previous = last;
+        }
+
+        private void copySignificant(final char c) {
+            if (c == '(' || c == '[' || c == '{')
+                this.brackets.push(c);
+            else if ((c == ')' || c == ']' || c == '}') && !this.brackets.isEmpty())
+                this.brackets.pop();
+            this.script.append(c);
+            this.previous = c;
+            this.position++;
+        }
+
+        private void copyUntil(final int end) {
+            this.script.append(this.source, this.position, end);
+            this.position = end;
+        }
+
+        private int lineEnd() {
+            final int end = this.source.indexOf('\n', this.position);
+            return end < 0 ? this.source.length() : end;
+        }
+
+        private char peek(final int offset) {
+            return this.position + offset < this.source.length() ? this.source.charAt(this.position + offset) : 0;
+        }
+
+        private static boolean isIdentifierPart(final char c) {
+            return c != 0 && Character.isJavaIdentifierPart(c);
+        }
+    }
+}
@@ -20,4 +20,8 @@ class GroovyDedupTestImpl extends DedupTest {
     public Traversal<Vertex, String> get_g_V_both_name_orderXa_bX_dedup() {
         g.V.both.value("name").order { a, b -> a.get() <=> b.get() }.dedup()
     }
+
+    public Traversal<Vertex, String> get_g_V_both_dedupX100_0_01X_name() {
+        g.V.both.dedup(100, 0.01d).value("name")
+    }
 }
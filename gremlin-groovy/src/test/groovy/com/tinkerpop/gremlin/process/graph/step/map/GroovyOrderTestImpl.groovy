@@ -19,4 +19,8 @@ class GroovyOrderTestImpl extends OrderTest {
     public Traversal<Vertex, String> get_g_V_orderXa_nameXb_nameX_name() {
         g.V.order { a, b -> a.get().value('name') <=> b.get().value('name') }.name
     }
+
+    public Traversal<Vertex, String> get_g_V_both_name_order_rangeX2_5X() {
+        g.V.both.name.order[2..5]
+    }
 }
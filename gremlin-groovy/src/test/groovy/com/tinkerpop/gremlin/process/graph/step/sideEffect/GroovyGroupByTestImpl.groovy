@@ -27,4 +27,8 @@ class GroovyGroupByTestImpl extends GroupByTest {
     public Traversal<Vertex, Map<String, Integer>> get_g_V_asXxX_out_groupByXname_sizeX_asXaX_jumpXx_loops_lt_2X_capXaX() {
         g.V().as("x").out().groupBy{ it.value('name') } { it } { it.size() }.as('a').jump("x") { it.loops < 2 }.cap("a");
     }
+
+    public Traversal<Vertex, Map<String, Integer>> get_g_V_both_both_groupByXname_1_sizeX() {
+        g.V.both.both.groupBy { it.value('name') } { 1 } { it.size() }
+    }
 }
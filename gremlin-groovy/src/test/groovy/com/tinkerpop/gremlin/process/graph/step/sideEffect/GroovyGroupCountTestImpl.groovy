@@ -31,4 +31,8 @@ class GroovyGroupCountTestImpl extends GroupCountTest {
     public Traversal<Vertex, Map<Object, Long>> get_g_V_asXxX_out_groupCountXnameX_asXaX_jumpXx_2X_capXaX() {
         g.V.as('x').out.groupCount{ it.value('name') }.as('a').jump('x', 2).cap('a')
     }
+
+    public Traversal<Vertex, Map<Object, Long>> get_g_V_both_both_groupCountXnameX() {
+        g.V.both.both.groupCount { it.value('name') }
+    }
 }
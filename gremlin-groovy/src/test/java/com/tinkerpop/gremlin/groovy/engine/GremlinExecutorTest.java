@@ -110,6 +110,45 @@ public class GremlinExecutorTest {
         assertFalse(failureCalled.get());
     }
 
+    @Test
+    public void shouldEvalFunctionWithGlobalAndLocalBindings() throws Exception {
+        final AtomicBoolean successCalled = new AtomicBoolean(false);
+        final Bindings g = new SimpleBindings();
+        g.put("x", 1);
+        final GremlinExecutor gremlinExecutor = GremlinExecutor.build().globalBindings(g)
+                .afterSuccess((b) -> successCalled.set(true)).create();
+        final Bindings b = new SimpleBindings();
+        b.put("y", 1);
+        assertEquals(2, gremlinExecutor.eval(bindings -> (Integer) bindings.get("x") + (Integer) bindings.get("y"), b).get());
+        assertTrue(successCalled.get());
+    }
+
+    @Test
+    public void shouldTimeoutFunction() throws Exception {
+        final AtomicBoolean timeoutCalled = new AtomicBoolean(false);
+        final GremlinExecutor gremlinExecutor = GremlinExecutor.build()
+                .scriptEvaluationTimeout(500)
+                .afterTimeout((b) -> timeoutCalled.set(true)).create();
+        try {
+            gremlinExecutor.eval(bindings -> {
+                try {
+                    Thread.sleep(1000);
+                } catch (InterruptedException ie) {
+                    throw new RuntimeException(ie);
+                }
+                return 10;
+            }, new SimpleBindings()).get();
+            fail();
+        } catch (Exception ex) {
+
+        }
+
+        // need to wait long enough for the function to complete
+        Thread.sleep(750);
+
+        assertTrue(timeoutCalled.get());
+    }
+
     @Test
     public void shouldCallFail() throws Exception {
         final AtomicBoolean timeoutCalled = new AtomicBoolean(false);
@@ -29,6 +29,7 @@ import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static com.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine.DEFAULT_CLASS_CACHE_SIZE;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -468,6 +469,65 @@ public class GremlinGroovyScriptEngineTest {
         }
     }
 
+    @Test
+    public void shouldCacheScriptClassesInABoundedCache() throws Exception {
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine(new DefaultImportCustomizerProvider(), null, 2, false);
+        assertEquals(2, engine.eval("1+1"));
+        assertEquals(2, engine.eval("1+1"));
+        assertEquals(1l, engine.getClassCacheMisses());
+        assertEquals(1l, engine.getClassCacheHits());
+
+        assertEquals(3, engine.eval("1+2"));
+        assertEquals(4, engine.eval("1+3"));
+        assertEquals(2, engine.getClassCacheSize());
+        assertEquals(2, engine.eval("1+1"));
+        assertEquals(4l, engine.getClassCacheMisses());
+    }
+
+    @Test
+    public void shouldShareScriptClassesOfScriptsThatOnlyDifferInLiterals() throws Exception {
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine(new DefaultImportCustomizerProvider(), null, DEFAULT_CLASS_CACHE_SIZE, true);
+        engine.put("g", TinkerFactory.createClassic());
+        assertEquals(2l, engine.eval("g.V().has('age', T.gt, 30).count().next()"));
+        assertEquals(1l, engine.eval("g.V().has('age', T.gt, 32).count().next()"));
+        assertEquals("marko", engine.eval("g.v(1).value(\"name\")"));
+        assertEquals("vadas", engine.eval("g.v(2).value(\"name\")"));
+        assertEquals(2, engine.getClassCacheSize());
+        assertEquals(2l, engine.getClassCacheHits());
+
+        // literals keep their groovy types
+        assertEquals(Long.class, engine.eval("1l").getClass());
+        assertEquals(java.math.BigDecimal.class, engine.eval("1.5").getClass());
+        assertEquals(Long.class, engine.eval("5000000000").getClass());
+        assertEquals(Arrays.asList(1, 2, 3), engine.eval("(1..3).toList()"));
+        assertEquals("marko", engine.eval("[name:'marko', 'age':29].name"));
+        assertEquals(29, engine.eval("['name':'marko', 'age':29].'age'"));
+        assertEquals("x1", engine.eval("def x = 1; \"x${x}\"").toString());
+        assertEquals(true, engine.eval("'abc' ==~ /a.c/"));
+        assertEquals("x 1 'a'", engine.eval("$/x 1 'a'/$").toString());
+        assertEquals(5, engine.eval("def m(int a = 5) { a }; m()"));
+        assertEquals(true, engine.eval("def n = 1; (n == 1)"));
+    }
+
+    @Test
+    public void shouldNotParameterizeLiteralsWhereAVariableCanNotBeUsed() {
+        assertTrue(ParameterizedScript.extract("class A { def x = 1 }").getLiterals().isEmpty());
+        assertTrue(ParameterizedScript.extract("x ==~ /a.c/").getLiterals().isEmpty());
+        assertTrue(ParameterizedScript.extract("v.'name'").getLiterals().isEmpty());
+        assertTrue(ParameterizedScript.extract("['name':x]").getLiterals().isEmpty());
+        assertTrue(ParameterizedScript.extract("\"x${x}\"").getLiterals().isEmpty());
+        assertTrue(ParameterizedScript.extract("0x1F").getLiterals().isEmpty());
+        assertTrue(ParameterizedScript.extract("$/x 1 'a'/$").getLiterals().isEmpty());
+        assertEquals("def m(int a = 5, String b = 'x') { a }; m(__gremlinLiteral0)",
+                ParameterizedScript.extract("def m(int a = 5, String b = 'x') { a }; m(1)").getScript());
+        assertEquals("x = __gremlinLiteral0; (x == __gremlinLiteral1)", ParameterizedScript.extract("x = 1; (x == 2)").getScript());
+
+        final ParameterizedScript script = ParameterizedScript.extract("g.V().has('age', T.gt, 30) // 1");
+        assertEquals("g.V().has(__gremlinLiteral0, T.gt, __gremlinLiteral1) // 1", script.getScript());
+        assertEquals("age", script.getLiterals().get("__gremlinLiteral0"));
+        assertEquals(30, script.getLiterals().get("__gremlinLiteral1"));
+    }
+
     public static class DenyAll extends GroovyValueFilter {
         public Object filter(final Object o) { throw new SecurityException("Denied!"); }
     }
@@ -1,6 +1,9 @@
 package com.tinkerpop.gremlin.server;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
 import com.tinkerpop.gremlin.groovy.engine.GremlinExecutor;
+import com.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
 import com.tinkerpop.gremlin.server.util.MetricManager;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.PooledByteBufAllocator;
@@ -19,6 +22,10 @@ import java.io.IOException;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import static com.codahale.metrics.MetricRegistry.name;
 
 /**
  * Start and stop Gremlin Server.
@@ -123,6 +130,7 @@ public class GremlinServer {
 
         settings.scriptEngines.forEach((k, v) -> gremlinExecutorBuilder.addEngineSettings(k, v.imports, v.staticImports, v.scripts, v.config));
         final GremlinExecutor gremlinExecutor = gremlinExecutorBuilder.create();
+        configureScriptCacheMetrics(gremlinExecutor);
 
         logger.info("Initialized GremlinExecutor and configured ScriptEngines.");
 
@@ -184,6 +192,28 @@ public class GremlinServer {
         settings.optionalGraphiteReporter().ifPresent(config -> metrics.addGraphiteReporter(config.host, config.port, config.prefix, config.interval));
     }
 
+    /**
+     * Expose the compiled script class cache of the gremlin-groovy engine.  The engine is looked up on each read as
+     * it is replaced when the script engines are reloaded.
+     */
+    private static void configureScriptCacheMetrics(final GremlinExecutor gremlinExecutor) {
+        final MetricRegistry registry = MetricManager.INSTANCE.getRegistry();
+        final Function<ToLongFunction<GremlinGroovyScriptEngine>, Gauge<Long>> gauge = f -> () -> gremlinExecutor.getScriptEngines().get("gremlin-groovy")
+                .filter(engine -> engine instanceof GremlinGroovyScriptEngine)
+                .map(engine -> f.applyAsLong((GremlinGroovyScriptEngine) engine)).orElse(0l);
+
+        // a previous server in the same jvm may have registered the gauges
+        final String hits = name(GremlinServer.class, "engine", "class-cache", "hits");
+        final String misses = name(GremlinServer.class, "engine", "class-cache", "misses");
+        final String size = name(GremlinServer.class, "engine", "class-cache", "size");
+        registry.remove(hits);
+        registry.remove(misses);
+        registry.remove(size);
+        MetricManager.INSTANCE.getGuage(gauge.apply(GremlinGroovyScriptEngine::getClassCacheHits), hits);
+        MetricManager.INSTANCE.getGuage(gauge.apply(GremlinGroovyScriptEngine::getClassCacheMisses), misses);
+        MetricManager.INSTANCE.getGuage(gauge.apply(GremlinGroovyScriptEngine::getClassCacheSize), size);
+    }
+
     private static void printHeader() {
         logger.info(getHeader());
     }
@@ -6,31 +6,40 @@ import com.tinkerpop.gremlin.driver.message.ResponseMessage;
 import com.tinkerpop.gremlin.driver.message.ResultCode;
 import com.tinkerpop.gremlin.driver.message.ResultType;
 import com.tinkerpop.gremlin.server.Settings;
+import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
 import io.netty.util.ReferenceCountUtil;
-import io.netty.util.concurrent.EventExecutorGroup;
-import io.netty.util.concurrent.Future;
 import org.apache.commons.lang.time.StopWatch;
 import org.javatuples.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.Callable;
+import java.util.Queue;
 import java.util.concurrent.TimeoutException;
 
 /**
+ * Iterates the results of a request and writes them to the client in batches of {@code resultIterationBatchSize}.
+ * The results are iterated on the executor of the handler (the gremlin pool) one batch at a time. The iteration
+ * pauses while the channel is not writable (i.e. the outbound buffer is above {@code writeBufferHighWaterMark}) and
+ * resumes once the channel is writable again, so a slow client does not have the whole result buffered on the server.
+ * The iteration is abandoned if the channel becomes inactive.
+ *
  * @author Stephen Mallette (http://stephen.genoprime.com)
  */
-public class IteratorHandler extends ChannelOutboundHandlerAdapter {
+public class IteratorHandler extends ChannelDuplexHandler {
     private static final Logger logger = LoggerFactory.getLogger(IteratorHandler.class);
 
     private final Settings settings;
 
+    // the results to iterate for the channel in the order they were written (only accessed by the handler executor)
+    private final Queue<ResultIteration> iterations = new ArrayDeque<>();
+    private boolean scheduled = false;
+
     public IteratorHandler(final Settings settings) {
         this.settings = settings;
     }
@@ -46,57 +55,140 @@ public class IteratorHandler extends ChannelOutboundHandlerAdapter {
                 // the batch size can be overriden by the request
                 final int resultIterationBatchSize = (Integer) requestMessage.optionalArgs(Tokens.ARGS_BATCH_SIZE).orElse(settings.resultIterationBatchSize);
 
-                // timer for the total serialization time
-                final StopWatch stopWatch = new StopWatch();
+                if (logger.isDebugEnabled())
+                    logger.debug("Preparing to iterate results from - {} - in thread [{}]", requestMessage, Thread.currentThread().getName());
 
-                final EventExecutorGroup executorService = ctx.executor();
-                final Future<?> iteration = executorService.submit((Callable<Void>) () -> {
-                    if (logger.isDebugEnabled())
-                        logger.debug("Preparing to iterate results from - {} - in thread [{}]", requestMessage, Thread.currentThread().getName());
+                this.iterations.add(new ResultIteration(requestMessage, itty, resultIterationBatchSize));
+                this.schedule(ctx);
+            } finally {
+                ReferenceCountUtil.release(msg);
+            }
 
-                    stopWatch.start();
+        } else {
+            ctx.write(msg, promise);
+        }
+    }
 
-                    List<Object> aggregate = new ArrayList<>(resultIterationBatchSize);
-                    while (itty.hasNext()) {
-                        aggregate.add(itty.next());
+    @Override
+    public void channelWritabilityChanged(final ChannelHandlerContext ctx) throws Exception {
+        if (ctx.channel().isWritable())
+            this.schedule(ctx);
+        ctx.fireChannelWritabilityChanged();
+    }
 
-                        // send back a page of results if batch size is met or if it's the end of the results being
-                        // iterated
-                        if (aggregate.size() == resultIterationBatchSize || !itty.hasNext()) {
-                            ctx.writeAndFlush(ResponseMessage.build(requestMessage)
-                                    .code(ResultCode.SUCCESS)
-                                    .result(aggregate)
-                                    .contents(ResultType.COLLECTION).create());
-                            aggregate = new ArrayList<>(resultIterationBatchSize);
-                        }
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+        if (!this.iterations.isEmpty()) {
+            logger.warn("Channel closed by client - abandoning the iteration of {} response(s)", this.iterations.size());
+            this.iterations.clear();
+        }
+        ctx.fireChannelInactive();
+    }
 
-                        stopWatch.split();
-                        if (stopWatch.getSplitTime() > settings.serializedResponseTimeout)
-                            throw new TimeoutException("Serialization of the entire response exceeded the serializeResponseTimeout setting");
+    /**
+     * Schedule the next batch on the handler executor so that other channels sharing the executor are served between
+     * batches.
+     */
+    private void schedule(final ChannelHandlerContext ctx) {
+        if (!this.scheduled) {
+            this.scheduled = true;
+            ctx.executor().execute(() -> {
+                this.scheduled = false;
+                this.iterate(ctx);
+            });
+        }
+    }
 
-                        stopWatch.unsplit();
-                    }
+    private void iterate(final ChannelHandlerContext ctx) {
+        final ResultIteration iteration = this.iterations.peek();
+        if (null == iteration)
+            return;
+        if (!ctx.channel().isActive()) {
+            this.iterations.clear();
+            return;
+        }
+        // wait for channelWritabilityChanged() and do not count the wait against the serialization timeout
+        if (!ctx.channel().isWritable()) {
+            iteration.pause();
+            return;
+        }
 
-                    return null;
-                });
+        boolean done;
+        try {
+            done = iteration.writeBatch(ctx);
+        } catch (Exception ex) {
+            final String errorMessage = String.format("Response iteration and serialization exceeded the configured threshold for request [%s] - %s", iteration.requestMessage, ex.getMessage());
+            logger.warn(errorMessage);
+            ctx.writeAndFlush(ResponseMessage.build(iteration.requestMessage).code(ResultCode.SERVER_ERROR_TIMEOUT).result(errorMessage).create());
+            done = true;
+        }
 
-                iteration.addListener(f -> {
-                    stopWatch.stop();
+        if (done) {
+            iteration.stopWatch.stop();
+            this.iterations.remove();
+            ctx.writeAndFlush(ResponseMessage.build(iteration.requestMessage).code(ResultCode.SUCCESS_TERMINATOR).create());
+        }
 
-                    if (!f.isSuccess()) {
-                        final String errorMessage = String.format("Response iteration and serialization exceeded the configured threshold for request [%s] - %s", msg, f.cause().getMessage());
-                        logger.warn(errorMessage);
-                        ctx.writeAndFlush(ResponseMessage.build(requestMessage).code(ResultCode.SERVER_ERROR_TIMEOUT).result(errorMessage).create());
-                    }
+        if (!this.iterations.isEmpty())
+            this.schedule(ctx);
+    }
 
-                    ctx.writeAndFlush(ResponseMessage.build(requestMessage).code(ResultCode.SUCCESS_TERMINATOR).create());
-                });
-            } finally {
-                ReferenceCountUtil.release(msg);
+    private class ResultIteration {
+        private final RequestMessage requestMessage;
+        private final Iterator itty;
+        private final int resultIterationBatchSize;
+
+        // timer for the total serialization time
+        private final StopWatch stopWatch = new StopWatch();
+        private boolean started = false;
+        private boolean paused = false;
+
+        private ResultIteration(final RequestMessage requestMessage, final Iterator itty, final int resultIterationBatchSize) {
+            this.requestMessage = requestMessage;
+            this.itty = itty;
+            this.resultIterationBatchSize = resultIterationBatchSize;
+        }
+
+        private void pause() {
+            if (this.started && !this.paused) {
+                this.stopWatch.suspend();
+                this.paused = true;
             }
+        }
 
-        } else {
-            ctx.write(msg, promise);
+        /**
+         * Send back a page of results if batch size is met or if it's the end of the results being iterated.
+         *
+         * @return whether all the results have been iterated
+         */
+        private boolean writeBatch(final ChannelHandlerContext ctx) throws TimeoutException {
+            if (!this.started) {
+                this.stopWatch.start();
+                this.started = true;
+            } else if (this.paused) {
+                this.stopWatch.resume();
+                this.paused = false;
+            }
+
+            final List<Object> aggregate = new ArrayList<>(this.resultIterationBatchSize);
+            while (this.itty.hasNext() && aggregate.size() < this.resultIterationBatchSize) {
+                aggregate.add(this.itty.next());
+
+                this.stopWatch.split();
+                if (this.stopWatch.getSplitTime() > settings.serializedResponseTimeout)
+                    throw new TimeoutException("Serialization of the entire response exceeded the serializeResponseTimeout setting");
+
+                this.stopWatch.unsplit();
+            }
+
+            if (!aggregate.isEmpty()) {
+                ctx.writeAndFlush(ResponseMessage.build(this.requestMessage)
+                        .code(ResultCode.SUCCESS)
+                        .result(aggregate)
+                        .contents(ResultType.COLLECTION).create());
+            }
+
+            return !this.itty.hasNext();
         }
     }
 }
@@ -20,6 +20,8 @@ import org.javatuples.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.script.SimpleBindings;
+
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -68,18 +70,22 @@ final class StandardOps {
 
         final SFunction<Graph, Traversal> traversal;
         try {
-            // deserialize the traversal and shove it into the bindings so that it can be executed within the
-            // scriptengine.  the scriptengine acts as a sandbox within which to execute the traversal.
             traversal = (SFunction<Graph, Traversal>) Serializer.deserializeObject((byte[]) args.get(Tokens.ARGS_GREMLIN));
-            bindings.put("____trvrslScrpt", traversal);
         } catch (Exception ex) {
             logger.warn(String.format("Exception processing a traversal on request [%s].", msg), ex);
             ctx.writeAndFlush(ResponseMessage.build(msg).code(ResultCode.SERVER_ERROR_TRAVERSAL_EVALUATION).result(ex.getMessage()).create());
             return;
         }
 
-        final String script = String.format("____trvrslScrpt.apply(%s)", args.get(Tokens.ARGS_GRAPH_NAME));
-        final CompletableFuture<Object> future = context.getGremlinExecutor().eval(script, bindings);
+        // the traversal is already compiled so apply it directly on the gremlin pool rather than evaluating a script
+        // that applies it.  the executor still enforces the timeout and manages the transactions around the request.
+        final String graphName = (String) args.get(Tokens.ARGS_GRAPH_NAME);
+        final CompletableFuture<Object> future = context.getGremlinExecutor().eval(b -> {
+            final Object graph = b.get(graphName);
+            if (!(graph instanceof Graph))
+                throw new IllegalArgumentException(String.format("The graph [%s] is not configured on the server", graphName));
+            return traversal.apply((Graph) graph);
+        }, new SimpleBindings(bindings));
         future.handle((v, t) -> timerContext.stop());
         future.thenAccept(o -> ctx.write(Pair.with(msg, convertToIterator(o))));
         future.exceptionally(se -> {
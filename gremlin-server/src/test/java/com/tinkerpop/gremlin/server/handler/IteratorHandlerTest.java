@@ -0,0 +1,127 @@
+package com.tinkerpop.gremlin.server.handler;
+
+import com.tinkerpop.gremlin.driver.Tokens;
+import com.tinkerpop.gremlin.driver.message.RequestMessage;
+import com.tinkerpop.gremlin.driver.message.ResponseMessage;
+import com.tinkerpop.gremlin.driver.message.ResultCode;
+import com.tinkerpop.gremlin.server.Settings;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.DefaultMessageSizeEstimator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.javatuples.Pair;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class IteratorHandlerTest {
+
+    @Test
+    public void shouldPauseWhileTheChannelIsNotWritableAndResumeOnceWritable() {
+        final FlushGate gate = new FlushGate();
+        final EmbeddedChannel channel = createChannel(gate);
+        final CountingIterator itty = new CountingIterator(5);
+
+        channel.writeAndFlush(Pair.with(createRequest(1), itty));
+        channel.runPendingTasks();
+
+        // each response is sized at 8 bytes so the third one crosses the high water mark of 16
+        assertFalse(channel.isWritable());
+        assertEquals(3, itty.count);
+        assertNull(channel.readOutbound());
+
+        // nothing more is iterated until the channel becomes writable again
+        channel.runPendingTasks();
+        assertEquals(3, itty.count);
+
+        gate.open(channel);
+        channel.runPendingTasks();
+        assertTrue(channel.isWritable());
+        assertEquals(5, itty.count);
+
+        final List<Object> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final ResponseMessage response = (ResponseMessage) channel.readOutbound();
+            assertEquals(ResultCode.SUCCESS, response.getCode());
+            results.addAll((List) response.getResult());
+        }
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), results);
+        assertEquals(ResultCode.SUCCESS_TERMINATOR, ((ResponseMessage) channel.readOutbound()).getCode());
+        assertNull(channel.readOutbound());
+    }
+
+    @Test
+    public void shouldAbandonAPausedIterationWhenTheChannelCloses() {
+        final FlushGate gate = new FlushGate();
+        final EmbeddedChannel channel = createChannel(gate);
+        final CountingIterator itty = new CountingIterator(5);
+
+        channel.writeAndFlush(Pair.with(createRequest(1), itty));
+        channel.runPendingTasks();
+        assertFalse(channel.isWritable());
+
+        channel.close();
+        channel.runPendingTasks();
+        assertEquals(3, itty.count);
+        assertNull(channel.readOutbound());
+    }
+
+    private static EmbeddedChannel createChannel(final FlushGate gate) {
+        final EmbeddedChannel channel = new EmbeddedChannel(gate, new IteratorHandler(Settings.read(Settings.class.getResourceAsStream("gremlin-server-integration.yaml"))));
+        channel.config().setMessageSizeEstimator(new DefaultMessageSizeEstimator(8));
+        channel.config().setWriteBufferLowWaterMark(8);
+        channel.config().setWriteBufferHighWaterMark(16);
+        return channel;
+    }
+
+    private static RequestMessage createRequest(final int batchSize) {
+        return RequestMessage.build(Tokens.OPS_EVAL).addArg(Tokens.ARGS_BATCH_SIZE, batchSize).create();
+    }
+
+    /**
+     * Holds back flushes so that written responses stay in the outbound buffer, like a client that does not read.
+     */
+    private static class FlushGate extends ChannelOutboundHandlerAdapter {
+        private boolean open = false;
+
+        @Override
+        public void flush(final ChannelHandlerContext ctx) throws Exception {
+            if (this.open)
+                ctx.flush();
+        }
+
+        private void open(final EmbeddedChannel channel) {
+            this.open = true;
+            channel.flush();
+        }
+    }
+
+    private static class CountingIterator implements Iterator<Integer> {
+        private final Iterator<Integer> itty;
+        private int count = 0;
+
+        private CountingIterator(final int size) {
+            this.itty = IntStream.range(0, size).iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.itty.hasNext();
+        }
+
+        @Override
+        public Integer next() {
+            this.count++;
+            return this.itty.next();
+        }
+    }
+}
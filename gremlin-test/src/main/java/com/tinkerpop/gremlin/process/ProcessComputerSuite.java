@@ -1,6 +1,7 @@
 package com.tinkerpop.gremlin.process;
 
 import com.tinkerpop.gremlin.AbstractGremlinSuite;
+import com.tinkerpop.gremlin.process.computer.ranking.DeltaPageRankVertexProgramTest;
 import com.tinkerpop.gremlin.process.computer.ranking.PageRankVertexProgramTest;
 import com.tinkerpop.gremlin.process.graph.step.filter.CyclicPathTest;
 import com.tinkerpop.gremlin.process.graph.step.filter.FilterTest;
@@ -103,7 +104,8 @@ public class ProcessComputerSuite extends AbstractGremlinSuite {
             TreeTest.JavaComputerTreeTest.class,
 
             // algorithms
-            PageRankVertexProgramTest.class
+            PageRankVertexProgramTest.class,
+            DeltaPageRankVertexProgramTest.class
     };
 
     /**
@@ -0,0 +1,58 @@
+package com.tinkerpop.gremlin.process.computer.ranking;
+
+import com.tinkerpop.gremlin.AbstractGremlinTest;
+import com.tinkerpop.gremlin.LoadGraphWith;
+import com.tinkerpop.gremlin.process.computer.ComputerResult;
+import com.tinkerpop.gremlin.process.computer.GraphComputer;
+import com.tinkerpop.gremlin.process.computer.ranking.pagerank.DeltaPageRankVertexProgram;
+import org.junit.Test;
+
+import static com.tinkerpop.gremlin.LoadGraphWith.GraphData.CLASSIC;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DeltaPageRankVertexProgramTest extends AbstractGremlinTest {
+
+    @Test
+    @LoadGraphWith(CLASSIC)
+    public void testDeltaPageRank() throws Exception {
+        final ComputerResult result = g.compute().program(DeltaPageRankVertexProgram.build().epsilon(0.00001d).create()).submit().get();
+        result.getGraph().V().forEach(v -> {
+            final String name = v.value("name");
+            final Double pageRank = v.value(DeltaPageRankVertexProgram.PAGE_RANK);
+            if (name.equals("marko"))
+                assertTrue(pageRank > 0.14 && pageRank < 0.16);
+            else if (name.equals("vadas"))
+                assertTrue(pageRank > 0.19 && pageRank < 0.20);
+            else if (name.equals("lop"))
+                assertTrue(pageRank > 0.40 && pageRank < 0.41);
+            else if (name.equals("josh"))
+                assertTrue(pageRank > 0.19 && pageRank < 0.20);
+            else if (name.equals("ripple"))
+                assertTrue(pageRank > 0.23 && pageRank < 0.24);
+            else if (name.equals("peter"))
+                assertTrue(pageRank > 0.14 && pageRank < 0.16);
+            else
+                throw new IllegalStateException("The following vertex should not exist in the graph: " + name);
+        });
+        // the classic graph is acyclic and thus, converges once the changes have traversed its longest path
+        assertTrue(result.getSideEffects().getIteration() < 10);
+    }
+
+    @Test
+    @LoadGraphWith(CLASSIC)
+    public void testDeltaPageRankWithPriors() throws Exception {
+        final ComputerResult result = g.compute().isolation(GraphComputer.Isolation.DIRTY_BSP)
+                .program(DeltaPageRankVertexProgram.build().priors(v -> v.value("name").equals("marko") ? 1.0d : 0.0d).create()).submit().get();
+        result.getGraph().V().forEach(v -> {
+            final String name = v.value("name");
+            final Double pageRank = v.value(DeltaPageRankVertexProgram.PAGE_RANK);
+            if (name.equals("marko"))
+                assertEquals(0.15d, pageRank, 0.0001d);
+            else if (name.equals("peter"))
+                assertEquals(0.0d, pageRank, 0.0001d);
+            else
+                assertTrue(pageRank > 0.0d);
+        });
+    }
+}
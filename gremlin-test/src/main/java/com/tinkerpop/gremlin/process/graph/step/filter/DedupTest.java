@@ -7,6 +7,7 @@ import com.tinkerpop.gremlin.structure.Vertex;
 import com.tinkerpop.gremlin.util.StreamFactory;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,6 +27,8 @@ public abstract class DedupTest extends AbstractGremlinTest {
 
     public abstract Traversal<Vertex, String> get_g_V_both_name_orderXa_bX_dedup();
 
+    public abstract Traversal<Vertex, String> get_g_V_both_dedupX100_0_01X_name();
+
     @Test
     @LoadGraphWith(CLASSIC)
     public void g_V_both_dedup_name() {
@@ -70,6 +73,17 @@ public abstract class DedupTest extends AbstractGremlinTest {
         assertFalse(traversal.hasNext());
     }
 
+    @Test
+    @LoadGraphWith(CLASSIC)
+    public void g_V_both_dedupX100_0_01X_name() {
+        final Traversal<Vertex, String> traversal = get_g_V_both_dedupX100_0_01X_name();
+        printTraversalForm(traversal);
+        final List<String> names = StreamFactory.stream(traversal).collect(Collectors.toList());
+        assertEquals(6, names.size());
+        assertTrue(names.containsAll(Arrays.asList("marko", "vadas", "lop", "josh", "ripple", "peter")));
+        assertFalse(traversal.hasNext());
+    }
+
     public static class JavaDedupTest extends DedupTest {
 
         public Traversal<Vertex, String> get_g_V_both_dedup_name() {
@@ -83,5 +97,9 @@ public abstract class DedupTest extends AbstractGremlinTest {
         public Traversal<Vertex, String> get_g_V_both_name_orderXa_bX_dedup() {
             return g.V().both().property("name").order((a, b) -> ((String) a.get().value()).compareTo((String) b.get().value())).dedup().value();
         }
+
+        public Traversal<Vertex, String> get_g_V_both_dedupX100_0_01X_name() {
+            return g.V().both().dedup(100, 0.01d).value("name");
+        }
     }
 }
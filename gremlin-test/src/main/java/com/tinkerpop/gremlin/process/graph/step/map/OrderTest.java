@@ -7,6 +7,7 @@ import com.tinkerpop.gremlin.structure.Vertex;
 import com.tinkerpop.gremlin.util.StreamFactory;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -25,6 +26,8 @@ public abstract class OrderTest extends AbstractGremlinTest {
 
     public abstract Traversal<Vertex, String> get_g_V_orderXa_nameXb_nameX_name();
 
+    public abstract Traversal<Vertex, String> get_g_V_both_name_order_rangeX2_5X();
+
     @Test
     @LoadGraphWith(CLASSIC)
     public void g_V_name_order() {
@@ -70,6 +73,15 @@ public abstract class OrderTest extends AbstractGremlinTest {
         assertEquals("vadas", names.get(5));
     }
 
+    @Test
+    @LoadGraphWith(CLASSIC)
+    public void g_V_both_name_order_rangeX2_5X() {
+        final Traversal<Vertex, String> traversal = get_g_V_both_name_order_rangeX2_5X();
+        printTraversalForm(traversal);
+        final List<String> names = StreamFactory.stream(traversal).collect(Collectors.toList());
+        assertEquals(Arrays.asList("josh", "lop", "lop", "lop"), names);
+    }
+
     public static class JavaOrderTest extends OrderTest {
 
         public Traversal<Vertex, String> get_g_V_name_order() {
@@ -83,5 +95,9 @@ public abstract class OrderTest extends AbstractGremlinTest {
         public Traversal<Vertex, String> get_g_V_orderXa_nameXb_nameX_name() {
             return g.V().order((a, b) -> a.get().<String>value("name").compareTo(b.get().<String>value("name"))).value("name");
         }
+
+        public Traversal<Vertex, String> get_g_V_both_name_order_rangeX2_5X() {
+            return g.V().both().<String>value("name").order().range(2, 5);
+        }
     }
 }
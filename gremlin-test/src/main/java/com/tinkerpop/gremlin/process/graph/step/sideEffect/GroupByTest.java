@@ -29,6 +29,8 @@ public abstract class GroupByTest extends AbstractGremlinTest {
 
     public abstract Traversal<Vertex, Map<String, Integer>> get_g_V_asXxX_out_groupByXname_sizeX_asXaX_jumpXx_loops_lt_2X_capXaX();
 
+    public abstract Traversal<Vertex, Map<String, Integer>> get_g_V_both_both_groupByXname_1_sizeX();
+
     @Test
     @LoadGraphWith(CLASSIC)
     public void g_V_groupByXa_nameX() {
@@ -91,6 +93,23 @@ public abstract class GroupByTest extends AbstractGremlinTest {
         });
     }
 
+    @Test
+    @LoadGraphWith(CLASSIC)
+    public void g_V_both_both_groupByXname_1_sizeX() {
+        final Traversal<Vertex, Map<String, Integer>> traversal = get_g_V_both_both_groupByXname_1_sizeX();
+        printTraversalForm(traversal);
+        final Map<String, Integer> map = traversal.next();
+        assertFalse(traversal.hasNext());
+        // the traversers that meet at a vertex are grouped in bulk
+        assertEquals(6, map.size());
+        assertEquals(Integer.valueOf(7), map.get("marko"));
+        assertEquals(Integer.valueOf(3), map.get("vadas"));
+        assertEquals(Integer.valueOf(7), map.get("lop"));
+        assertEquals(Integer.valueOf(7), map.get("josh"));
+        assertEquals(Integer.valueOf(3), map.get("ripple"));
+        assertEquals(Integer.valueOf(3), map.get("peter"));
+    }
+
     public static class JavaGroupByTest extends GroupByTest {
         public Traversal<Vertex, Map<String, List<Vertex>>> get_g_V_groupByXnameX() {
             return (Traversal) g.V().groupBy(v -> v.value("name"));
@@ -116,6 +135,10 @@ public abstract class GroupByTest extends AbstractGremlinTest {
         public Traversal<Vertex, Map<String, Integer>> get_g_V_asXxX_out_groupByXname_sizeX_asXaX_jumpXx_loops_lt_2X_capXaX() {
             return g.V().as("x").out().groupBy(v -> v.value("name"), v -> v, vv -> vv.size()).as("a").jump("x", t -> t.getLoops() < 2).cap("a");
         }
+
+        public Traversal<Vertex, Map<String, Integer>> get_g_V_both_both_groupByXname_1_sizeX() {
+            return (Traversal) g.V().both().both().groupBy(v -> v.value("name"), v -> 1, vv -> vv.size());
+        }
     }
 
     public static class JavaComputerGroupByTest extends GroupByTest {
@@ -144,6 +167,10 @@ public abstract class GroupByTest extends AbstractGremlinTest {
         public Traversal<Vertex, Map<String, Integer>> get_g_V_asXxX_out_groupByXname_sizeX_asXaX_jumpXx_loops_lt_2X_capXaX() {
             return g.V().as("x").out().groupBy(v -> v.value("name"), v -> v, vv -> vv.size()).as("a").jump("x", t -> t.getLoops() < 2).<Map<String, Integer>>cap("a").submit(g.compute());
         }
+
+        public Traversal<Vertex, Map<String, Integer>> get_g_V_both_both_groupByXname_1_sizeX() {
+            return (Traversal) g.V().both().both().groupBy(v -> v.value("name"), v -> 1, vv -> vv.size()).submit(g.compute());
+        }
     }
 
 }
@@ -33,6 +33,8 @@ public abstract class GroupCountTest extends AbstractGremlinTest {
 
     public abstract Traversal<Vertex, Map<Object, Long>> get_g_V_asXxX_out_groupCountXnameX_asXaX_jumpXx_2X_capXaX();
 
+    public abstract Traversal<Vertex, Map<Object, Long>> get_g_V_both_both_groupCountXnameX();
+
     @Test
     @LoadGraphWith(CLASSIC)
     public void g_V_outXcreatedX_groupCountXnameX() {
@@ -86,6 +88,23 @@ public abstract class GroupCountTest extends AbstractGremlinTest {
         });
     }
 
+    @Test
+    @LoadGraphWith(CLASSIC)
+    public void g_V_both_both_groupCountXnameX() {
+        final Traversal<Vertex, Map<Object, Long>> traversal = get_g_V_both_both_groupCountXnameX();
+        printTraversalForm(traversal);
+        final Map<Object, Long> map = traversal.next();
+        assertFalse(traversal.hasNext());
+        // the traversers that meet at a vertex are counted in bulk
+        assertEquals(6, map.size());
+        assertEquals(7l, map.get("marko").longValue());
+        assertEquals(3l, map.get("vadas").longValue());
+        assertEquals(7l, map.get("lop").longValue());
+        assertEquals(7l, map.get("josh").longValue());
+        assertEquals(3l, map.get("ripple").longValue());
+        assertEquals(3l, map.get("peter").longValue());
+    }
+
     public static class JavaGroupCountTest extends GroupCountTest {
         public Traversal<Vertex, Map<Object, Long>> get_g_V_outXcreatedX_groupCountXnameX() {
             return (Traversal) g.V().out("created").groupCount(v -> v.value("name"));
@@ -116,6 +135,10 @@ public abstract class GroupCountTest extends AbstractGremlinTest {
                     .groupCount(v -> v.value("name")).as("a")
                     .jump("x", 2).cap("a");
         }
+
+        public Traversal<Vertex, Map<Object, Long>> get_g_V_both_both_groupCountXnameX() {
+            return (Traversal) g.V().both().both().groupCount(v -> v.value("name"));
+        }
     }
 
     public static class JavaComputerGroupCountTest extends GroupCountTest {
@@ -146,5 +169,9 @@ public abstract class GroupCountTest extends AbstractGremlinTest {
                     .groupCount(v -> v.value("name")).as("a")
                     .jump("x", 2).<Map<Object, Long>>cap("a").submit(g.compute());
         }
+
+        public Traversal<Vertex, Map<Object, Long>> get_g_V_both_both_groupCountXnameX() {
+            return (Traversal) g.V().both().both().groupCount(v -> v.value("name")).submit(g.compute());
+        }
     }
 }
\ No newline at end of file
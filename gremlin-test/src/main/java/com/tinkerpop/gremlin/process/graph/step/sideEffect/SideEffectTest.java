@@ -7,6 +7,7 @@ import com.tinkerpop.gremlin.structure.Vertex;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
@@ -25,6 +26,10 @@ public abstract class SideEffectTest extends AbstractGremlinTest {
 
     public abstract Traversal<Vertex, String> get_g_v1_out_sideEffectXX_valueXnameX(final Object v1Id);
 
+    public abstract Traversal<Vertex, Vertex> get_g_V_out_aggregate_sideEffectXincr_cX();
+
+    public abstract Traversal<Vertex, String> get_g_V_out_valueXnameX_order_sideEffectXincr_cX();
+
     @Test
     @LoadGraphWith(CLASSIC)
     public void g_v1_sideEffectXstore_aX_valueXnameX() {
@@ -63,6 +68,31 @@ public abstract class SideEffectTest extends AbstractGremlinTest {
         assert_g_v1_out_sideEffectXincr_cX_valueXnameX(traversal);
     }
 
+    @Test
+    @LoadGraphWith(CLASSIC)
+    public void g_V_out_aggregate_sideEffectXincr_cX() {
+        final Traversal<Vertex, Vertex> traversal = get_g_V_out_aggregate_sideEffectXincr_cX();
+        printTraversalForm(traversal);
+        int counter = 0;
+        while (traversal.hasNext()) {
+            traversal.next();
+            counter++;
+        }
+        assertEquals(6, counter);
+        assertEquals(new Integer(6), traversal.memory().<List<Integer>>get("c").get().get(0));
+    }
+
+    @Test
+    @LoadGraphWith(CLASSIC)
+    public void g_V_out_valueXnameX_order_sideEffectXincr_cX() {
+        final Traversal<Vertex, String> traversal = get_g_V_out_valueXnameX_order_sideEffectXincr_cX();
+        printTraversalForm(traversal);
+        final List<String> names = new ArrayList<>();
+        traversal.forEachRemaining(names::add);
+        assertEquals(Arrays.asList("josh", "lop", "lop", "lop", "ripple", "vadas"), names);
+        assertEquals(new Integer(6), traversal.memory().<List<Integer>>get("c").get().get(0));
+    }
+
     public static class JavaSideEffectTest extends SideEffectTest {
         public Traversal<Vertex, String> get_g_v1_sideEffectXstore_aX_valueXnameX(final Object v1Id) {
             final List<Vertex> a = new ArrayList<>();
@@ -86,5 +116,25 @@ public abstract class SideEffectTest extends AbstractGremlinTest {
             return g.v(v1Id).out().sideEffect(traverser -> {
             }).value("name");
         }
+
+        public Traversal<Vertex, Vertex> get_g_V_out_aggregate_sideEffectXincr_cX() {
+            final List<Integer> c = new ArrayList<>();
+            c.add(0);
+            return g.V().with("c", c).out().aggregate().sideEffect(traverser -> {
+                Integer temp = c.get(0);
+                c.clear();
+                c.add(temp + 1);
+            });
+        }
+
+        public Traversal<Vertex, String> get_g_V_out_valueXnameX_order_sideEffectXincr_cX() {
+            final List<Integer> c = new ArrayList<>();
+            c.add(0);
+            return g.V().with("c", c).out().<String>value("name").order().sideEffect(traverser -> {
+                Integer temp = c.get(0);
+                c.clear();
+                c.add(temp + 1);
+            });
+        }
     }
 }
@@ -10,6 +10,9 @@ import com.tinkerpop.gremlin.AbstractGremlinTest;
 import com.tinkerpop.gremlin.algorithm.generator.Distribution;
 import com.tinkerpop.gremlin.algorithm.generator.DistributionGenerator;
 import com.tinkerpop.gremlin.algorithm.generator.PowerLawDistribution;
+import com.tinkerpop.gremlin.process.T;
+import com.tinkerpop.gremlin.process.Traversal;
+import com.tinkerpop.gremlin.process.graph.strategy.BatchStrategy;
 import org.apache.commons.lang.RandomStringUtils;
 import org.junit.Rule;
 import org.junit.Test;
@@ -18,9 +21,11 @@ import org.junit.rules.TestRule;
 import org.junit.runner.RunWith;
 
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -39,6 +44,8 @@ public class GraphReadPerformanceTest {
         public TestRule benchmarkRun = new BenchmarkRule();
 
         private Set<Object> ids = new HashSet<>();
+        private long outOutCount;
+        private long outHasCount;
 
         @Override
         protected void prepareGraph(final Graph g) throws Exception {
@@ -59,6 +66,48 @@ public class GraphReadPerformanceTest {
                     .inDistribution(inDist)
                     .expectedNumEdges(numVertices * 3).create();
             generator.generate();
+
+            // the expected traversal counts as determined by the structure API
+            outOutCount = 0;
+            outHasCount = 0;
+            for (final Object id : ids) {
+                final Iterator<Vertex> adjacents = g.v(id).out();
+                while (adjacents.hasNext()) {
+                    final Vertex adjacent = adjacents.next();
+                    outOutCount = outOutCount + adjacent.outE().count().next();
+                    if (adjacent.<Integer>value("oid") < 5000) outHasCount++;
+                }
+            }
+        }
+
+        @Test
+        @BenchmarkOptions(benchmarkRounds = 10, warmupRounds = 0, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+        public void readTraversalsPulled() throws Exception {
+            readTraversals(traversal -> traversal);
+        }
+
+        @Test
+        @BenchmarkOptions(benchmarkRounds = 10, warmupRounds = 0, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+        public void readTraversalsBatched() throws Exception {
+            readTraversals(traversal -> {
+                traversal.strategies().register(BatchStrategy.instance());
+                return traversal;
+            });
+        }
+
+        private void readTraversals(final Function<Traversal, Traversal> mode) {
+            assertEquals(10000, count(mode.apply(g.V().value("name"))));
+            assertEquals(outOutCount, count(mode.apply(g.V().out().out())));
+            assertEquals(outHasCount, count(mode.apply(g.V().out().has("oid", T.lt, 5000))));
+        }
+
+        private static long count(final Traversal traversal) {
+            long counter = 0;
+            while (traversal.hasNext()) {
+                traversal.next();
+                counter++;
+            }
+            return counter;
         }
 
         @Test
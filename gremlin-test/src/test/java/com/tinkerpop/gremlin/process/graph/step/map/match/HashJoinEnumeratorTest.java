@@ -0,0 +1,84 @@
+package com.tinkerpop.gremlin.process.graph.step.map.match;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class HashJoinEnumeratorTest {
+
+    private static final Set<String> SHARED = Collections.singleton("b");
+
+    @Test
+    public void shouldJoinLikeANestedLoopJoin() {
+        final List<Map<String, Object>> solutions = solutions(new HashJoinEnumerator<>(left(), right(), SHARED));
+        assertEquals(solutions(new InnerJoinEnumerator<>(new CrossJoinEnumerator<>(left(), right()), SHARED)).size(), solutions.size());
+        assertEquals(new HashSet<>(solutions(new InnerJoinEnumerator<>(new CrossJoinEnumerator<>(left(), right()), SHARED))), new HashSet<>(solutions));
+        assertEquals(4, solutions.size());
+        assertTrue(solutions.contains(solution(1, "x", 10)));
+        assertTrue(solutions.contains(solution(2, "x", 20)));
+        assertFalse(solutions.stream().anyMatch(solution -> solution.get("b").equals("y")));
+    }
+
+    @Test
+    public void shouldEnumerateLeftSolutionsLazily() {
+        final HashJoinEnumerator<Object> enumerator = new HashJoinEnumerator<>(left(), right(), SHARED);
+        assertEquals(0, enumerator.size());
+        assertFalse(enumerator.isComplete());
+        assertTrue(enumerator.visitSolution(0, (name, value) -> {
+        }));
+        // a = 1 and b = x join with both solutions of the right
+        assertEquals(2, enumerator.size());
+        assertFalse(enumerator.visitSolution(4, (name, value) -> {
+        }));
+        assertTrue(enumerator.isComplete());
+    }
+
+    @Test
+    public void shouldJoinNothingWithAnEmptyRight() {
+        final Enumerator<Object> empty = new IteratorEnumerator<>("b", Collections.emptyIterator());
+        assertTrue(solutions(new HashJoinEnumerator<>(left(), empty, SHARED)).isEmpty());
+    }
+
+    // a in {1, 2} and b in {x, y}
+    private static Enumerator<Object> left() {
+        return new CrossJoinEnumerator<>(
+                new IteratorEnumerator<>("a", Arrays.<Object>asList(1, 2).iterator()),
+                new IteratorEnumerator<>("b", Arrays.<Object>asList("x", "y").iterator()));
+    }
+
+    // b in {x, z} and c in {10, 20}
+    private static Enumerator<Object> right() {
+        return new CrossJoinEnumerator<>(
+                new IteratorEnumerator<>("b", Arrays.<Object>asList("x", "z").iterator()),
+                new IteratorEnumerator<>("c", Arrays.<Object>asList(10, 20).iterator()));
+    }
+
+    private static List<Map<String, Object>> solutions(final Enumerator<Object> enumerator) {
+        final List<Map<String, Object>> solutions = new ArrayList<>();
+        for (int i = 0; ; i++) {
+            final Map<String, Object> solution = new HashMap<>();
+            if (!enumerator.visitSolution(i, solution::put))
+                return solutions;
+            solutions.add(solution);
+        }
+    }
+
+    private static Map<String, Object> solution(final Object a, final Object b, final Object c) {
+        final Map<String, Object> solution = new HashMap<>();
+        solution.put("a", a);
+        solution.put("b", b);
+        solution.put("c", c);
+        return solution;
+    }
+}
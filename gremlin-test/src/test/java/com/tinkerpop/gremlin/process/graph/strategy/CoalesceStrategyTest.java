@@ -0,0 +1,44 @@
+package com.tinkerpop.gremlin.process.graph.strategy;
+
+import com.tinkerpop.gremlin.process.SimpleTraverser;
+import com.tinkerpop.gremlin.process.Step;
+import com.tinkerpop.gremlin.process.Traversal;
+import com.tinkerpop.gremlin.process.Traverser;
+import com.tinkerpop.gremlin.process.graph.GraphTraversal;
+import com.tinkerpop.gremlin.process.util.TraversalHelper;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class CoalesceStrategyTest {
+
+    @Test
+    public void shouldCoalesceABarrierThatNoFunctionFollows() {
+        assertEquals(Arrays.asList(3l, 1l), bulks(GraphTraversal.<String>of().order()));
+    }
+
+    @Test
+    public void shouldNotCoalesceABarrierThatAFunctionFollows() {
+        assertEquals(Arrays.asList(1l, 1l, 1l, 1l), bulks(GraphTraversal.<String>of().order().map(Traverser::get)));
+    }
+
+    @Test
+    public void shouldCoalesceABarrierAfterTheLastFunction() {
+        assertEquals(Arrays.asList(3l, 1l), bulks(GraphTraversal.<String>of().order().filter(t -> true).order()));
+    }
+
+    // the bulks of the traversers emitted by the last step for the starts a, a, a and b
+    private static List<Long> bulks(final Traversal<String, ?> traversal) {
+        traversal.strategies().apply();
+        traversal.addStarts(Arrays.<Traverser<String>>asList(new SimpleTraverser<>("a"), new SimpleTraverser<>("a"),
+                new SimpleTraverser<>("a"), new SimpleTraverser<>("b")).iterator());
+        final Step<?, ?> end = TraversalHelper.getEnd(traversal);
+        final List<Long> bulks = new ArrayList<>();
+        end.forEachRemaining(traverser -> bulks.add(traverser.getBulk()));
+        return bulks;
+    }
+}
@@ -0,0 +1,108 @@
+package com.tinkerpop.gremlin.process.util;
+
+import com.tinkerpop.gremlin.structure.Edge;
+import com.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CompactSetTest {
+
+    @Test
+    public void shouldStoreElementsByTypeAndId() {
+        final CompactSet set = new CompactSet();
+        assertFalse(set.isApproximate());
+        assertTrue(set.add(vertex(1l)));
+        assertFalse(set.add(vertex(1l)));
+        assertTrue(set.add(edge(1l)));
+        assertFalse(set.add(edge(1l)));
+        assertTrue(set.add(1l));
+        assertFalse(set.add(1l));
+        assertTrue(set.add(vertex("a")));
+        assertFalse(set.add(vertex("a")));
+        assertTrue(set.add(edge("a")));
+        assertTrue(set.add("a"));
+        assertFalse(set.add("a"));
+
+        set.clear();
+        assertTrue(set.add(vertex(1l)));
+        assertTrue(set.add("a"));
+    }
+
+    @Test
+    public void shouldNeverReportAnAddedObjectAsNewWhenApproximate() {
+        final CompactSet set = new CompactSet(1000, 0.01d);
+        assertTrue(set.isApproximate());
+        int falsePositives = 0;
+        for (long i = 0; i < 1000; i++) {
+            if (!set.add(vertex(i)))
+                falsePositives++;
+        }
+        // the expected number of false positives is well below 10
+        assertTrue(falsePositives < 50);
+        for (long i = 0; i < 1000; i++) {
+            assertFalse(set.add(vertex(i)));
+        }
+
+        set.clear();
+        assertTrue(set.add(vertex(0l)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotCreateApproximateSetWithInvalidProbability() {
+        new CompactSet(1000, 1.0d);
+    }
+
+    @Test
+    public void shouldSerializeCompactAndApproximateSets() throws Exception {
+        final CompactSet set = new CompactSet();
+        set.add(vertex(1l));
+        set.add(edge(2l));
+        set.add(3l);
+        set.add("a");
+        final CompactSet other = roundTrip(set);
+        assertFalse(other.add(vertex(1l)));
+        assertFalse(other.add(edge(2l)));
+        assertFalse(other.add(3l));
+        assertFalse(other.add("a"));
+        assertTrue(other.add(vertex(2l)));
+        assertTrue(roundTrip(new CompactSet()).add(1l));
+
+        final CompactSet approximate = new CompactSet(10, 0.01d);
+        approximate.add(vertex(1l));
+        final CompactSet otherApproximate = roundTrip(approximate);
+        assertTrue(otherApproximate.isApproximate());
+        assertFalse(otherApproximate.add(vertex(1l)));
+    }
+
+    private static CompactSet roundTrip(final CompactSet set) throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(set);
+        }
+        try (final ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (CompactSet) input.readObject();
+        }
+    }
+
+    private static Vertex vertex(final Object id) {
+        final Vertex vertex = mock(Vertex.class);
+        when(vertex.id()).thenReturn(id);
+        return vertex;
+    }
+
+    private static Edge edge(final Object id) {
+        final Edge edge = mock(Edge.class);
+        when(edge.id()).thenReturn(id);
+        return edge;
+    }
+}
@@ -15,20 +15,28 @@ import com.tinkerpop.gremlin.util.StreamFactory;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class TinkerGraphComputer implements GraphComputer {
 
+    private static final int WORKERS = Runtime.getRuntime().availableProcessors();
+    private static final int CHUNKS_PER_WORKER = 4;
+    private static final int PARTITIONS_PER_WORKER = 8;
+
     private Isolation isolation = Isolation.BSP;
     private VertexProgram vertexProgram;
     private final TinkerGraph graph;
     private TinkerSideEffects sideEffects;
-    private final TinkerMessageBoard messageBoard = new TinkerMessageBoard();
     private boolean executed = false;
+    private boolean incremental = false;
+    private int spillThreshold = -1;
     private final List<MapReduce> mapReduces = new ArrayList<>();
 
     public TinkerGraphComputer(final TinkerGraph graph) {
@@ -50,6 +58,28 @@ public class TinkerGraphComputer implements GraphComputer {
         return this;
     }
 
+    /**
+     * Execute the vertex program incrementally if it supports incremental execution. The vertices are seeded with
+     * the compute keys of the previous computation (from its view if it is still attached to the graph, else from the
+     * properties of the vertices) and only the vertices mutated since that computation are executed in the initial
+     * iteration. If there is no previous computation, the vertex program is executed over the whole graph.
+     * Mutations are only logged once an incremental computation has been submitted to the graph. From then on, every
+     * computation resets the log.
+     */
+    public GraphComputer incremental(final boolean incremental) {
+        this.incremental = incremental;
+        return this;
+    }
+
+    /**
+     * The number of map outputs of a mapreduce job that are buffered in memory before they are spilled to local disk.
+     * By default, the map outputs are never spilled.
+     */
+    public GraphComputer spillThreshold(final int spillThreshold) {
+        this.spillThreshold = spillThreshold;
+        return this;
+    }
+
     public Future<ComputerResult> submit() {
         if (this.executed)
             throw Exceptions.computerHasAlreadyBeenSubmittedAVertexProgram();
@@ -69,17 +99,44 @@ public class TinkerGraphComputer implements GraphComputer {
         return CompletableFuture.<ComputerResult>supplyAsync(() -> {
             final long time = System.currentTimeMillis();
             if (null != this.vertexProgram) {
+                // the mutations since the previous computation are logged until the next computation (if incremental computations are used)
+                final Set<Object> mutatedVertices = TinkerHelper.getMutationLog(this.graph);
+                if (this.incremental || null != mutatedVertices)
+                    TinkerHelper.setMutationLog(this.graph, ConcurrentHashMap.newKeySet());
+                final TinkerGraphView priorView = TinkerHelper.getGraphView(this.graph);
                 TinkerGraphView graphView = TinkerHelper.createGraphView(this.graph, this.isolation, this.vertexProgram.getElementComputeKeys());
+                // partition the active vertices into chunks where each chunk is executed by a single worker with its own messenger
+                final List<Vertex> vertices = graphView.getVertices();
+                final TinkerMessageBoard messageBoard = new TinkerMessageBoard<>(graphView, this.vertexProgram.getMessageCombiner(), WORKERS, Double.class.equals(this.vertexProgram.getMessageClass()));
+                if (this.incremental && null != mutatedVertices && this.vertexProgram.supportsIncrementalExecution() && graphView.seed(priorView) > 0) {
+                    messageBoard.setActiveVertices(mutatedVertices.stream().mapToInt(graphView::getOrdinal).filter(ordinal -> ordinal >= 0).sorted().toArray());
+                    this.sideEffects.setIncremental(true);
+                }
+                final int maxChunks = Math.max(1, Math.min(vertices.size(), WORKERS * CHUNKS_PER_WORKER));
+                final List<TinkerMessenger> messengers = new ArrayList<>(maxChunks);
+                for (int i = 0; i < maxChunks; i++) {
+                    messengers.add(new TinkerMessenger<>(messageBoard));
+                }
                 // execute the vertex program
                 this.vertexProgram.setup(this.sideEffects);
                 while (true) {
-                    StreamFactory.parallelStream(this.graph.V()).forEach(vertex ->
-                            this.vertexProgram.execute(vertex,
-                                    new TinkerMessenger(vertex, this.messageBoard, this.vertexProgram.getMessageCombiner()),
-                                    this.sideEffects));
+                    final int[] active = messageBoard.getActiveVertices();
+                    final int size = null == active ? vertices.size() : active.length;
+                    final int chunks = Math.max(1, Math.min(size, maxChunks));
+                    IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                        final TinkerMessenger messenger = messengers.get(chunk);
+                        final int end = (int) (((long) size * (chunk + 1)) / chunks);
+                        for (int i = (int) (((long) size * chunk) / chunks); i < end; i++) {
+                            final int ordinal = null == active ? i : active[i];
+                            final Vertex vertex = vertices.get(ordinal);
+                            messenger.setVertex(vertex, ordinal);
+                            this.vertexProgram.execute(vertex, messenger, this.sideEffects);
+                            messenger.completeVertex();
+                        }
+                    });
                     this.sideEffects.incrIteration();
                     graphView.completeIteration();
-                    this.messageBoard.completeIteration();
+                    messageBoard.completeIteration();
                     if (this.vertexProgram.terminate(this.sideEffects)) break;
                 }
                 this.sideEffects.complete();
@@ -89,15 +146,14 @@ public class TinkerGraphComputer implements GraphComputer {
 
             for (final MapReduce mapReduce : this.mapReduces) {
                 if (mapReduce.doStage(MapReduce.Stage.MAP)) {
-                    final TinkerMapEmitter mapEmitter = new TinkerMapEmitter(mapReduce.doStage(MapReduce.Stage.REDUCE));
+                    final TinkerMapEmitter mapEmitter = new TinkerMapEmitter(mapReduce, this.graph, WORKERS * PARTITIONS_PER_WORKER, this.spillThreshold);
                     StreamFactory.parallelStream(this.graph.V()).forEach(vertex -> mapReduce.map(vertex, mapEmitter));
-                    // no need to run combiners as this is single machine
                     if (mapReduce.doStage(MapReduce.Stage.REDUCE)) {
                         final TinkerReduceEmitter reduceEmitter = new TinkerReduceEmitter();
-                        mapEmitter.reduceMap.forEach((k, v) -> mapReduce.reduce(k, ((List) v).iterator(), reduceEmitter));
-                        mapReduce.addToSideEffects(this.sideEffects, reduceEmitter.resultList.iterator());
+                        mapEmitter.reduce(reduceEmitter);
+                        mapReduce.addToSideEffects(this.sideEffects, reduceEmitter.resultQueue.iterator());
                     } else {
-                        mapReduce.addToSideEffects(this.sideEffects, mapEmitter.mapList.iterator());
+                        mapReduce.addToSideEffects(this.sideEffects, mapEmitter.mapQueue.iterator());
                     }
                 }
             }
@@ -115,6 +171,9 @@ public class TinkerGraphComputer implements GraphComputer {
             throw new IllegalArgumentException("The computed graph provided is not a TinkerGraph: " + viewGraph.getClass());
 
         final TinkerGraphView graphView = TinkerHelper.getGraphView(((TinkerGraph) originalGraph));
+        // merging the computed keys is not a mutation of the graph
+        final Set<Object> mutatedVertices = TinkerHelper.getMutationLog((TinkerGraph) originalGraph);
+        TinkerHelper.setMutationLog((TinkerGraph) originalGraph, null);
         StreamFactory.parallelStream(viewGraph.V()).forEach(v1 -> {
             final Vertex v2 = originalGraph.v(v1.id());
             keyMapping.forEach((key1, key2) -> {
@@ -126,6 +185,7 @@ public class TinkerGraphComputer implements GraphComputer {
                 }
             });
         });
+        TinkerHelper.setMutationLog((TinkerGraph) originalGraph, mutatedVertices);
         TinkerHelper.dropView((TinkerGraph) originalGraph);
     }
 
@@ -3,57 +3,141 @@ package com.tinkerpop.gremlin.tinkergraph.process.computer;
 import com.tinkerpop.gremlin.process.computer.GraphComputer;
 import com.tinkerpop.gremlin.process.computer.VertexProgram;
 import com.tinkerpop.gremlin.structure.Property;
+import com.tinkerpop.gremlin.structure.Vertex;
 import com.tinkerpop.gremlin.structure.util.ElementHelper;
 import com.tinkerpop.gremlin.tinkergraph.structure.TinkerElement;
 import com.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
 import com.tinkerpop.gremlin.tinkergraph.structure.TinkerProperty;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 /**
+ * The {@link TinkerGraphView} assigns each vertex a dense ordinal when it is created and stores the compute keys
+ * of those vertices in columns (one per key) indexed by that ordinal. {@link Double} and {@link Long} values are
+ * stored in primitive arrays and all other values in an object array. For {@link GraphComputer.Isolation#BSP},
+ * each variable key has a get-column and a set-column which are swapped at the end of an iteration. The set-column
+ * records the ordinals it was written at so that only those values are copied into the next set-column (the values of
+ * vertices that were not executed, e.g. halted vertices, are already equal in both columns). Elements without an
+ * ordinal (e.g. edges) have their compute keys stored in a map.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class TinkerGraphView implements Serializable {
 
     protected final Map<String, VertexProgram.KeyType> computeKeys;
     protected final GraphComputer.Isolation isolation;
+    private final List<Vertex> vertices;
+    private final Map<Object, Integer> ordinals;
+    private final Map<String, ComputeColumn> getColumns = new HashMap<>();
+    private final Map<String, ComputeColumn> setColumns = new HashMap<>();
     private Map<Object, Map<String, Object>> getMap;
     private Map<Object, Map<String, Object>> setMap;
     private Map<Object, Map<String, Object>> constantMap;
     private boolean inUse = true;
 
-    public TinkerGraphView(final GraphComputer.Isolation isolation, final Map<String, VertexProgram.KeyType> computeKeys) {
+    public TinkerGraphView(final GraphComputer.Isolation isolation, final Map<String, VertexProgram.KeyType> computeKeys, final List<Vertex> vertices) {
         this.isolation = isolation;
-        this.constantMap = new HashMap<>();
+        this.constantMap = new ConcurrentHashMap<>();
         this.computeKeys = computeKeys;
+        this.vertices = Collections.unmodifiableList(vertices);
+        this.ordinals = new HashMap<>(vertices.size() * 2);
+        for (int i = 0; i < vertices.size(); i++) {
+            this.ordinals.put(vertices.get(i).id(), i);
+        }
         if (this.isolation.equals(GraphComputer.Isolation.BSP)) {
-            this.getMap = new HashMap<>();
-            this.setMap = new HashMap<>();
+            this.getMap = new ConcurrentHashMap<>();
+            this.setMap = new ConcurrentHashMap<>();
         } else {
-            this.getMap = this.setMap = new HashMap<>();
+            this.getMap = this.setMap = new ConcurrentHashMap<>();
         }
+        this.computeKeys.forEach((key, keyType) -> {
+            if (this.isolation.equals(GraphComputer.Isolation.BSP) && VertexProgram.KeyType.VARIABLE.equals(keyType)) {
+                this.getColumns.put(key, new ComputeColumn(vertices.size(), true));
+                this.setColumns.put(key, new ComputeColumn(vertices.size(), true));
+            } else {
+                final ComputeColumn column = new ComputeColumn(vertices.size(), false);
+                this.getColumns.put(key, column);
+                this.setColumns.put(key, column);
+            }
+        });
     }
 
     public void completeIteration() {
-        //  TODO: is this if statement needed?
         if (this.isolation.equals(GraphComputer.Isolation.BSP)) {
             this.getMap = this.setMap;
-            this.setMap = new HashMap<>();
+            this.setMap = new ConcurrentHashMap<>();
+            this.computeKeys.forEach((key, keyType) -> {
+                if (VertexProgram.KeyType.VARIABLE.equals(keyType)) {
+                    final ComputeColumn column = this.getColumns.get(key);
+                    this.getColumns.put(key, this.setColumns.get(key));
+                    column.copyFrom(this.getColumns.get(key));
+                    this.setColumns.put(key, column);
+                }
+            });
         }
     }
 
+    /**
+     * Seed the compute keys of the vertices with their values in the prior view (or with the properties of the
+     * vertices if there is no prior view) so a computation can resume from a previous computation.
+     *
+     * @return the number of vertices that were seeded with at least one value
+     */
+    public int seed(final TinkerGraphView priorView) {
+        return (int) IntStream.range(0, this.vertices.size()).parallel().filter(ordinal -> {
+            final TinkerElement vertex = (TinkerElement) this.vertices.get(ordinal);
+            boolean seeded = false;
+            for (final String key : this.computeKeys.keySet()) {
+                final Property property = null == priorView ?
+                        TinkerHelper.getProperties(vertex).getOrDefault(key, Property.empty()) :
+                        priorView.isComputeKey(key) ? priorView.getProperty(vertex, key) : Property.empty();
+                if (property.isPresent()) {
+                    this.getColumns.get(key).set(ordinal, property.value());
+                    this.setColumns.get(key).set(ordinal, property.value());
+                    seeded = true;
+                }
+            }
+            return seeded;
+        }).count();
+    }
+
+    /**
+     * Get the vertices of the view in ordinal order.
+     */
+    public List<Vertex> getVertices() {
+        return this.vertices;
+    }
+
+    /**
+     * Get the dense ordinal of the vertex with the provided id or -1 if the vertex was not in the graph when the view was created.
+     */
+    public int getOrdinal(final Object vertexId) {
+        final Integer ordinal = this.ordinals.get(vertexId);
+        return null == ordinal ? -1 : ordinal;
+    }
+
     public <V> Property<V> setProperty(final TinkerElement element, final String key, final V value) {
         ElementHelper.validateProperty(key, value);
         if (isComputeKey(key)) {
-            final TinkerProperty<V> property = new TinkerProperty<V>(element, key, value) {
-                public void remove() {
-                    removeProperty(element, key);
-                }
-            };
-            this.setValue(element.id(), key, property);
-            return property;
+            final int ordinal = element instanceof Vertex ? this.getOrdinal(element.id()) : -1;
+            if (ordinal >= 0) {
+                final ComputeColumn column = this.setColumns.get(key);
+                if (isConstantKey(key) && column.isPresent(ordinal))
+                    throw GraphComputer.Exceptions.constantComputeKeyHasAlreadyBeenSet(key, element.id());
+                column.set(ordinal, value);
+                return this.createProperty(element, key, value);
+            } else {
+                final TinkerProperty<V> property = this.createProperty(element, key, value);
+                this.setValue(element.id(), key, property);
+                return property;
+            }
         } else {
             throw GraphComputer.Exceptions.providedKeyIsNotAComputeKey(key);
         }
@@ -62,7 +146,12 @@ public class TinkerGraphView implements Serializable {
 
     public <V> Property<V> getProperty(final TinkerElement element, final String key) {
         if (isComputeKey(key)) {
-            return this.getValue(element.id(), key);
+            final int ordinal = element instanceof Vertex ? this.getOrdinal(element.id()) : -1;
+            if (ordinal >= 0) {
+                final V value = this.getColumns.get(key).get(ordinal);
+                return null == value ? Property.empty() : this.createProperty(element, key, value);
+            } else
+                return this.getValue(element.id(), key);
         } else {
             return TinkerHelper.getProperties(element).getOrDefault(key, Property.empty());
         }
@@ -71,7 +160,11 @@ public class TinkerGraphView implements Serializable {
 
     public void removeProperty(final TinkerElement element, final String key) {
         if (isComputeKey(key)) {
-            this.removeValue(element.id(), key);
+            final int ordinal = element instanceof Vertex ? this.getOrdinal(element.id()) : -1;
+            if (ordinal >= 0)
+                this.setColumns.get(key).remove(ordinal);
+            else
+                this.removeValue(element.id(), key);
         } else {
             throw GraphComputer.Exceptions.providedKeyIsNotAComputeKey(key);
         }
@@ -87,10 +180,17 @@ public class TinkerGraphView implements Serializable {
 
     //////////////////////
 
+    private <V> TinkerProperty<V> createProperty(final TinkerElement element, final String key, final V value) {
+        return new TinkerProperty<V>(element, key, value) {
+            public void remove() {
+                removeProperty(element, key);
+            }
+        };
+    }
+
     private void setValue(final Object id, final String key, final Object value) {
         final Map<Object, Map<String, Object>> map = isConstantKey(key) ? this.constantMap : this.setMap;
-        final Map<String, Object> nextMap = map.getOrDefault(id, new HashMap<>());
-        map.put(id, nextMap);
+        final Map<String, Object> nextMap = map.computeIfAbsent(id, k -> new ConcurrentHashMap<>());
         if (isConstantKey(key) && nextMap.containsKey(key))
             throw GraphComputer.Exceptions.constantComputeKeyHasAlreadyBeenSet(key, id);
         nextMap.put(key, value);
@@ -128,4 +228,144 @@ public class TinkerGraphView implements Serializable {
         return VertexProgram.KeyType.VARIABLE.equals(this.computeKeys.get(key));
     }*/
 
-}
\ No newline at end of file
+    /**
+     * A column of compute key values indexed by vertex ordinal. The value arrays are allocated on first use of their
+     * type. Each ordinal is only written by the worker executing that vertex and as such, writes do not contend. If
+     * the column tracks changes, the first write to an ordinal appends the ordinal to the changed ordinals.
+     */
+    private static class ComputeColumn implements Serializable {
+
+        private static final byte ABSENT = 0;
+        private static final byte DOUBLE = 1;
+        private static final byte LONG = 2;
+        private static final byte OBJECT = 3;
+
+        private final byte[] types;
+        private final boolean[] changed;
+        private final int[] changedOrdinals;
+        private final AtomicInteger changedSize;
+        private volatile double[] doubles;
+        private volatile long[] longs;
+        private volatile Object[] objects;
+
+        public ComputeColumn(final int size, final boolean trackChanges) {
+            this.types = new byte[size];
+            this.changed = trackChanges ? new boolean[size] : null;
+            this.changedOrdinals = trackChanges ? new int[size] : null;
+            this.changedSize = trackChanges ? new AtomicInteger(0) : null;
+        }
+
+        public boolean isPresent(final int ordinal) {
+            return ABSENT != this.types[ordinal];
+        }
+
+        public <V> V get(final int ordinal) {
+            switch (this.types[ordinal]) {
+                case DOUBLE:
+                    return (V) Double.valueOf(this.doubles[ordinal]);
+                case LONG:
+                    return (V) Long.valueOf(this.longs[ordinal]);
+                case OBJECT:
+                    return (V) this.objects[ordinal];
+                default:
+                    return null;
+            }
+        }
+
+        public void set(final int ordinal, final Object value) {
+            this.change(ordinal);
+            if (value instanceof Double) {
+                this.doubles()[ordinal] = (Double) value;
+                this.types[ordinal] = DOUBLE;
+            } else if (value instanceof Long) {
+                this.longs()[ordinal] = (Long) value;
+                this.types[ordinal] = LONG;
+            } else {
+                this.objects()[ordinal] = value;
+                this.types[ordinal] = OBJECT;
+            }
+        }
+
+        public void remove(final int ordinal) {
+            this.change(ordinal);
+            if (OBJECT == this.types[ordinal])
+                this.objects[ordinal] = null;
+            this.types[ordinal] = ABSENT;
+        }
+
+        /**
+         * Copy the values the provided column changed since its last copy. Both columns must have been equal before
+         * those changes. The changes recorded by both columns are reset.
+         */
+        public void copyFrom(final ComputeColumn column) {
+            final int size = column.changedSize.get();
+            for (int i = 0; i < size; i++) {
+                final int ordinal = column.changedOrdinals[i];
+                final byte type = column.types[ordinal];
+                if (OBJECT == this.types[ordinal] && OBJECT != type)
+                    this.objects[ordinal] = null;
+                if (DOUBLE == type)
+                    this.doubles()[ordinal] = column.doubles[ordinal];
+                else if (LONG == type)
+                    this.longs()[ordinal] = column.longs[ordinal];
+                else if (OBJECT == type)
+                    this.objects()[ordinal] = column.objects[ordinal];
+                this.types[ordinal] = type;
+                column.changed[ordinal] = false;
+            }
+            column.changedSize.set(0);
+            this.resetChanges();
+        }
+
+        private void change(final int ordinal) {
+            if (null != this.changed && !this.changed[ordinal]) {
+                this.changed[ordinal] = true;
+                this.changedOrdinals[this.changedSize.getAndIncrement()] = ordinal;
+            }
+        }
+
+        private void resetChanges() {
+            final int size = this.changedSize.get();
+            for (int i = 0; i < size; i++) {
+                this.changed[this.changedOrdinals[i]] = false;
+            }
+            this.changedSize.set(0);
+        }
+
+        private double[] doubles() {
+            double[] doubles = this.doubles;
+            if (null == doubles) {
+                synchronized (this) {
+                    if (null == this.doubles)
+                        this.doubles = new double[this.types.length];
+                    doubles = this.doubles;
+                }
+            }
+            return doubles;
+        }
+
+        private long[] longs() {
+            long[] longs = this.longs;
+            if (null == longs) {
+                synchronized (this) {
+                    if (null == this.longs)
+                        this.longs = new long[this.types.length];
+                    longs = this.longs;
+                }
+            }
+            return longs;
+        }
+
+        private Object[] objects() {
+            Object[] objects = this.objects;
+            if (null == objects) {
+                synchronized (this) {
+                    if (null == this.objects)
+                        this.objects = new Object[this.types.length];
+                    objects = this.objects;
+                }
+            }
+            return objects;
+        }
+    }
+}
@@ -1,31 +1,185 @@
 package com.tinkerpop.gremlin.tinkergraph.process.computer;
 
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
 import com.tinkerpop.gremlin.process.computer.MapReduce;
-import com.tinkerpop.gremlin.process.util.MapHelper;
+import com.tinkerpop.gremlin.structure.Edge;
+import com.tinkerpop.gremlin.structure.Graph;
+import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.structure.io.kryo.GremlinKryo;
 import org.javatuples.Pair;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
 
 /**
+ * The map emitter is shared by the workers of the map stage and is thread-safe. If the mapreduce job has no reduce
+ * stage, the emitted key/values are queued. Otherwise, they are grouped by key into partitions (by the hash of the
+ * key) that are reduced in parallel. If the mapreduce job has a combine stage, the values of a key are combined
+ * whenever {@code COMBINE_BATCH} of them are buffered. If a spill threshold is set, a partition that buffers more
+ * values than its share of the threshold writes them to a Kryo-encoded run on local disk. Spilled vertices and edges
+ * are written as references (their id) and are read back as the elements of the graph.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 class TinkerMapEmitter<K, V> implements MapReduce.MapEmitter<K, V> {
 
-    public Map<K, List<V>> reduceMap = new HashMap<>();
-    public List<Pair<K, V>> mapList = new ArrayList();
+    private static final int COMBINE_BATCH = 64;
+
+    public Queue<Pair<K, V>> mapQueue = new ConcurrentLinkedQueue<>();
     private final boolean doReduce;
+    private final MapReduce<K, V, ?, ?, ?> mapReduce;
+    private final boolean doCombine;
+    private final Graph graph;
+    private final Partition[] partitions;
+    private final int partitionThreshold;
+
+    /**
+     * @param spillThreshold the number of values buffered in memory before they are spilled to disk (if negative, the
+     *                       values are never spilled)
+     */
+    public TinkerMapEmitter(final MapReduce<K, V, ?, ?, ?> mapReduce, final Graph graph, final int partitions, final int spillThreshold) {
+        this.mapReduce = mapReduce;
+        this.doReduce = mapReduce.doStage(MapReduce.Stage.REDUCE);
+        this.doCombine = mapReduce.doStage(MapReduce.Stage.COMBINE);
+        this.graph = graph;
+        this.partitions = new TinkerMapEmitter.Partition[this.doReduce ? partitions : 0];
+        for (int i = 0; i < this.partitions.length; i++) {
+            this.partitions[i] = new Partition();
+        }
+        this.partitionThreshold = spillThreshold < 0 ? -1 : Math.max(1, spillThreshold / partitions);
+    }
+
+    public void emit(final K key, final V value) {
+        if (!this.doReduce) {
+            this.mapQueue.add(new Pair<>(key, value));
+            return;
+        }
+        final Partition partition = this.partitions[Math.floorMod(Objects.hashCode(key), this.partitions.length)];
+        final List<V> combine;
+        synchronized (partition) {
+            combine = partition.add(key, value);
+        }
+        // combine outside of the lock as the combined values are emitted back to the partitions
+        if (null != combine)
+            this.mapReduce.combine(key, combine.iterator(), (k, v) -> this.emit((K) k, (V) v));
+    }
+
+    /**
+     * Reduce the partitions in parallel. The spilled runs are deleted once their partition is reduced.
+     */
+    public void reduce(final MapReduce.ReduceEmitter reduceEmitter) {
+        IntStream.range(0, this.partitions.length).parallel().forEach(i -> {
+            this.partitions[i].reduce(reduceEmitter);
+            this.partitions[i] = null;
+        });
+    }
+
+    private class Partition {
+        private Map<K, List<V>> values = new HashMap<>();
+        private int size = 0;
+        private File spill;
+        private Kryo kryo;
+        private Output output;
+
+        /**
+         * @return the values of the key if they are to be combined
+         */
+        private List<V> add(final K key, final V value) {
+            final List<V> list = this.values.computeIfAbsent(key, k -> new ArrayList<>());
+            list.add(value);
+            this.size++;
+            if (doCombine && list.size() >= COMBINE_BATCH) {
+                this.size = this.size - list.size();
+                return this.values.remove(key);
+            }
+            if (partitionThreshold >= 0 && this.size > partitionThreshold)
+                this.spill();
+            return null;
+        }
 
-    public TinkerMapEmitter(final boolean doReduce) {
-        this.doReduce = doReduce;
+        private void spill() {
+            try {
+                if (null == this.spill) {
+                    this.spill = File.createTempFile("tinkergraph-mapreduce-", ".kryo");
+                    this.spill.deleteOnExit();
+                    this.kryo = createKryo(graph);
+                    this.output = new Output(new FileOutputStream(this.spill));
+                }
+                for (final Map.Entry<K, List<V>> entry : this.values.entrySet()) {
+                    this.kryo.writeClassAndObject(this.output, entry.getKey());
+                    this.output.writeInt(entry.getValue().size(), true);
+                    for (final V value : entry.getValue()) {
+                        this.kryo.writeClassAndObject(this.output, value);
+                    }
+                }
+                this.output.flush();
+                this.values = new HashMap<>();
+                this.size = 0;
+            } catch (final IOException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+
+        private void reduce(final MapReduce.ReduceEmitter reduceEmitter) {
+            final Map<K, List<V>> values;
+            if (null == this.spill)
+                values = this.values;
+            else {
+                values = new HashMap<>();
+                this.output.close();
+                try (final Input input = new Input(new FileInputStream(this.spill))) {
+                    while (!input.eof()) {
+                        final List<V> list = values.computeIfAbsent((K) this.kryo.readClassAndObject(input), k -> new ArrayList<>());
+                        for (int i = input.readInt(true); i > 0; i--) {
+                            list.add((V) this.kryo.readClassAndObject(input));
+                        }
+                    }
+                } catch (final IOException e) {
+                    throw new IllegalStateException(e.getMessage(), e);
+                } finally {
+                    this.spill.delete();
+                }
+                this.values.forEach((key, list) -> values.computeIfAbsent(key, k -> new ArrayList<>()).addAll(list));
+            }
+            values.forEach((key, list) -> mapReduce.reduce(key, list.iterator(), reduceEmitter));
+        }
     }
 
-    public void emit(K key, V value) {
-        if (this.doReduce)
-            MapHelper.incr(this.reduceMap, key, value);
-        else
-            this.mapList.add(new Pair<>(key, value));
+    private static Kryo createKryo(final Graph graph) {
+        final Kryo kryo = GremlinKryo.build().create().createKryo();
+        // the keys and values of a mapreduce job are not limited to the classes registered with gremlin kryo
+        kryo.setRegistrationRequired(false);
+        kryo.register(Vertex.class, new Serializer<Vertex>() {
+            public void write(final Kryo kryo, final Output output, final Vertex vertex) {
+                kryo.writeClassAndObject(output, vertex.id());
+            }
+
+            public Vertex read(final Kryo kryo, final Input input, final Class<Vertex> vertexClass) {
+                return graph.v(kryo.readClassAndObject(input));
+            }
+        });
+        kryo.register(Edge.class, new Serializer<Edge>() {
+            public void write(final Kryo kryo, final Output output, final Edge edge) {
+                kryo.writeClassAndObject(output, edge.id());
+            }
+
+            public Edge read(final Kryo kryo, final Input input, final Class<Edge> edgeClass) {
+                return graph.e(kryo.readClassAndObject(input));
+            }
+        });
+        return kryo;
     }
 }
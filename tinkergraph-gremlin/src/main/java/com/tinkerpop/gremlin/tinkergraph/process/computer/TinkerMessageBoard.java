@@ -1,20 +1,490 @@
 package com.tinkerpop.gremlin.tinkergraph.process.computer;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Queue;
+import com.tinkerpop.gremlin.process.computer.DoubleMessageCombiner;
+import com.tinkerpop.gremlin.process.computer.MessageCombiner;
+import com.tinkerpop.gremlin.process.computer.MessageType;
+import com.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
 
 /**
+ * The message board stores the inboxes in arrays indexed by the dense vertex ordinals of the {@link TinkerGraphView}.
+ * Local messages are written by the sending vertex into its own slot and as such, are only ever touched by the
+ * worker executing that vertex. If they are not transformed by an edge function, they are combined in that slot.
+ * Global messages are written into the {@link WorkerBuffer} of the sending worker (partitioned by destination) and
+ * are merged into the inboxes at the superstep barrier. The {@link MessageCombiner} (if present) is applied both at
+ * send time and at merge time. If the messages are doubles, they are stored in primitive arrays and the combiner
+ * (if present) is applied in place at merge time. The inbox arrays are reused across iterations and only the slots of
+ * the senders and receivers of the previous iteration are cleared.
+ * <p/>
+ * The message board also maintains the active vertices. Once a vertex has voted to halt, it is only executed again
+ * when it receives a message. If no vertex has halted, all vertices are active.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 class TinkerMessageBoard<M> {
 
-    // Map<VertexId, MessageQueue>
-    public Map<Object, Queue<M>> sendMessages = new HashMap<>();
-    public Map<Object, Queue<M>> receiveMessages = new HashMap<>();
+    private final TinkerGraphView graphView;
+    private final Optional<MessageCombiner<M>> combiner;
+    private final int partitions;
+    private final int partitionSize;
+    private final List<WorkerBuffer> workerBuffers = new ArrayList<>();
+    private final boolean doubleMessages;
+    private final DoubleMessageCombiner doubleCombiner;
+
+    // Object[VertexOrdinal] = List<M> for local messages (stored at the sender)
+    private Object[] sendLocalMessages;
+    private Object[] receiveLocalMessages;
+    // Object[VertexOrdinal] = M if combined, else List<M> for global messages (stored at the receiver)
+    private Object[] receiveGlobalMessages;
+    // the equivalent primitive slots when the messages are doubles
+    private DoubleSlots sendLocalDoubles;
+    private DoubleSlots receiveLocalDoubles;
+    private DoubleSlots receiveGlobalDoubles;
+
+    private static final byte HALTED = 1;
+    private static final byte SCHEDULED = 2;
+
+    // the ordinals of the vertices that sent local messages in the previous iteration (may contain repeats)
+    private int[] localSenders = new int[16];
+    private int localSendersSize = 0;
+
+    // the ordinals of the vertices to execute in the current iteration (null if all vertices are active)
+    private int[] activeVertices = null;
+    private final byte[] states;
+    // int[Partition][] = the ordinals of the vertices that received global messages at the last merge
+    private final int[][] receivers;
+    private final int[] receiverSizes;
+
+    public TinkerMessageBoard(final TinkerGraphView graphView, final Optional<MessageCombiner<M>> combiner, final int workers, final boolean doubleMessages) {
+        final List<Vertex> vertices = graphView.getVertices();
+        this.graphView = graphView;
+        this.combiner = combiner;
+        this.partitions = Math.max(1, workers);
+        this.partitionSize = Math.max(1, (vertices.size() + this.partitions - 1) / this.partitions);
+        this.sendLocalMessages = new Object[vertices.size()];
+        this.receiveLocalMessages = new Object[vertices.size()];
+        this.receiveGlobalMessages = new Object[vertices.size()];
+        this.states = new byte[vertices.size()];
+        this.receivers = new int[this.partitions][16];
+        this.receiverSizes = new int[this.partitions];
+        this.doubleMessages = doubleMessages;
+        if (doubleMessages) {
+            this.doubleCombiner = combiner.map(c -> c instanceof DoubleMessageCombiner ?
+                    (DoubleMessageCombiner) c :
+                    (DoubleMessageCombiner) (a, b) -> (Double) ((MessageCombiner) c).combine(a, b)).orElse(null);
+            this.sendLocalDoubles = new DoubleSlots(vertices.size());
+            this.receiveLocalDoubles = new DoubleSlots(vertices.size());
+            this.receiveGlobalDoubles = new DoubleSlots(vertices.size());
+        } else
+            this.doubleCombiner = null;
+    }
+
+    public boolean isDoubleMessages() {
+        return this.doubleMessages;
+    }
+
+    /**
+     * Get the ordinals of the vertices to execute in the current iteration or null if all vertices are active.
+     */
+    public int[] getActiveVertices() {
+        return this.activeVertices;
+    }
+
+    /**
+     * Set the ordinals of the vertices to execute in the next iteration (null if all vertices are active).
+     */
+    public void setActiveVertices(final int[] activeVertices) {
+        this.activeVertices = activeVertices;
+    }
+
+    public int getOrdinal(final Object vertexId) {
+        return this.graphView.getOrdinal(vertexId);
+    }
+
+    /**
+     * Create a send buffer for a worker. The buffer must only be used by a single thread during a superstep.
+     */
+    public WorkerBuffer createWorkerBuffer() {
+        final WorkerBuffer buffer = new WorkerBuffer();
+        synchronized (this.workerBuffers) {
+            this.workerBuffers.add(buffer);
+        }
+        return buffer;
+    }
+
+    public Optional<MessageCombiner<M>> getCombiner() {
+        return this.combiner;
+    }
+
+    public DoubleMessageCombiner getDoubleCombiner() {
+        return this.doubleCombiner;
+    }
+
+    /**
+     * Send a local message. If combine is true and a combiner exists, the message is combined with the previous
+     * message of the sending vertex.
+     */
+    public void sendLocalMessage(final int ordinal, final M message, final boolean combine) {
+        final Object previous = this.sendLocalMessages[ordinal];
+        if (previous instanceof MessageList) {
+            ((MessageList<M>) previous).add(message);
+        } else if (combine && this.combiner.isPresent()) {
+            this.sendLocalMessages[ordinal] = null == previous ? message : this.combiner.get().combine((M) previous, message);
+        } else {
+            final MessageList<M> messages = new MessageList<>();
+            if (null != previous)
+                messages.add((M) previous);
+            messages.add(message);
+            this.sendLocalMessages[ordinal] = messages;
+        }
+    }
+
+    public void sendLocalDoubleMessage(final int ordinal, final double message, final boolean combine) {
+        this.sendLocalDoubles.add(ordinal, message, combine ? this.doubleCombiner : null);
+    }
+
+    public DoubleStream receiveLocalDoubleMessages(final int ordinal) {
+        return ordinal < 0 ? DoubleStream.empty() : this.receiveLocalDoubles.stream(ordinal);
+    }
+
+    public DoubleStream receiveGlobalDoubleMessages(final int ordinal) {
+        return ordinal < 0 ? DoubleStream.empty() : this.receiveGlobalDoubles.stream(ordinal);
+    }
+
+    public List<M> receiveLocalMessages(final int ordinal) {
+        return ordinal < 0 ? Collections.emptyList() : this.<M>asList(this.receiveLocalMessages[ordinal]);
+    }
+
+    public List<M> receiveGlobalMessages(final int ordinal) {
+        return ordinal < 0 ? Collections.emptyList() : this.<M>asList(this.receiveGlobalMessages[ordinal]);
+    }
 
     public void completeIteration() {
-        this.receiveMessages = this.sendMessages;
-        this.sendMessages = new HashMap<>();
+        // swap the local message arrays and clear the slots of the previous senders in the array that will be written to next
+        final Object[] temp = this.receiveLocalMessages;
+        this.receiveLocalMessages = this.sendLocalMessages;
+        this.sendLocalMessages = temp;
+        if (this.doubleMessages) {
+            final DoubleSlots tempDoubles = this.receiveLocalDoubles;
+            this.receiveLocalDoubles = this.sendLocalDoubles;
+            this.sendLocalDoubles = tempDoubles;
+        }
+        for (int i = 0; i < this.localSendersSize; i++) {
+            if (this.doubleMessages)
+                this.sendLocalDoubles.clear(this.localSenders[i]);
+            else
+                this.sendLocalMessages[this.localSenders[i]] = null;
+        }
+
+        // merge the worker buffers into the global inboxes (each destination partition is merged by a single thread)
+        IntStream.range(0, this.partitions).parallel().forEach(partition -> {
+            for (int i = 0; i < this.receiverSizes[partition]; i++) {
+                if (this.doubleMessages)
+                    this.receiveGlobalDoubles.clear(this.receivers[partition][i]);
+                else
+                    this.receiveGlobalMessages[this.receivers[partition][i]] = null;
+            }
+            this.receiverSizes[partition] = 0;
+            for (final WorkerBuffer buffer : this.workerBuffers) {
+                if (this.doubleMessages)
+                    buffer.drainDoubles(partition, this.receiveGlobalDoubles);
+                else
+                    buffer.drain(partition, this.receiveGlobalMessages);
+            }
+        });
+        this.activeVertices = this.nextActiveVertices();
+
+        // remember the senders of this iteration as their slots are cleared at the end of the next iteration
+        this.localSendersSize = 0;
+        for (final WorkerBuffer buffer : this.workerBuffers) {
+            if (this.localSendersSize + buffer.localSize > this.localSenders.length)
+                this.localSenders = Arrays.copyOf(this.localSenders, Math.max(this.localSenders.length * 2, this.localSendersSize + buffer.localSize));
+            System.arraycopy(buffer.localSenders, 0, this.localSenders, this.localSendersSize, buffer.localSize);
+            this.localSendersSize = this.localSendersSize + buffer.localSize;
+        }
+        this.workerBuffers.forEach(WorkerBuffer::reset);
+    }
+
+    /**
+     * The next active vertices are the executed vertices that did not vote to halt and the receivers of messages.
+     * The receivers of local messages are resolved by traversing the incident edges of their senders.
+     */
+    private int[] nextActiveVertices() {
+        int halts = 0;
+        for (final WorkerBuffer buffer : this.workerBuffers) {
+            halts = halts + buffer.haltedSize;
+        }
+        if (0 == halts && null == this.activeVertices)
+            return null;
+
+        final List<Vertex> vertices = this.graphView.getVertices();
+        final int[][] next = new int[][]{new int[16]};
+        final int[] size = new int[1];
+        final IntConsumer schedule = ordinal -> {
+            if (ordinal >= 0 && SCHEDULED != this.states[ordinal]) {
+                this.states[ordinal] = SCHEDULED;
+                if (size[0] == next[0].length)
+                    next[0] = Arrays.copyOf(next[0], size[0] * 2);
+                next[0][size[0]++] = ordinal;
+            }
+        };
+        for (final WorkerBuffer buffer : this.workerBuffers) {
+            for (int i = 0; i < buffer.haltedSize; i++) {
+                this.states[buffer.halted[i]] = HALTED;
+            }
+        }
+        if (null == this.activeVertices) {
+            for (int ordinal = 0; ordinal < vertices.size(); ordinal++) {
+                if (HALTED != this.states[ordinal])
+                    schedule.accept(ordinal);
+            }
+        } else {
+            for (final int ordinal : this.activeVertices) {
+                if (HALTED != this.states[ordinal])
+                    schedule.accept(ordinal);
+            }
+        }
+        for (int partition = 0; partition < this.partitions; partition++) {
+            for (int i = 0; i < this.receiverSizes[partition]; i++) {
+                schedule.accept(this.receivers[partition][i]);
+            }
+        }
+        for (final WorkerBuffer buffer : this.workerBuffers) {
+            for (int i = 0; i < buffer.localSize; i++) {
+                buffer.localTypes[i].vertices(vertices.get(buffer.localSenders[i])).forEachRemaining(v -> schedule.accept(this.getOrdinal(((Vertex) v).id())));
+            }
+        }
+
+        // reset the states of the halted and scheduled vertices
+        for (final WorkerBuffer buffer : this.workerBuffers) {
+            for (int i = 0; i < buffer.haltedSize; i++) {
+                this.states[buffer.halted[i]] = 0;
+            }
+        }
+        for (int i = 0; i < size[0]; i++) {
+            this.states[next[0][i]] = 0;
+        }
+        if (size[0] == vertices.size())
+            return null;
+        final int[] active = Arrays.copyOf(next[0], size[0]);
+        Arrays.sort(active);
+        return active;
+    }
+
+    private void addReceiver(final int partition, final int ordinal) {
+        final int size = this.receiverSizes[partition];
+        if (size == this.receivers[partition].length)
+            this.receivers[partition] = Arrays.copyOf(this.receivers[partition], size * 2);
+        this.receivers[partition][size] = ordinal;
+        this.receiverSizes[partition] = size + 1;
+    }
+
+    private <T> List<T> asList(final Object slot) {
+        if (null == slot)
+            return Collections.emptyList();
+        else if (slot instanceof MessageList)
+            return (List<T>) slot;
+        else
+            return Collections.singletonList((T) slot);
+    }
+
+    private int[] createCombinedIndex() {
+        final int[] combinedIndex = new int[this.states.length];
+        Arrays.fill(combinedIndex, -1);
+        return combinedIndex;
+    }
+
+    private int getPartition(final int ordinal) {
+        return ordinal / this.partitionSize;
+    }
+
+    /**
+     * A marker type to distinguish an uncombined list of messages from a (combined) message that is itself a list.
+     */
+    private static class MessageList<M> extends ArrayList<M> {
+        public MessageList() {
+            super(2);
+        }
+    }
+
+    /**
+     * Double messages indexed by vertex ordinal. The first message of a vertex is stored in a dense array and any
+     * further (uncombined) messages in a per-vertex overflow array. The arrays are reused across iterations.
+     */
+    private static class DoubleSlots {
+
+        private final double[] values;
+        private final int[] sizes;
+        private final double[][] overflow;
+
+        public DoubleSlots(final int size) {
+            this.values = new double[size];
+            this.sizes = new int[size];
+            this.overflow = new double[size][];
+        }
+
+        /**
+         * Add the message to the slot of the vertex and return whether it is the first message of the vertex.
+         */
+        public boolean add(final int ordinal, final double message, final DoubleMessageCombiner combiner) {
+            final int size = this.sizes[ordinal];
+            if (0 == size) {
+                this.values[ordinal] = message;
+                this.sizes[ordinal] = 1;
+                return true;
+            } else if (null != combiner) {
+                this.values[ordinal] = combiner.combine(this.values[ordinal], message);
+            } else {
+                double[] more = this.overflow[ordinal];
+                if (null == more) {
+                    more = new double[2];
+                    this.overflow[ordinal] = more;
+                } else if (size - 1 == more.length) {
+                    more = Arrays.copyOf(more, more.length * 2);
+                    this.overflow[ordinal] = more;
+                }
+                more[size - 1] = message;
+                this.sizes[ordinal] = size + 1;
+            }
+            return false;
+        }
+
+        public DoubleStream stream(final int ordinal) {
+            final int size = this.sizes[ordinal];
+            if (0 == size)
+                return DoubleStream.empty();
+            else if (1 == size)
+                return DoubleStream.of(this.values[ordinal]);
+            else
+                return DoubleStream.concat(DoubleStream.of(this.values[ordinal]), Arrays.stream(this.overflow[ordinal], 0, size - 1));
+        }
+
+        public void clear(final int ordinal) {
+            this.sizes[ordinal] = 0;
+        }
+    }
+
+    /**
+     * A per-worker, destination-partitioned send buffer of global messages. Messages are appended to primitive/array
+     * backed columns and, if a combiner exists, combined in place with the previous message to the same destination.
+     */
+    public class WorkerBuffer {
+
+        private final int[][] targets = new int[partitions][];
+        private final Object[][] messages = new Object[partitions][];
+        private final double[][] doubleMessages = new double[partitions][];
+        private final int[] sizes = new int[partitions];
+        // int[VertexOrdinal] = the index of the combined message to the vertex in its partition (-1 if none)
+        private final int[] combinedIndex = combiner.isPresent() ? createCombinedIndex() : null;
+        // the vertices that voted to halt and the senders of local messages in the current iteration
+        private int[] halted = new int[16];
+        private int haltedSize = 0;
+        private int[] localSenders = new int[16];
+        private MessageType.Local[] localTypes = new MessageType.Local[16];
+        private int localSize = 0;
+
+        public void voteToHalt(final int ordinal) {
+            if (this.haltedSize == this.halted.length)
+                this.halted = Arrays.copyOf(this.halted, this.haltedSize * 2);
+            this.halted[this.haltedSize++] = ordinal;
+        }
+
+        public void sendLocal(final int ordinal, final MessageType.Local messageType) {
+            if (this.localSize > 0 && this.localSenders[this.localSize - 1] == ordinal && this.localTypes[this.localSize - 1] == messageType)
+                return;
+            if (this.localSize == this.localSenders.length) {
+                this.localSenders = Arrays.copyOf(this.localSenders, this.localSize * 2);
+                this.localTypes = Arrays.copyOf(this.localTypes, this.localSize * 2);
+            }
+            this.localSenders[this.localSize] = ordinal;
+            this.localTypes[this.localSize++] = messageType;
+        }
+
+        public void send(final int ordinal, final M message) {
+            final int partition = getPartition(ordinal);
+            if (null != this.combinedIndex) {
+                final int index = this.combinedIndex[ordinal];
+                if (-1 != index) {
+                    this.messages[partition][index] = combiner.get().combine((M) this.messages[partition][index], message);
+                    return;
+                }
+                this.combinedIndex[ordinal] = this.sizes[partition];
+            }
+            final int size = this.sizes[partition];
+            if (null == this.targets[partition]) {
+                this.targets[partition] = new int[16];
+                this.messages[partition] = new Object[16];
+            } else if (size == this.targets[partition].length) {
+                this.targets[partition] = Arrays.copyOf(this.targets[partition], size * 2);
+                this.messages[partition] = Arrays.copyOf(this.messages[partition], size * 2);
+            }
+            this.targets[partition][size] = ordinal;
+            this.messages[partition][size] = message;
+            this.sizes[partition] = size + 1;
+        }
+
+        public void sendDouble(final int ordinal, final double message) {
+            final int partition = getPartition(ordinal);
+            final int size = this.sizes[partition];
+            if (null == this.targets[partition]) {
+                this.targets[partition] = new int[16];
+                this.doubleMessages[partition] = new double[16];
+            } else if (size == this.targets[partition].length) {
+                this.targets[partition] = Arrays.copyOf(this.targets[partition], size * 2);
+                this.doubleMessages[partition] = Arrays.copyOf(this.doubleMessages[partition], size * 2);
+            }
+            this.targets[partition][size] = ordinal;
+            this.doubleMessages[partition][size] = message;
+            this.sizes[partition] = size + 1;
+        }
+
+        private void drainDoubles(final int partition, final DoubleSlots inboxes) {
+            final int[] targets = this.targets[partition];
+            final double[] messages = this.doubleMessages[partition];
+            for (int i = 0; i < this.sizes[partition]; i++) {
+                if (inboxes.add(targets[i], messages[i], doubleCombiner))
+                    addReceiver(partition, targets[i]);
+            }
+            this.sizes[partition] = 0;
+        }
+
+        private void drain(final int partition, final Object[] inboxes) {
+            final int[] targets = this.targets[partition];
+            final Object[] messages = this.messages[partition];
+            for (int i = 0; i < this.sizes[partition]; i++) {
+                final int ordinal = targets[i];
+                final M message = (M) messages[i];
+                if (null != this.combinedIndex)
+                    this.combinedIndex[ordinal] = -1;
+                if (null == inboxes[ordinal])
+                    addReceiver(partition, ordinal);
+                if (combiner.isPresent()) {
+                    inboxes[ordinal] = null == inboxes[ordinal] ? message : combiner.get().combine((M) inboxes[ordinal], message);
+                } else {
+                    MessageList<M> list = (MessageList<M>) inboxes[ordinal];
+                    if (null == list) {
+                        list = new MessageList<>();
+                        inboxes[ordinal] = list;
+                    }
+                    list.add(message);
+                }
+                messages[i] = null;
+            }
+            this.sizes[partition] = 0;
+        }
+
+        private void reset() {
+            Arrays.fill(this.localTypes, 0, this.localSize, null);
+            this.localSize = 0;
+            this.haltedSize = 0;
+        }
     }
 }
@@ -1,75 +1,143 @@
 package com.tinkerpop.gremlin.tinkergraph.process.computer;
 
-import com.tinkerpop.gremlin.process.computer.MessageCombiner;
+import com.tinkerpop.gremlin.process.computer.DoubleMessenger;
 import com.tinkerpop.gremlin.process.computer.MessageType;
 import com.tinkerpop.gremlin.process.computer.Messenger;
+import com.tinkerpop.gremlin.structure.Direction;
 import com.tinkerpop.gremlin.structure.Edge;
 import com.tinkerpop.gremlin.structure.Vertex;
 import com.tinkerpop.gremlin.util.StreamFactory;
 
 import java.io.Serializable;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.Optional;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.OptionalDouble;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
 
 /**
+ * A {@link TinkerMessenger} is created per worker and is reused for each vertex the worker executes.
+ * It is not thread-safe and must only be used by the thread that owns its {@link TinkerMessageBoard.WorkerBuffer}.
+ * If the message board stores double messages, boxed messages are converted to and from the primitive form.
+ * If a combiner exists, local messages without an edge function are combined at the sender and local messages with
+ * an edge function are combined when they are received.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public class TinkerMessenger<M extends Serializable> implements Messenger<M> {
+public class TinkerMessenger<M extends Serializable> implements Messenger<M>, DoubleMessenger {
 
-    private final Vertex vertex;
     private final TinkerMessageBoard<M> messageBoard;
-    private final Optional<MessageCombiner<M>> combiner;
+    private final TinkerMessageBoard<M>.WorkerBuffer workerBuffer;
+    private Vertex vertex;
+    private int ordinal;
+    private boolean halted;
 
+    protected TinkerMessenger(final TinkerMessageBoard<M> messageBoard) {
+        this.messageBoard = messageBoard;
+        this.workerBuffer = messageBoard.createWorkerBuffer();
+    }
 
-    public TinkerMessenger(final Vertex vertex, final TinkerMessageBoard<M> messageBoard, final Optional<MessageCombiner<M>> combiner) {
+    protected void setVertex(final Vertex vertex, final int ordinal) {
         this.vertex = vertex;
-        this.messageBoard = messageBoard;
-        this.combiner = combiner;
+        this.ordinal = ordinal;
+        this.halted = false;
+    }
+
+    /**
+     * Record the vote of the current vertex once it has been executed.
+     */
+    protected void completeVertex() {
+        if (this.halted)
+            this.workerBuffer.voteToHalt(this.ordinal);
+    }
+
+    public void voteToHalt() {
+        this.halted = true;
     }
 
     public Iterable<M> receiveMessages(final MessageType messageType) {
         if (messageType instanceof MessageType.Local) {
             final MessageType.Local<Object, M> localMessageType = (MessageType.Local) messageType;
+            final Direction direction = localMessageType.getDirection();
             final Edge[] edge = new Edge[1]; // simulates storage side-effects available in Gremlin, but not Java8 streams
-            return StreamFactory.iterable(StreamFactory.stream(localMessageType.edges(vertex).reverse())
-                    .map(e -> {
+            final Stream<M> messages = StreamFactory.stream(localMessageType.edges(this.vertex).reverse())
+                    .flatMap(e -> {
                         edge[0] = e;
-                        return this.messageBoard.receiveMessages.get(e.toV(localMessageType.getDirection()).id().next());
+                        final int senderOrdinal = this.getSenderOrdinal(e, direction);
+                        return this.messageBoard.isDoubleMessages() ?
+                                this.messageBoard.receiveLocalDoubleMessages(senderOrdinal).boxed() :
+                                this.messageBoard.receiveLocalMessages(senderOrdinal).stream();
                     })
-                    .filter(q -> null != q)
-                    .flatMap(q -> q.stream())
-                    .map(message -> localMessageType.getEdgeFunction().apply(message, edge[0])));
+                    .map(message -> localMessageType.getEdgeFunction().apply(message, edge[0]));
+            return this.messageBoard.getCombiner().isPresent() ? this.combine(messages) : StreamFactory.iterable(messages);
 
         } else {
-            return StreamFactory.iterable(Arrays.asList(vertex).stream()
-                    .map(v -> this.messageBoard.receiveMessages.get(v.id()))
-                    .filter(q -> null != q)
-                    .flatMap(q -> q.stream()));
+            return this.messageBoard.isDoubleMessages() ?
+                    (Iterable) StreamFactory.iterable(this.messageBoard.receiveGlobalDoubleMessages(this.ordinal).boxed()) :
+                    this.messageBoard.receiveGlobalMessages(this.ordinal);
         }
     }
 
     public void sendMessage(final MessageType messageType, final M message) {
-        if (messageType instanceof MessageType.Local) {
-            getMessageList(this.vertex.id()).add(message);
+        if (this.messageBoard.isDoubleMessages()) {
+            this.sendDoubleMessage(messageType, (Double) message);
+        } else if (messageType instanceof MessageType.Local) {
+            this.workerBuffer.sendLocal(this.ordinal, (MessageType.Local) messageType);
+            this.messageBoard.sendLocalMessage(this.ordinal, message, !((MessageType.Local) messageType).hasEdgeFunction());
         } else {
             ((MessageType.Global) messageType).vertices().forEach(v -> {
-                final Queue<M> queue = getMessageList(v.id());
-                if (this.combiner.isPresent() && !queue.isEmpty()) {
-                    queue.add(this.combiner.get().combine(queue.remove(), message));
-                } else
-                    queue.add(message);
+                final int targetOrdinal = this.messageBoard.getOrdinal(v.id());
+                if (targetOrdinal >= 0)
+                    this.workerBuffer.send(targetOrdinal, message);
             });
         }
     }
 
-    private Queue<M> getMessageList(final Object vertexId) {
-        Queue<M> messages = this.messageBoard.sendMessages.get(vertexId);
-        if (null == messages) {
-            messages = new ConcurrentLinkedQueue<>();
-            this.messageBoard.sendMessages.put(vertexId, messages);
+    public DoubleStream receiveDoubleMessages(final MessageType messageType) {
+        if (!this.messageBoard.isDoubleMessages() || (messageType instanceof MessageType.Local && ((MessageType.Local) messageType).hasEdgeFunction())) {
+            return StreamFactory.stream(this.receiveMessages(messageType)).mapToDouble(message -> ((Number) message).doubleValue());
+        } else if (messageType instanceof MessageType.Local) {
+            final MessageType.Local<Object, Double> localMessageType = (MessageType.Local) messageType;
+            final Direction direction = localMessageType.getDirection();
+            final DoubleStream messages = StreamFactory.stream(localMessageType.edges(this.vertex).reverse())
+                    .flatMapToDouble(e -> this.messageBoard.receiveLocalDoubleMessages(this.getSenderOrdinal(e, direction)));
+            if (null == this.messageBoard.getDoubleCombiner())
+                return messages;
+            else {
+                final OptionalDouble combined = messages.reduce(this.messageBoard.getDoubleCombiner()::combine);
+                return combined.isPresent() ? DoubleStream.of(combined.getAsDouble()) : DoubleStream.empty();
+            }
+        } else {
+            return this.messageBoard.receiveGlobalDoubleMessages(this.ordinal);
         }
-        return messages;
+    }
+
+    public void sendDoubleMessage(final MessageType messageType, final double message) {
+        if (!this.messageBoard.isDoubleMessages()) {
+            this.sendMessage(messageType, (M) Double.valueOf(message));
+        } else if (messageType instanceof MessageType.Local) {
+            this.workerBuffer.sendLocal(this.ordinal, (MessageType.Local) messageType);
+            this.messageBoard.sendLocalDoubleMessage(this.ordinal, message, !((MessageType.Local) messageType).hasEdgeFunction());
+        } else {
+            ((MessageType.Global) messageType).vertices().forEach(v -> {
+                final int targetOrdinal = this.messageBoard.getOrdinal(v.id());
+                if (targetOrdinal >= 0)
+                    this.workerBuffer.sendDouble(targetOrdinal, message);
+            });
+        }
+    }
+
+    /**
+     * Combine the messages into a single message when the returned iterable is iterated.
+     */
+    private Iterable<M> combine(final Stream<M> messages) {
+        return () -> {
+            final Optional<M> combined = messages.reduce(this.messageBoard.getCombiner().get()::combine);
+            return combined.isPresent() ? Collections.singleton(combined.get()).iterator() : Collections.<M>emptyIterator();
+        };
+    }
+
+    private int getSenderOrdinal(final Edge edge, final Direction direction) {
+        return this.messageBoard.getOrdinal(edge.toV(direction).id().next());
     }
 }
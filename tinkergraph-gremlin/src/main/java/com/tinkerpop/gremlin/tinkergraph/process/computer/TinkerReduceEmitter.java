@@ -3,17 +3,19 @@ package com.tinkerpop.gremlin.tinkergraph.process.computer;
 import com.tinkerpop.gremlin.process.computer.MapReduce;
 import org.javatuples.Pair;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
+ * The reduce emitter is shared by the workers of the reduce stage and is thread-safe.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 class TinkerReduceEmitter<OK, OV> implements MapReduce.ReduceEmitter<OK, OV> {
 
-    public List<Pair<OK, OV>> resultList = new ArrayList<>();
+    public Queue<Pair<OK, OV>> resultQueue = new ConcurrentLinkedQueue<>();
 
     public void emit(final OK key, final OV value) {
-        this.resultList.add(new Pair<>(key, value));
+        this.resultQueue.add(new Pair<>(key, value));
     }
 }
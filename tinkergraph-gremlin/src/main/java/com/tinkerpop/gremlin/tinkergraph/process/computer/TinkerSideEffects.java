@@ -25,6 +25,7 @@ public class TinkerSideEffects implements SideEffects.Administrative {
     public final Map<String, Object> sideEffectsMap;
     private final AtomicInteger iteration = new AtomicInteger(0);
     private final AtomicLong runtime = new AtomicLong(0l);
+    private boolean incremental = false;
 
 
     public TinkerSideEffects(final VertexProgram vertexProgram, final List<MapReduce> mapReducers) {
@@ -65,38 +66,37 @@ public class TinkerSideEffects implements SideEffects.Administrative {
         return this.getIteration() == 0;
     }
 
+    protected void setIncremental(final boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    public boolean isIncremental() {
+        return this.incremental;
+    }
+
     public <R> Optional<R> get(final String key) {
         return Optional.ofNullable((R) this.sideEffectsMap.get(key));
     }
 
     public long incr(final String key, final long delta) {
         checkKey(key);
-        final Object value = this.sideEffectsMap.get(key);
-        final long incremented = value == null ? delta : (Long) value + delta;
-        this.set(key, incremented);
-        return incremented;
+        return (Long) this.sideEffectsMap.compute(key, (k, value) -> value == null ? delta : (Long) value + delta);
     }
 
     public boolean and(final String key, final boolean bool) {
         checkKey(key);
-        final boolean value = (Boolean) this.sideEffectsMap.getOrDefault(key, bool);
-        final boolean returnValue = value && bool;
-        this.set(key, returnValue);
-        return returnValue;
+        return (Boolean) this.sideEffectsMap.compute(key, (k, value) -> (value == null ? bool : (Boolean) value) && bool);
     }
 
     public boolean or(final String key, final boolean bool) {
         checkKey(key);
-        final boolean value = (Boolean) this.sideEffectsMap.getOrDefault(key, bool);
-        final boolean returnValue = value || bool;
-        this.set(key, returnValue);
-        return returnValue;
+        return (Boolean) this.sideEffectsMap.compute(key, (k, value) -> (value == null ? bool : (Boolean) value) || bool);
     }
 
     public void setIfAbsent(final String key, final Object value) {
         checkKey(key);
-        if (!this.sideEffectsMap.containsKey(key))
-            this.set(key, value);
+        GraphVariableHelper.validateVariable(key, value);
+        this.sideEffectsMap.putIfAbsent(key, value);
     }
 
     public void set(final String key, final Object value) {
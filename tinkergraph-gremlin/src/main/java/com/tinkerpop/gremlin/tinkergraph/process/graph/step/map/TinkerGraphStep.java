@@ -4,7 +4,6 @@ import com.tinkerpop.gremlin.process.Traversal;
 import com.tinkerpop.gremlin.process.graph.step.map.GraphStep;
 import com.tinkerpop.gremlin.process.util.TraversalHelper;
 import com.tinkerpop.gremlin.process.util.TraverserIterator;
-import com.tinkerpop.gremlin.structure.Compare;
 import com.tinkerpop.gremlin.structure.Edge;
 import com.tinkerpop.gremlin.structure.Element;
 import com.tinkerpop.gremlin.structure.Vertex;
@@ -15,7 +14,6 @@ import com.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -46,31 +44,27 @@ public class TinkerGraphStep<E extends Element> extends GraphStep<E> {
     }
 
     private Iterator<? extends Edge> edges() {
-        final HasContainer indexedContainer = getIndexKey(Edge.class);
-        final Stream<? extends Edge> edgeStream = (null == indexedContainer) ?
-                TinkerHelper.getEdges(this.graph).stream() :
-                TinkerHelper.queryEdgeIndex(this.graph, indexedContainer.key, indexedContainer.value).stream();
+        final Stream<? extends Edge> indexedEdges = TinkerHelper.queryEdgeIndex(this.graph, this.hasContainers);
+        // index lookups are views that are not affected by remove() operations and as such, are filtered lazily
+        if (null != indexedEdges)
+            return indexedEdges.filter(this::testAll).iterator();
 
         // the copy to a new List is intentional as remove() operations will cause ConcurrentModificationException otherwise
-        return edgeStream.filter(e->HasContainer.testAll(e,hasContainers)).collect(Collectors.<Edge>toList()).iterator();
+        return TinkerHelper.getEdges(this.graph).stream().filter(this::testAll).collect(Collectors.<Edge>toList()).iterator();
     }
 
     private Iterator<? extends Vertex> vertices() {
-        final HasContainer indexedContainer = getIndexKey(Vertex.class);
-        final Stream<? extends Vertex> vertexStream = (null == indexedContainer) ?
-                TinkerHelper.getVertices(this.graph).stream() :
-                TinkerHelper.queryVertexIndex(this.graph, indexedContainer.key, indexedContainer.value).stream();
+        final Stream<? extends Vertex> indexedVertices = TinkerHelper.queryVertexIndex(this.graph, this.hasContainers);
+        // index lookups are views that are not affected by remove() operations and as such, are filtered lazily
+        if (null != indexedVertices)
+            return indexedVertices.filter(this::testAll).iterator();
 
         // the copy to a new List is intentional as remove() operations will cause ConcurrentModificationException otherwise
-        return vertexStream.filter(v -> HasContainer.testAll(v, this.hasContainers)).collect(Collectors.<Vertex>toList()).iterator();
+        return TinkerHelper.getVertices(this.graph).stream().filter(this::testAll).collect(Collectors.<Vertex>toList()).iterator();
     }
 
-    private HasContainer getIndexKey(final Class<? extends Element> indexedClass) {
-        final Set<String> indexedKeys = this.graph.getIndexedKeys(indexedClass);
-        return this.hasContainers.stream()
-                .filter(c -> indexedKeys.contains(c.key) && c.predicate.equals(Compare.EQUAL))
-                .findFirst()
-                .orElseGet(() -> null);
+    private boolean testAll(final Element element) {
+        return HasContainer.testAll(element, this.hasContainers);
     }
 
     public String toString() {
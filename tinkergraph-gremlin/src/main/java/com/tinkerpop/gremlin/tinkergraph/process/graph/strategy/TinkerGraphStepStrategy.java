@@ -11,6 +11,9 @@ import com.tinkerpop.gremlin.process.util.TraversalHelper;
 import com.tinkerpop.gremlin.tinkergraph.process.graph.step.map.TinkerGraphStep;
 
 /**
+ * Folds the {@link HasStep} and {@link IntervalStep} steps that follow a {@link TinkerGraphStep} into it so that
+ * their containers can be answered by the equality, multi-get and range lookups of the TinkerGraph indices.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class TinkerGraphStepStrategy implements TraversalStrategy.NoDependencies {
@@ -11,6 +11,7 @@ import com.tinkerpop.gremlin.structure.util.StringFactory;
 import com.tinkerpop.gremlin.tinkergraph.process.graph.TinkerElementTraversal;
 
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -22,7 +23,11 @@ public class TinkerEdge extends TinkerElement implements Edge {
     protected final Vertex outVertex;
 
     protected TinkerEdge(final Object id, final Vertex outVertex, final String label, final Vertex inVertex, final TinkerGraph graph) {
-        super(id, label, graph);
+        this(id, outVertex, label, inVertex, graph, graph.createMap());
+    }
+
+    protected TinkerEdge(final Object id, final Vertex outVertex, final String label, final Vertex inVertex, final TinkerGraph graph, final Map<String, Property> properties) {
+        super(id, label, graph, properties);
         this.outVertex = outVertex;
         this.inVertex = inVertex;
         this.graph.edgeIndex.autoUpdate(Element.LABEL, this.label, null, this);
@@ -37,6 +42,8 @@ public class TinkerEdge extends TinkerElement implements Edge {
             final Property newProperty = new TinkerProperty<>(this, key, value);
             this.properties.put(key, newProperty);
             this.graph.edgeIndex.autoUpdate(key, value, oldProperty.isPresent() ? oldProperty.value() : null, this);
+            TinkerHelper.logMutation(this.graph, this.outVertex.id());
+            TinkerHelper.logMutation(this.graph, this.inVertex.id());
             return newProperty;
         }
     }
@@ -57,8 +64,11 @@ public class TinkerEdge extends TinkerElement implements Edge {
         }
 
         this.graph.edgeIndex.removeElement(this);
-        this.graph.edges.remove(this.id());
+        if (null != this.graph.edges.remove(this.id()))
+            this.graph.edgeCounts.get(this.label).decrementAndGet();
         this.properties.clear();
+        TinkerHelper.logMutation(this.graph, outVertex.id());
+        TinkerHelper.logMutation(this.graph, inVertex.id());
     }
 
     public String toString() {
@@ -14,15 +14,20 @@ import java.util.Map;
  */
 public abstract class TinkerElement implements Element, Serializable {
 
-    protected Map<String, Property> properties = new HashMap<>();
+    protected final Map<String, Property> properties;
     protected final Object id;
     protected final String label;
     protected final TinkerGraph graph;
 
     protected TinkerElement(final Object id, final String label, final TinkerGraph graph) {
+        this(id, label, graph, graph.createMap());
+    }
+
+    protected TinkerElement(final Object id, final String label, final TinkerGraph graph, final Map<String, Property> properties) {
         this.graph = graph;
         this.id = id;
         this.label = label;
+        this.properties = properties;
     }
 
     public int hashCode() {
@@ -16,10 +16,15 @@ import com.tinkerpop.gremlin.tinkergraph.process.graph.TinkerGraphTraversal;
 import com.tinkerpop.gremlin.tinkergraph.process.graph.TinkerTraversal;
 import org.apache.commons.configuration.Configuration;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * An in-memory, reference implementation of the property graph interfaces provided by Gremlin3.
@@ -29,11 +34,27 @@ import java.util.Set;
  */
 public class TinkerGraph implements Graph, Serializable {
 
-    protected Long currentId = -1l;
-    protected Map<Object, Vertex> vertices = new HashMap<>();
-    protected Map<Object, Edge> edges = new HashMap<>();
+    /**
+     * A configuration key that when true, opens a {@link TinkerGraph} whose elements, adjacencies and properties are
+     * stored in concurrent collections so that multiple threads can safely write to it.
+     */
+    public static final String CONFIG_CONCURRENT = "gremlin.tinkergraph.concurrent";
+
+    /**
+     * A configuration key for the location of a {@link TinkerSnapshot} to open the {@link TinkerGraph} from.
+     */
+    public static final String CONFIG_SNAPSHOT = "gremlin.tinkergraph.snapshot";
+
+    protected final boolean concurrent;
+    protected final AtomicLong currentId = new AtomicLong(-1l);
+    protected final Map<Object, Vertex> vertices;
+    protected final Map<Object, Edge> edges;
+    // the number of edges by label
+    protected final Map<String, AtomicLong> edgeCounts;
     protected TinkerGraphVariables variables = new TinkerGraphVariables();
     protected TinkerGraphView graphView = null;
+    // the ids of the vertices mutated since the last computation (null if the graph has not been computed on)
+    protected Set<Object> mutatedVertices = null;
 
     protected TinkerIndex<TinkerVertex> vertexIndex = new TinkerIndex<>(this, TinkerVertex.class);
     protected TinkerIndex<TinkerEdge> edgeIndex = new TinkerIndex<>(this, TinkerEdge.class);
@@ -43,6 +64,14 @@ public class TinkerGraph implements Graph, Serializable {
      * used for purposes of serialization issues.
      */
     private TinkerGraph() {
+        this(false);
+    }
+
+    private TinkerGraph(final boolean concurrent) {
+        this.concurrent = concurrent;
+        this.vertices = this.createMap();
+        this.edges = this.createMap();
+        this.edgeCounts = this.createMap();
     }
 
     /**
@@ -74,7 +103,15 @@ public class TinkerGraph implements Graph, Serializable {
      * @return a newly opened {@link com.tinkerpop.gremlin.structure.Graph}
      */
     public static <G extends Graph> G open(final Configuration configuration) {
-        return (G) new TinkerGraph();
+        final TinkerGraph graph = new TinkerGraph(null != configuration && configuration.getBoolean(CONFIG_CONCURRENT, false));
+        if (null != configuration && configuration.containsKey(CONFIG_SNAPSHOT)) {
+            try {
+                TinkerSnapshot.read(graph, configuration.getString(CONFIG_SNAPSHOT));
+            } catch (final IOException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+        return (G) graph;
     }
 
     ////////////// STRUCTURE API METHODS //////////////////
@@ -122,7 +159,9 @@ public class TinkerGraph implements Graph, Serializable {
         }
 
         final Vertex vertex = new TinkerVertex(idValue, label, this);
-        this.vertices.put(vertex.id(), vertex);
+        if (null != this.vertices.putIfAbsent(vertex.id(), vertex))
+            throw Exceptions.vertexWithIdAlreadyExists(idValue);
+        TinkerHelper.logMutation(this, vertex.id());
         ElementHelper.attachProperties(vertex, keyValues);
         return vertex;
     }
@@ -147,8 +186,9 @@ public class TinkerGraph implements Graph, Serializable {
     public void clear() {
         this.vertices.clear();
         this.edges.clear();
+        this.edgeCounts.clear();
         this.variables = new TinkerGraphVariables();
-        this.currentId = 0l;
+        this.currentId.set(0l);
         this.vertexIndex = new TinkerIndex<>(this, TinkerVertex.class);
         this.edgeIndex = new TinkerIndex<>(this, TinkerEdge.class);
     }
@@ -166,6 +206,39 @@ public class TinkerGraph implements Graph, Serializable {
         return new TinkerGraphFeatures();
     }
 
+    public Optional<Statistics> statistics() {
+        return Optional.of(new TinkerGraphStatistics());
+    }
+
+    /**
+     * The statistics are read from the vertex and edge maps, the edge counts by label and the vertex index. The
+     * number of vertices with a value is only known for indexed keys.
+     */
+    public class TinkerGraphStatistics implements Statistics {
+        @Override
+        public long vertexCount() {
+            return vertices.size();
+        }
+
+        @Override
+        public long edgeCount(final String... labels) {
+            if (labels.length == 0)
+                return edges.size();
+            long count = 0l;
+            for (final String label : labels) {
+                final AtomicLong labelCount = edgeCounts.get(label);
+                if (null != labelCount)
+                    count = count + labelCount.get();
+            }
+            return count;
+        }
+
+        @Override
+        public long vertexCount(final String key, final Object value) {
+            return vertexIndex.getIndexedKeys().contains(key) ? vertexIndex.count(key, value) : -1l;
+        }
+    }
+
     public static class TinkerGraphFeatures implements Features {
         @Override
         public GraphFeatures graph() {
@@ -195,13 +268,37 @@ public class TinkerGraph implements Graph, Serializable {
         }
     }
 
+    public boolean isConcurrent() {
+        return this.concurrent;
+    }
+
+    protected <K, V> Map<K, V> createMap() {
+        return this.concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
+    }
+
+    protected <T> Set<T> createSet() {
+        return this.concurrent ? ConcurrentHashMap.newKeySet() : new HashSet<>();
+    }
+
     ///////////// GRAPH SPECIFIC INDEXING METHODS ///////////////
 
+    /**
+     * The types of index that can be created on a key. A {@link IndexType#SORTED} index additionally answers range
+     * lookups such as {@code has("age", Compare.GREATER_THAN, 30)} and {@code interval()}.
+     */
+    public enum IndexType {
+        HASH, SORTED
+    }
+
     public <E extends Element> void createIndex(final String key, final Class<E> elementClass) {
+        this.createIndex(key, elementClass, IndexType.HASH);
+    }
+
+    public <E extends Element> void createIndex(final String key, final Class<E> elementClass, final IndexType indexType) {
         if (Vertex.class.isAssignableFrom(elementClass)) {
-            this.vertexIndex.createKeyIndex(key);
+            this.vertexIndex.createKeyIndex(key, IndexType.SORTED.equals(indexType));
         } else if (Edge.class.isAssignableFrom(elementClass)) {
-            this.edgeIndex.createKeyIndex(key);
+            this.edgeIndex.createKeyIndex(key, IndexType.SORTED.equals(indexType));
         } else {
             throw new IllegalArgumentException("Class is not indexable: " + elementClass);
         }
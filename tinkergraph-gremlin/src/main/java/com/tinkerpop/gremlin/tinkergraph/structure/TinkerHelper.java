@@ -3,8 +3,11 @@ package com.tinkerpop.gremlin.tinkergraph.structure;
 import com.tinkerpop.gremlin.process.Traversal;
 import com.tinkerpop.gremlin.process.computer.GraphComputer;
 import com.tinkerpop.gremlin.process.computer.VertexProgram;
+import com.tinkerpop.gremlin.process.graph.strategy.BatchStrategy;
+import com.tinkerpop.gremlin.process.graph.strategy.CoalesceStrategy;
 import com.tinkerpop.gremlin.process.graph.strategy.CountCapStrategy;
 import com.tinkerpop.gremlin.process.graph.strategy.JumpComputerStrategy;
+import com.tinkerpop.gremlin.process.graph.strategy.OrderRangeStrategy;
 import com.tinkerpop.gremlin.process.graph.strategy.SideEffectCapComputerStrategy;
 import com.tinkerpop.gremlin.process.graph.strategy.TraverserSourceStrategy;
 import com.tinkerpop.gremlin.process.util.FastNoSuchElementException;
@@ -15,6 +18,7 @@ import com.tinkerpop.gremlin.structure.Graph;
 import com.tinkerpop.gremlin.structure.Property;
 import com.tinkerpop.gremlin.structure.Vertex;
 import com.tinkerpop.gremlin.structure.util.ElementHelper;
+import com.tinkerpop.gremlin.structure.util.HasContainer;
 import com.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphView;
 import com.tinkerpop.gremlin.tinkergraph.process.graph.step.map.TinkerGraphStep;
 import com.tinkerpop.gremlin.tinkergraph.process.graph.strategy.TinkerGraphStepStrategy;
@@ -22,11 +26,11 @@ import com.tinkerpop.gremlin.tinkergraph.process.graph.strategy.TinkerGraphStepS
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 /**
@@ -35,7 +39,7 @@ import java.util.stream.Stream;
 public class TinkerHelper {
 
     protected static long getNextId(final TinkerGraph graph) {
-        return Stream.generate(() -> (++graph.currentId)).filter(id -> !graph.vertices.containsKey(id) && !graph.edges.containsKey(id)).findFirst().get();
+        return Stream.generate(graph.currentId::incrementAndGet).filter(id -> !graph.vertices.containsKey(id) && !graph.edges.containsKey(id)).findFirst().get();
     }
 
     protected static Edge addEdge(final TinkerGraph graph, final TinkerVertex outVertex, final TinkerVertex inVertex, final String label, final Object... keyValues) {
@@ -54,30 +58,24 @@ public class TinkerHelper {
         }
 
         edge = new TinkerEdge(idValue, outVertex, label, inVertex, graph);
+        if (null != graph.edges.putIfAbsent(edge.id(), edge))
+            throw Graph.Exceptions.edgeWithIdAlreadyExists(idValue);
         ElementHelper.attachProperties(edge, keyValues);
-        graph.edges.put(edge.id(), edge);
+        graph.edgeCounts.computeIfAbsent(label, k -> new AtomicLong()).incrementAndGet();
         TinkerHelper.addOutEdge(outVertex, label, edge);
         TinkerHelper.addInEdge(inVertex, label, edge);
+        TinkerHelper.logMutation(graph, outVertex.id());
+        TinkerHelper.logMutation(graph, inVertex.id());
         return edge;
 
     }
 
     protected static void addOutEdge(final TinkerVertex vertex, final String label, final Edge edge) {
-        Set<Edge> edges = vertex.outEdges.get(label);
-        if (null == edges) {
-            edges = new HashSet<>();
-            vertex.outEdges.put(label, edges);
-        }
-        edges.add(edge);
+        vertex.outEdges.computeIfAbsent(label, k -> vertex.graph.createSet()).add(edge);
     }
 
     protected static void addInEdge(final TinkerVertex vertex, final String label, final Edge edge) {
-        Set<Edge> edges = vertex.inEdges.get(label);
-        if (null == edges) {
-            edges = new HashSet<>();
-            vertex.inEdges.put(label, edges);
-        }
-        edges.add(edge);
+        vertex.inEdges.computeIfAbsent(label, k -> vertex.graph.createSet()).add(edge);
     }
 
     public static void dropView(final TinkerGraph graph) {
@@ -92,20 +90,59 @@ public class TinkerHelper {
         return graph.edges.values();
     }
 
-    public static List<TinkerVertex> queryVertexIndex(final TinkerGraph graph, final String key, final Object value) {
+    public static Set<TinkerVertex> queryVertexIndex(final TinkerGraph graph, final String key, final Object value) {
         return graph.vertexIndex.get(key, value);
     }
 
-    public static List<TinkerEdge> queryEdgeIndex(final TinkerGraph graph, final String key, final Object value) {
+    public static Set<TinkerEdge> queryEdgeIndex(final TinkerGraph graph, final String key, final Object value) {
         return graph.edgeIndex.get(key, value);
     }
 
+    /**
+     * Get the candidate vertices of the most selective indexed container or null if no container is indexed.
+     */
+    public static Stream<TinkerVertex> queryVertexIndex(final TinkerGraph graph, final List<HasContainer> hasContainers) {
+        return graph.vertexIndex.query(hasContainers);
+    }
+
+    /**
+     * Get the candidate edges of the most selective indexed container or null if no container is indexed.
+     */
+    public static Stream<TinkerEdge> queryEdgeIndex(final TinkerGraph graph, final List<HasContainer> hasContainers) {
+        return graph.edgeIndex.query(hasContainers);
+    }
+
+    /**
+     * Log that the vertex with the provided id (or one of its properties or incident edges) was mutated.
+     */
+    protected static void logMutation(final TinkerGraph graph, final Object vertexId) {
+        final Set<Object> mutatedVertices = graph.mutatedVertices;
+        if (null != mutatedVertices)
+            mutatedVertices.add(vertexId);
+    }
+
+    /**
+     * Get the ids of the vertices mutated since the log was last reset or null if mutations are not being logged.
+     */
+    public static Set<Object> getMutationLog(final TinkerGraph graph) {
+        return graph.mutatedVertices;
+    }
+
+    /**
+     * Set the log of mutated vertex ids. A {@link GraphComputer} starts the log with its first incremental
+     * computation and resets it with a new set when it starts any later computation. A null log stops the logging
+     * of mutations.
+     */
+    public static void setMutationLog(final TinkerGraph graph, final Set<Object> mutatedVertices) {
+        graph.mutatedVertices = mutatedVertices;
+    }
+
     public static TinkerGraphView getGraphView(final TinkerGraph graph) {
         return graph.graphView;
     }
 
     public static TinkerGraphView createGraphView(final TinkerGraph graph, final GraphComputer.Isolation isolation, final Map<String, VertexProgram.KeyType> computeKeys) {
-        return graph.graphView = new TinkerGraphView(isolation, computeKeys);
+        return graph.graphView = new TinkerGraphView(isolation, computeKeys, new ArrayList<>(graph.vertices.values()));
     }
 
     public static Map<String, Property> getProperties(final TinkerElement element) {
@@ -165,6 +202,9 @@ public class TinkerHelper {
         traversal.memory().remove(Graph.Key.hide("g"));
         traversal.strategies().unregister(TinkerGraphStepStrategy.class);
         traversal.strategies().unregister(TraverserSourceStrategy.class);
+        traversal.strategies().unregister(CoalesceStrategy.class);
+        traversal.strategies().unregister(OrderRangeStrategy.class);
+        traversal.strategies().unregister(BatchStrategy.class);
         traversal.strategies().register(CountCapStrategy.instance());
         traversal.strategies().register(SideEffectCapComputerStrategy.instance());
         traversal.strategies().register(JumpComputerStrategy.instance());
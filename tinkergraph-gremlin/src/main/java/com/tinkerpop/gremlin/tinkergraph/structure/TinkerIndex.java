@@ -1,27 +1,53 @@
 package com.tinkerpop.gremlin.tinkergraph.structure;
 
+import com.tinkerpop.gremlin.structure.Compare;
+import com.tinkerpop.gremlin.structure.Contains;
 import com.tinkerpop.gremlin.structure.Element;
 import com.tinkerpop.gremlin.structure.Graph;
 import com.tinkerpop.gremlin.structure.Property;
 import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.structure.util.HasContainer;
 
 import java.io.Serializable;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
 
 /**
+ * A {@link TinkerIndex} maintains a hash index or a sorted index for each indexed key. A sorted index is backed by a
+ * skip list and supports range lookups. Its values are ordered by class and then by their natural order. Values that
+ * are not {@link Comparable} are kept in the hash index of the key.
+ * <p/>
+ * The elements of a value are stored in a {@link PostingSet} whose views are not affected by later index updates.
+ * Lookups do not copy the elements and an update only copies them when it would change the elements of a view.
+ * <p/>
+ * Index maintenance and lookups synchronize on the index. Updates to keys that are not indexed do not lock.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 class TinkerIndex<T extends Element> implements Serializable {
 
-    protected Map<String, Map<Object, Set<T>>> index = new HashMap<>();
+    protected Map<String, Map<Object, PostingSet<T>>> index = new HashMap<>();
     protected final Class<T> indexClass;
-    private final Set<String> indexedKeys = new HashSet<>();
+    protected Map<String, NavigableMap<Object, PostingSet<T>>> sortedIndex = new HashMap<>();
+    private final Set<String> indexedKeys = ConcurrentHashMap.newKeySet();
+    private final Set<String> sortedKeys = ConcurrentHashMap.newKeySet();
     private final TinkerGraph graph;
 
     public TinkerIndex(final TinkerGraph graph, final Class<T> indexClass) {
@@ -29,40 +55,161 @@ class TinkerIndex<T extends Element> implements Serializable {
         this.indexClass = indexClass;
     }
 
-    protected void put(final String key, final Object value, final T element) {
-        Map<Object, Set<T>> keyMap = this.index.get(key);
-        if (keyMap == null) {
-            keyMap = new HashMap<>();
-            this.index.put(key, keyMap);
+    protected synchronized void put(final String key, final Object value, final T element) {
+        final Map<Object, PostingSet<T>> keyMap;
+        if (this.isSorted(key, value)) {
+            keyMap = this.sortedIndex.computeIfAbsent(key, k -> new ConcurrentSkipListMap<>(ValueComparator.INSTANCE));
+        } else {
+            keyMap = this.index.computeIfAbsent(key, k -> new HashMap<>());
         }
-        Set<T> objects = keyMap.get(value);
+        PostingSet<T> objects = keyMap.get(value);
         if (null == objects) {
-            objects = new HashSet<>();
+            objects = new PostingSet<>();
             keyMap.put(value, objects);
         }
         objects.add(element);
 
     }
 
-    public List<T> get(final String key, final Object value) {
-        final Map<Object, Set<T>> keyMap = this.index.get(key);
+    /**
+     * Get a read-only view of the elements whose value for the key is the provided value.
+     */
+    public synchronized Set<T> get(final String key, final Object value) {
+        final Map<Object, PostingSet<T>> keyMap = this.getKeyMap(key, value);
         if (null == keyMap) {
-            return Collections.emptyList();
+            return Collections.emptySet();
         } else {
-            Set<T> set = keyMap.get(value);
+            final PostingSet<T> set = keyMap.get(value);
             if (null == set)
-                return Collections.emptyList();
+                return Collections.emptySet();
             else
-                return new ArrayList<>(set);
+                return set.view();
+        }
+    }
+
+    /**
+     * Get the elements whose value for the key is any of the provided values.
+     */
+    public synchronized Stream<T> getAll(final String key, final Collection<?> values) {
+        final List<Set<T>> views = new ArrayList<>(values.size());
+        for (final Object value : values instanceof Set ? values : new LinkedHashSet<>(values)) {
+            final Set<T> view = this.get(key, value);
+            if (!view.isEmpty())
+                views.add(view);
         }
+        return views.stream().flatMap(Set::stream);
     }
 
-    public long count(final String key, final Object value) {
-        final Map<Object, Set<T>> keyMap = this.index.get(key);
+    /**
+     * Get the elements whose value for the sorted key is within the range. A null bound leaves that end of the range
+     * open. Only values of the same class as the provided bounds are in the range.
+     */
+    public synchronized Stream<T> getRange(final String key, final Object from, final boolean fromInclusive, final Object to, final boolean toInclusive) {
+        final NavigableMap<Object, PostingSet<T>> keyMap = this.sortedIndex.get(key);
+        if (null == keyMap)
+            return Stream.empty();
+
+        final Class<?> valueClass = null == from ? to.getClass() : from.getClass();
+        final NavigableMap<Object, PostingSet<T>> range;
+        if (null != from && null != to)
+            range = ValueComparator.INSTANCE.compare(from, to) > 0 ? Collections.emptyNavigableMap() : keyMap.subMap(from, fromInclusive, to, toInclusive);
+        else if (null != from)
+            range = keyMap.tailMap(from, fromInclusive);
+        else
+            range = keyMap.headMap(to, toInclusive).descendingMap();
+
+        final List<Set<T>> views = new ArrayList<>();
+        for (final Map.Entry<Object, PostingSet<T>> entry : range.entrySet()) {
+            if (!valueClass.equals(entry.getKey().getClass()))
+                break;
+            views.add(entry.getValue().view());
+        }
+        return views.stream().flatMap(Set::stream);
+    }
+
+    /**
+     * Get the candidate elements of the indexed {@link HasContainer}s or null if none of the containers can be
+     * answered by the index. The posting sets of all indexed equality containers are intersected starting from the
+     * smallest. Otherwise, the multi-get with the smallest total count is used and lastly, a range lookup. The
+     * returned elements must still be tested against all the containers.
+     */
+    public synchronized Stream<T> query(final List<HasContainer> hasContainers) {
+        Set<T> smallest = null;
+        List<Set<T>> others = null;
+        for (final HasContainer hasContainer : hasContainers) {
+            if (Compare.EQUAL.equals(hasContainer.predicate) && this.indexedKeys.contains(hasContainer.key)) {
+                Set<T> set = this.get(hasContainer.key, hasContainer.value);
+                if (null == smallest) {
+                    smallest = set;
+                } else {
+                    if (null == others)
+                        others = new ArrayList<>();
+                    if (set.size() < smallest.size()) {
+                        final Set<T> temp = smallest;
+                        smallest = set;
+                        set = temp;
+                    }
+                    others.add(set);
+                }
+            }
+        }
+        if (null != smallest) {
+            if (null == others)
+                return smallest.stream();
+            others.sort(Comparator.comparingInt(Set::size));
+            final List<Set<T>> intersect = others;
+            return smallest.stream().filter(element -> {
+                for (final Set<T> set : intersect) {
+                    if (!set.contains(element))
+                        return false;
+                }
+                return true;
+            });
+        }
+
+        HasContainer multiGet = null;
+        long multiGetCount = Long.MAX_VALUE;
+        for (final HasContainer hasContainer : hasContainers) {
+            if (Contains.IN.equals(hasContainer.predicate) && hasContainer.value instanceof Collection && this.indexedKeys.contains(hasContainer.key)) {
+                long count = 0l;
+                for (final Object value : (Collection) hasContainer.value) {
+                    count = count + this.count(hasContainer.key, value);
+                }
+                if (count < multiGetCount) {
+                    multiGet = hasContainer;
+                    multiGetCount = count;
+                }
+            }
+        }
+        if (null != multiGet)
+            return this.getAll(multiGet.key, (Collection) multiGet.value);
+
+        for (final HasContainer hasContainer : hasContainers) {
+            if (isRange(hasContainer) && this.sortedKeys.contains(hasContainer.key)) {
+                HasContainer lower = null;
+                HasContainer upper = null;
+                for (final HasContainer other : hasContainers) {
+                    if (isRange(other) && other.key.equals(hasContainer.key) && other.value.getClass().equals(hasContainer.value.getClass())) {
+                        if (null == lower && (Compare.GREATER_THAN.equals(other.predicate) || Compare.GREATER_THAN_EQUAL.equals(other.predicate)))
+                            lower = other;
+                        else if (null == upper && (Compare.LESS_THAN.equals(other.predicate) || Compare.LESS_THAN_EQUAL.equals(other.predicate)))
+                            upper = other;
+                    }
+                }
+                return this.getRange(hasContainer.key,
+                        null == lower ? null : lower.value, null != lower && Compare.GREATER_THAN_EQUAL.equals(lower.predicate),
+                        null == upper ? null : upper.value, null != upper && Compare.LESS_THAN_EQUAL.equals(upper.predicate));
+            }
+        }
+        return null;
+    }
+
+    public synchronized long count(final String key, final Object value) {
+        final Map<Object, PostingSet<T>> keyMap = this.getKeyMap(key, value);
         if (null == keyMap) {
             return 0;
         } else {
-            Set<T> set = keyMap.get(value);
+            final PostingSet<T> set = keyMap.get(value);
             if (null == set)
                 return 0;
             else
@@ -70,10 +217,10 @@ class TinkerIndex<T extends Element> implements Serializable {
         }
     }
 
-    public void remove(final String key, final Object value, final T element) {
-        final Map<Object, Set<T>> keyMap = this.index.get(key);
+    public synchronized void remove(final String key, final Object value, final T element) {
+        final Map<Object, PostingSet<T>> keyMap = this.getKeyMap(key, value);
         if (null != keyMap) {
-            Set<T> objects = keyMap.get(value);
+            final PostingSet<T> objects = keyMap.get(value);
             if (null != objects) {
                 objects.remove(element);
                 if (objects.size() == 0) {
@@ -84,9 +231,22 @@ class TinkerIndex<T extends Element> implements Serializable {
     }
 
     public void removeElement(final T element) {
+        if (this.indexedKeys.isEmpty())
+            return;
+        synchronized (this) {
+            this.removeIndexedElement(element);
+        }
+    }
+
+    private void removeIndexedElement(final T element) {
         if (this.indexClass.isAssignableFrom(element.getClass())) {
-            for (Map<Object, Set<T>> map : index.values()) {
-                for (Set<T> set : map.values()) {
+            for (Map<Object, PostingSet<T>> map : index.values()) {
+                for (PostingSet<T> set : map.values()) {
+                    set.remove(element);
+                }
+            }
+            for (Map<Object, PostingSet<T>> map : sortedIndex.values()) {
+                for (PostingSet<T> set : map.values()) {
                     set.remove(element);
                 }
             }
@@ -95,9 +255,11 @@ class TinkerIndex<T extends Element> implements Serializable {
 
     public void autoUpdate(final String key, final Object newValue, final Object oldValue, final T element) {
         if (this.indexedKeys.contains(key)) {
-            if (oldValue != null)
-                this.remove(key, oldValue, element);
-            this.put(key, newValue, element);
+            synchronized (this) {
+                if (oldValue != null)
+                    this.remove(key, oldValue, element);
+                this.put(key, newValue, element);
+            }
         }
     }
 
@@ -107,31 +269,169 @@ class TinkerIndex<T extends Element> implements Serializable {
     }
 
     public void createKeyIndex(final String key) {
+        this.createKeyIndex(key, false);
+    }
+
+    public synchronized void createKeyIndex(final String key, final boolean sorted) {
         if (null == key)
             throw Graph.Exceptions.argumentCanNotBeNull("key");
         if (key.isEmpty())
             throw new IllegalArgumentException("The key for the index cannot be an empty string");
 
-        if (this.indexedKeys.contains(key))
-            return;
+        if (this.indexedKeys.contains(key)) {
+            if (this.sortedKeys.contains(key) == sorted)
+                return;
+            this.dropKeyIndex(key);
+        }
         this.indexedKeys.add(key);
+        if (sorted)
+            this.sortedKeys.add(key);
 
+        // the index maps are not thread-safe and as such, are populated sequentially
         (Vertex.class.isAssignableFrom(this.indexClass) ?
-                this.graph.vertices.values().<T>parallelStream() :
-                this.graph.edges.values().<T>parallelStream())
+                this.graph.vertices.values().<T>stream() :
+                this.graph.edges.values().<T>stream())
                 .map(e -> new Object[]{((T) e).property(key), e})
                 .filter(a -> ((Property) a[0]).isPresent())
                 .forEach(a -> this.put(key, ((Property) a[0]).value(), (T) a[1]));
     }
 
-    public void dropKeyIndex(final String key) {
+    public synchronized void dropKeyIndex(final String key) {
         if (this.index.containsKey(key))
             this.index.remove(key).clear();
+        if (this.sortedIndex.containsKey(key))
+            this.sortedIndex.remove(key).clear();
 
         this.indexedKeys.remove(key);
+        this.sortedKeys.remove(key);
     }
 
     public Set<String> getIndexedKeys() {
         return this.indexedKeys;
     }
+
+    public boolean isSorted(final String key) {
+        return this.sortedKeys.contains(key);
+    }
+
+    private boolean isSorted(final String key, final Object value) {
+        return value instanceof Comparable && this.sortedKeys.contains(key);
+    }
+
+    private Map<Object, PostingSet<T>> getKeyMap(final String key, final Object value) {
+        return this.isSorted(key, value) ? this.sortedIndex.get(key) : this.index.get(key);
+    }
+
+    private static boolean isRange(final HasContainer hasContainer) {
+        return hasContainer.value instanceof Comparable && hasContainer.predicate instanceof Compare &&
+                !Compare.EQUAL.equals(hasContainer.predicate) && !Compare.NOT_EQUAL.equals(hasContainer.predicate);
+    }
+
+    /**
+     * The elements of an indexed value in an array. A view is a prefix of the array, so elements are appended without
+     * a copy. Only the removal of an element within a prefix that was handed out for the current array copies it.
+     */
+    protected static final class PostingSet<T> implements Serializable {
+
+        private Object[] elements = new Object[4];
+        private int size = 0;
+        // the index of each element in the array
+        private final Map<T, Integer> positions = new HashMap<>();
+        // the length of the longest prefix of the current array that a view has been handed out for
+        private int viewed = 0;
+
+        public Set<T> view() {
+            this.viewed = this.size;
+            return new View<>(this.elements, this.size);
+        }
+
+        public void add(final T element) {
+            if (this.positions.containsKey(element))
+                return;
+            if (this.size == this.elements.length) {
+                this.elements = Arrays.copyOf(this.elements, this.size * 2);
+                this.viewed = 0;
+            }
+            this.elements[this.size] = element;
+            this.positions.put(element, this.size++);
+        }
+
+        public void remove(final T element) {
+            final Integer position = this.positions.remove(element);
+            if (null == position)
+                return;
+            if (position < this.viewed) {
+                this.elements = Arrays.copyOf(this.elements, this.elements.length);
+                this.viewed = 0;
+            }
+            // the last element takes the place of the removed element
+            final int last = --this.size;
+            if (position != last) {
+                this.elements[position] = this.elements[last];
+                this.positions.put((T) this.elements[position], position);
+            }
+            this.elements[last] = null;
+        }
+
+        public int size() {
+            return this.size;
+        }
+    }
+
+    /**
+     * A read-only prefix of the array of a {@link PostingSet}. The prefix is never changed by the posting set.
+     */
+    private static final class View<T> extends AbstractSet<T> {
+
+        private final Object[] elements;
+        private final int size;
+        private Set<T> set = null;
+
+        private View(final Object[] elements, final int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return Arrays.asList((T[]) this.elements).subList(0, this.size).iterator();
+        }
+
+        @Override
+        public Spliterator<T> spliterator() {
+            return Spliterators.spliterator(this.elements, 0, this.size, Spliterator.DISTINCT | Spliterator.IMMUTABLE);
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+
+        @Override
+        public boolean contains(final Object element) {
+            // the view is hashed on the first lookup as it is only probed when posting sets are intersected
+            if (null == this.set)
+                this.set = new HashSet<>(Arrays.asList((T[]) this.elements).subList(0, this.size));
+            return this.set.contains(element);
+        }
+    }
+
+    /**
+     * Orders values of different classes by class name and values of the same class by their natural order.
+     */
+    private static final class ValueComparator implements Comparator<Object>, Serializable {
+
+        private static final ValueComparator INSTANCE = new ValueComparator();
+
+        @Override
+        public int compare(final Object first, final Object second) {
+            return first.getClass().equals(second.getClass()) ?
+                    ((Comparable) first).compareTo(second) :
+                    first.getClass().getName().compareTo(second.getClass().getName());
+        }
+
+        private Object readResolve() {
+            return INSTANCE;
+        }
+    }
 }
@@ -60,9 +60,13 @@ public class TinkerProperty<V> implements Property<V>, Serializable {
 
     public void remove() {
         ((TinkerElement) this.element).properties.remove(key);
-        if (this.element instanceof Vertex)
+        if (this.element instanceof Vertex) {
             this.graph.vertexIndex.remove(key, value, (TinkerVertex) this.element);
-        else
+            TinkerHelper.logMutation(this.graph, this.element.id());
+        } else {
             this.graph.edgeIndex.remove(key, value, (TinkerEdge) this.element);
+            TinkerHelper.logMutation(this.graph, ((TinkerEdge) this.element).outVertex.id());
+            TinkerHelper.logMutation(this.graph, ((TinkerEdge) this.element).inVertex.id());
+        }
     }
 }
@@ -0,0 +1,771 @@
+package com.tinkerpop.gremlin.tinkergraph.structure;
+
+import com.tinkerpop.gremlin.structure.Edge;
+import com.tinkerpop.gremlin.structure.Element;
+import com.tinkerpop.gremlin.structure.Property;
+import com.tinkerpop.gremlin.structure.Vertex;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * A {@link TinkerSnapshot} is the native file format of {@link TinkerGraph}. The vertices and edges are stored in
+ * columnar tables (ids, labels, endpoints and properties), the adjacency of the vertices is stored in compressed
+ * sparse row form and all labels and property keys are stored once in a dictionary. A snapshot is written through a
+ * buffered {@link FileChannel} and opened with {@link FileChannel#map}. Opening a snapshot only decodes the dictionary
+ * and the vertex and edge tables. The adjacency and the properties of an element stay in the mapped pages and are
+ * decoded from their offsets on first access, which a footer of region positions makes possible.
+ * A snapshot is opened with {@link TinkerGraph#open(org.apache.commons.configuration.Configuration)} by setting
+ * {@link TinkerGraph#CONFIG_SNAPSHOT} to its location.
+ */
+public final class TinkerSnapshot {
+
+    private static final int MAGIC = 0x544B4753;
+    private static final int VERSION = 2;
+    private static final int FOOTER_SIZE = 40;
+
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte FLOAT = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte BOOLEAN = 6;
+    private static final byte SHORT = 7;
+    private static final byte BYTE = 8;
+    private static final byte SERIALIZED = 9;
+
+    private TinkerSnapshot() {
+    }
+
+    /**
+     * Write the graph to a snapshot file at the provided location, replacing any existing file.
+     */
+    public static void write(final TinkerGraph graph, final String location) throws IOException {
+        try (final FileChannel channel = FileChannel.open(Paths.get(location), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(graph, channel);
+        }
+    }
+
+    /**
+     * Write the graph as a snapshot to the provided channel.
+     */
+    public static void write(final TinkerGraph graph, final WritableByteChannel channel) throws IOException {
+        final List<Vertex> vertices = new ArrayList<>(graph.vertices.values());
+        final List<Edge> edges = new ArrayList<>(graph.edges.values());
+        final Map<Object, Integer> vertexOrdinals = new HashMap<>(vertices.size() * 2);
+        for (int i = 0; i < vertices.size(); i++) {
+            vertexOrdinals.put(vertices.get(i).id(), i);
+        }
+        final Map<Object, Integer> edgeOrdinals = new HashMap<>(edges.size() * 2);
+        for (int i = 0; i < edges.size(); i++) {
+            edgeOrdinals.put(edges.get(i).id(), i);
+        }
+        final Dictionary dictionary = new Dictionary();
+        vertices.forEach(v -> {
+            dictionary.add(v.label());
+            ((TinkerVertex) v).properties.keySet().forEach(dictionary::add);
+        });
+        edges.forEach(e -> {
+            dictionary.add(e.label());
+            ((TinkerEdge) e).properties.keySet().forEach(dictionary::add);
+        });
+
+        final Output output = new Output(channel);
+        output.putInt(MAGIC);
+        output.putInt(VERSION);
+        output.putLong(graph.currentId.get());
+
+        output.putInt(dictionary.strings.size());
+        for (final String string : dictionary.strings) {
+            output.putString(string);
+        }
+        output.putInt(vertices.size());
+        output.putInt(edges.size());
+
+        // vertex and edge tables
+        for (final Vertex vertex : vertices) {
+            output.putValue(vertex.id());
+        }
+        for (final Vertex vertex : vertices) {
+            output.putInt(dictionary.get(vertex.label()));
+        }
+        for (final Edge edge : edges) {
+            output.putValue(edge.id());
+        }
+        for (final Edge edge : edges) {
+            output.putInt(dictionary.get(edge.label()));
+        }
+        for (final Edge edge : edges) {
+            output.putInt(vertexOrdinals.get(((TinkerEdge) edge).outVertex.id()));
+        }
+        for (final Edge edge : edges) {
+            output.putInt(vertexOrdinals.get(((TinkerEdge) edge).inVertex.id()));
+        }
+
+        // adjacency
+        final long outEdges = output.position();
+        writeAdjacency(output, vertices, edgeOrdinals, true);
+        final long inEdges = output.position();
+        writeAdjacency(output, vertices, edgeOrdinals, false);
+
+        // properties
+        final long vertexProperties = writeProperties(output, vertices, dictionary);
+        final long edgeProperties = writeProperties(output, edges, dictionary);
+
+        // variables and indices
+        final long variables = output.position();
+        output.putInt(graph.variables.keys().size());
+        for (final String key : graph.variables.keys()) {
+            output.putString(key);
+            output.putValue(graph.variables.get(key).get());
+        }
+        writeIndex(output, graph.vertexIndex);
+        writeIndex(output, graph.edgeIndex);
+
+        // footer
+        output.putLong(outEdges);
+        output.putLong(inEdges);
+        output.putLong(vertexProperties);
+        output.putLong(edgeProperties);
+        output.putLong(variables);
+        output.flush();
+    }
+
+    /**
+     * Open the snapshot file at the provided location into the provided (empty) graph.
+     */
+    static void read(final TinkerGraph graph, final String location) throws IOException {
+        try (final FileChannel channel = FileChannel.open(Paths.get(location), StandardOpenOption.READ)) {
+            read(graph, new Pages(channel), location);
+        }
+    }
+
+    /**
+     * Open a snapshot from the provided buffer into a new {@link TinkerGraph}. The graph decodes its elements from the
+     * buffer on first access, so the buffer must not be changed while the graph is in use.
+     */
+    public static TinkerGraph read(final ByteBuffer buffer) throws IOException {
+        final TinkerGraph graph = TinkerGraph.open();
+        read(graph, new Pages(buffer), "buffer");
+        return graph;
+    }
+
+    private static void read(final TinkerGraph graph, final Pages pages, final String location) throws IOException {
+        final Input input = new Input(pages, 0);
+        if (pages.size() < FOOTER_SIZE || input.getInt() != MAGIC)
+            throw new IOException("The file is not a TinkerGraph snapshot: " + location);
+        final int version = input.getInt();
+        if (version != VERSION)
+            throw new IOException("The TinkerGraph snapshot version is not supported: " + version);
+        graph.currentId.set(input.getLong());
+
+        final String[] dictionary = new String[input.getInt()];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = input.getString();
+        }
+        final TinkerVertex[] vertices = new TinkerVertex[input.getInt()];
+        final TinkerEdge[] edges = new TinkerEdge[input.getInt()];
+
+        // the adjacency and the properties are decoded from their regions on first access
+        final Input footer = new Input(pages, pages.size() - FOOTER_SIZE);
+        final AdjacencyLoader outEdges = new AdjacencyLoader(graph, pages, footer.getLong(), edges, vertices.length);
+        final AdjacencyLoader inEdges = new AdjacencyLoader(graph, pages, footer.getLong(), edges, vertices.length);
+        final PropertyLoader vertexProperties = new PropertyLoader(graph, pages, footer.getLong(), vertices, dictionary);
+        final PropertyLoader edgeProperties = new PropertyLoader(graph, pages, footer.getLong(), edges, dictionary);
+        final long variablesPosition = footer.getLong();
+
+        // vertex and edge tables
+        final Object[] ids = new Object[Math.max(vertices.length, edges.length)];
+        for (int i = 0; i < vertices.length; i++) {
+            ids[i] = input.getValue();
+        }
+        for (int i = 0; i < vertices.length; i++) {
+            vertices[i] = new TinkerVertex(ids[i], dictionary[input.getInt()], graph,
+                    new LazyMap<>(vertexProperties, i), new LazyMap<>(outEdges, i), new LazyMap<>(inEdges, i));
+            graph.vertices.put(vertices[i].id, vertices[i]);
+        }
+        for (int i = 0; i < edges.length; i++) {
+            ids[i] = input.getValue();
+        }
+        final int[] labels = new int[edges.length];
+        final int[] outVertices = new int[edges.length];
+        for (int i = 0; i < edges.length; i++) {
+            labels[i] = input.getInt();
+        }
+        for (int i = 0; i < edges.length; i++) {
+            outVertices[i] = input.getInt();
+        }
+        for (int i = 0; i < edges.length; i++) {
+            edges[i] = new TinkerEdge(ids[i], vertices[outVertices[i]], dictionary[labels[i]], vertices[input.getInt()], graph, new LazyMap<>(edgeProperties, i));
+            graph.edges.put(edges[i].id, edges[i]);
+            graph.edgeCounts.computeIfAbsent(edges[i].label, k -> new AtomicLong()).incrementAndGet();
+        }
+
+        // variables and indices
+        input.position(variablesPosition);
+        final int variables = input.getInt();
+        for (int i = 0; i < variables; i++) {
+            graph.variables.set(input.getString(), input.getValue());
+        }
+        readIndex(input, graph, Vertex.class);
+        readIndex(input, graph, Edge.class);
+    }
+
+    private static void writeAdjacency(final Output output, final List<Vertex> vertices, final Map<Object, Integer> edgeOrdinals, final boolean out) throws IOException {
+        int offset = 0;
+        output.putInt(offset);
+        for (final Vertex vertex : vertices) {
+            for (final Collection<Edge> edges : (out ? ((TinkerVertex) vertex).outEdges : ((TinkerVertex) vertex).inEdges).values()) {
+                offset = offset + edges.size();
+            }
+            output.putInt(offset);
+        }
+        for (final Vertex vertex : vertices) {
+            for (final Collection<Edge> edges : (out ? ((TinkerVertex) vertex).outEdges : ((TinkerVertex) vertex).inEdges).values()) {
+                for (final Edge edge : edges) {
+                    output.putInt(edgeOrdinals.get(edge.id()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Write the properties of each element followed by the column of their positions, returning the position of the
+     * column.
+     */
+    private static long writeProperties(final Output output, final List<? extends Element> elements, final Dictionary dictionary) throws IOException {
+        final long[] positions = new long[elements.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = output.position();
+            final Map<String, Property> properties = ((TinkerElement) elements.get(i)).properties;
+            output.putInt(properties.size());
+            for (final Map.Entry<String, Property> entry : properties.entrySet()) {
+                output.putInt(dictionary.get(entry.getKey()));
+                output.putValue(entry.getValue().value());
+            }
+        }
+        final long column = output.position();
+        for (final long position : positions) {
+            output.putLong(position);
+        }
+        return column;
+    }
+
+    private static void writeIndex(final Output output, final TinkerIndex index) throws IOException {
+        final Collection<String> keys = index.getIndexedKeys();
+        output.putInt(keys.size());
+        for (final String key : keys) {
+            output.putString(key);
+            output.put(index.isSorted(key) ? (byte) 1 : (byte) 0);
+        }
+    }
+
+    private static void readIndex(final Input input, final TinkerGraph graph, final Class<? extends Element> elementClass) throws IOException {
+        final int keys = input.getInt();
+        for (int i = 0; i < keys; i++) {
+            final String key = input.getString();
+            graph.createIndex(key, elementClass, input.get() == 1 ? TinkerGraph.IndexType.SORTED : TinkerGraph.IndexType.HASH);
+        }
+    }
+
+    private static class Dictionary {
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> ordinals = new HashMap<>();
+
+        public void add(final String string) {
+            if (!this.ordinals.containsKey(string)) {
+                this.ordinals.put(string, this.strings.size());
+                this.strings.add(string);
+            }
+        }
+
+        public int get(final String string) {
+            return this.ordinals.get(string);
+        }
+    }
+
+    /**
+     * A buffered writer over a {@link WritableByteChannel}.
+     */
+    private static class Output {
+
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+        private long flushed = 0l;
+
+        public Output(final WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        public void put(final byte value) throws IOException {
+            this.ensure(1);
+            this.buffer.put(value);
+        }
+
+        public void putInt(final int value) throws IOException {
+            this.ensure(4);
+            this.buffer.putInt(value);
+        }
+
+        public void putLong(final long value) throws IOException {
+            this.ensure(8);
+            this.buffer.putLong(value);
+        }
+
+        public void putBytes(final byte[] bytes) throws IOException {
+            this.putInt(bytes.length);
+            if (bytes.length > this.buffer.capacity()) {
+                this.flush();
+                final ByteBuffer wrapped = ByteBuffer.wrap(bytes);
+                while (wrapped.hasRemaining()) {
+                    this.channel.write(wrapped);
+                }
+                this.flushed = this.flushed + bytes.length;
+            } else {
+                this.ensure(bytes.length);
+                this.buffer.put(bytes);
+            }
+        }
+
+        public void putString(final String value) throws IOException {
+            this.putBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public void putValue(final Object value) throws IOException {
+            if (value instanceof String) {
+                this.put(STRING);
+                this.putString((String) value);
+            } else if (value instanceof Integer) {
+                this.put(INTEGER);
+                this.putInt((Integer) value);
+            } else if (value instanceof Long) {
+                this.put(LONG);
+                this.putLong((Long) value);
+            } else if (value instanceof Float) {
+                this.put(FLOAT);
+                this.putInt(Float.floatToRawIntBits((Float) value));
+            } else if (value instanceof Double) {
+                this.put(DOUBLE);
+                this.putLong(Double.doubleToRawLongBits((Double) value));
+            } else if (value instanceof Boolean) {
+                this.put(BOOLEAN);
+                this.put((Boolean) value ? (byte) 1 : (byte) 0);
+            } else if (value instanceof Short) {
+                this.put(SHORT);
+                this.putInt((Short) value);
+            } else if (value instanceof Byte) {
+                this.put(BYTE);
+                this.put((Byte) value);
+            } else {
+                this.put(SERIALIZED);
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (final ObjectOutputStream stream = new ObjectOutputStream(bytes)) {
+                    stream.writeObject(value);
+                }
+                this.putBytes(bytes.toByteArray());
+            }
+        }
+
+        /**
+         * Get the number of bytes written so far, which is the position of the next byte in the snapshot.
+         */
+        public long position() {
+            return this.flushed + this.buffer.position();
+        }
+
+        public void flush() throws IOException {
+            this.buffer.flip();
+            this.flushed = this.flushed + this.buffer.remaining();
+            while (this.buffer.hasRemaining()) {
+                this.channel.write(this.buffer);
+            }
+            this.buffer.clear();
+        }
+
+        private void ensure(final int bytes) throws IOException {
+            if (this.buffer.remaining() < bytes)
+                this.flush();
+        }
+    }
+
+    /**
+     * The snapshot mapped with {@link FileChannel#map} in pages of 1GB, so that snapshots over 2GB can be mapped.
+     * The pages are only read with absolute gets and may be shared by concurrent readers.
+     */
+    private static class Pages {
+
+        private static final long PAGE_SIZE = 1l << 30;
+
+        private final ByteBuffer[] pages;
+        private final long size;
+
+        public Pages(final FileChannel channel) throws IOException {
+            this.size = channel.size();
+            this.pages = new ByteBuffer[(int) Math.max(1, (this.size + PAGE_SIZE - 1) / PAGE_SIZE)];
+            for (int i = 0; i < this.pages.length; i++) {
+                final long position = i * PAGE_SIZE;
+                this.pages[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(PAGE_SIZE, this.size - position));
+            }
+        }
+
+        public Pages(final ByteBuffer buffer) {
+            this.size = buffer.remaining();
+            this.pages = new ByteBuffer[(int) Math.max(1, (this.size + PAGE_SIZE - 1) / PAGE_SIZE)];
+            for (int i = 0; i < this.pages.length; i++) {
+                final ByteBuffer page = buffer.duplicate();
+                page.position(buffer.position() + (int) (i * PAGE_SIZE));
+                page.limit(page.position() + (int) Math.min(PAGE_SIZE, this.size - i * PAGE_SIZE));
+                this.pages[i] = page.slice();
+            }
+        }
+
+        public long size() {
+            return this.size;
+        }
+
+        public byte get(final long position) throws IOException {
+            this.check(position, 1);
+            return this.pages[(int) (position / PAGE_SIZE)].get((int) (position % PAGE_SIZE));
+        }
+
+        public int getInt(final long position) throws IOException {
+            this.check(position, 4);
+            final ByteBuffer page = this.pages[(int) (position / PAGE_SIZE)];
+            final int offset = (int) (position % PAGE_SIZE);
+            return offset + 4 <= page.limit() ? page.getInt(offset) : ByteBuffer.wrap(this.getBytes(position, 4)).getInt();
+        }
+
+        public long getLong(final long position) throws IOException {
+            this.check(position, 8);
+            final ByteBuffer page = this.pages[(int) (position / PAGE_SIZE)];
+            final int offset = (int) (position % PAGE_SIZE);
+            return offset + 8 <= page.limit() ? page.getLong(offset) : ByteBuffer.wrap(this.getBytes(position, 8)).getLong();
+        }
+
+        public byte[] getBytes(final long position, final int length) throws IOException {
+            this.check(position, length);
+            final byte[] bytes = new byte[length];
+            int offset = 0;
+            while (offset < length) {
+                final ByteBuffer page = this.pages[(int) ((position + offset) / PAGE_SIZE)].duplicate();
+                page.position((int) ((position + offset) % PAGE_SIZE));
+                final int count = Math.min(length - offset, page.remaining());
+                page.get(bytes, offset, count);
+                offset = offset + count;
+            }
+            return bytes;
+        }
+
+        private void check(final long position, final int bytes) throws IOException {
+            if (position < 0 || bytes < 0 || position + bytes > this.size)
+                throw new IOException("The TinkerGraph snapshot is truncated");
+        }
+    }
+
+    /**
+     * A sequential reader over the {@link Pages} of a snapshot from a provided position.
+     */
+    private static class Input {
+
+        private final Pages pages;
+        private long position;
+
+        public Input(final Pages pages, final long position) {
+            this.pages = pages;
+            this.position = position;
+        }
+
+        public void position(final long position) {
+            this.position = position;
+        }
+
+        public byte get() throws IOException {
+            final byte value = this.pages.get(this.position);
+            this.position = this.position + 1;
+            return value;
+        }
+
+        public int getInt() throws IOException {
+            final int value = this.pages.getInt(this.position);
+            this.position = this.position + 4;
+            return value;
+        }
+
+        public long getLong() throws IOException {
+            final long value = this.pages.getLong(this.position);
+            this.position = this.position + 8;
+            return value;
+        }
+
+        public byte[] getBytes() throws IOException {
+            final int length = this.getInt();
+            final byte[] bytes = this.pages.getBytes(this.position, length);
+            this.position = this.position + length;
+            return bytes;
+        }
+
+        public String getString() throws IOException {
+            return new String(this.getBytes(), StandardCharsets.UTF_8);
+        }
+
+        public Object getValue() throws IOException {
+            final byte type = this.get();
+            switch (type) {
+                case STRING:
+                    return this.getString();
+                case INTEGER:
+                    return this.getInt();
+                case LONG:
+                    return this.getLong();
+                case FLOAT:
+                    return Float.intBitsToFloat(this.getInt());
+                case DOUBLE:
+                    return Double.longBitsToDouble(this.getLong());
+                case BOOLEAN:
+                    return this.get() == 1;
+                case SHORT:
+                    return (short) this.getInt();
+                case BYTE:
+                    return this.get();
+                case SERIALIZED:
+                    try (final ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(this.getBytes()))) {
+                        return stream.readObject();
+                    } catch (final ClassNotFoundException e) {
+                        throw new IOException(e.getMessage(), e);
+                    }
+                default:
+                    throw new IOException("The TinkerGraph snapshot contains an unknown value type: " + type);
+            }
+        }
+    }
+
+    /**
+     * Decodes the incident edges of a vertex from a CSR adjacency region: the offsets of the vertices followed by the
+     * edge ordinals.
+     */
+    private static class AdjacencyLoader implements IntFunction<Map<String, Set<Edge>>> {
+
+        private final TinkerGraph graph;
+        private final Pages pages;
+        private final long offsets;
+        private final long ordinals;
+        private final TinkerEdge[] edges;
+
+        public AdjacencyLoader(final TinkerGraph graph, final Pages pages, final long position, final TinkerEdge[] edges, final int vertices) {
+            this.graph = graph;
+            this.pages = pages;
+            this.offsets = position;
+            this.ordinals = position + 4l * (vertices + 1);
+            this.edges = edges;
+        }
+
+        public Map<String, Set<Edge>> apply(final int ordinal) {
+            final Map<String, Set<Edge>> adjacency = this.graph.createMap();
+            try {
+                final int end = this.pages.getInt(this.offsets + 4l * (ordinal + 1));
+                for (int i = this.pages.getInt(this.offsets + 4l * ordinal); i < end; i++) {
+                    final TinkerEdge edge = this.edges[this.pages.getInt(this.ordinals + 4l * i)];
+                    adjacency.computeIfAbsent(edge.label, k -> this.graph.createSet()).add(edge);
+                }
+            } catch (final IOException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            return adjacency;
+        }
+    }
+
+    /**
+     * Decodes the properties of an element from the position stored for it in a property column.
+     */
+    private static class PropertyLoader implements IntFunction<Map<String, Property>> {
+
+        private final TinkerGraph graph;
+        private final Pages pages;
+        private final long column;
+        private final TinkerElement[] elements;
+        private final String[] dictionary;
+
+        public PropertyLoader(final TinkerGraph graph, final Pages pages, final long column, final TinkerElement[] elements, final String[] dictionary) {
+            this.graph = graph;
+            this.pages = pages;
+            this.column = column;
+            this.elements = elements;
+            this.dictionary = dictionary;
+        }
+
+        public Map<String, Property> apply(final int ordinal) {
+            final Map<String, Property> properties = this.graph.createMap();
+            try {
+                final Input input = new Input(this.pages, this.pages.getLong(this.column + 8l * ordinal));
+                final int size = input.getInt();
+                for (int i = 0; i < size; i++) {
+                    final String key = this.dictionary[input.getInt()];
+                    properties.put(key, new TinkerProperty<>(this.elements[ordinal], key, input.getValue()));
+                }
+            } catch (final IOException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            return properties;
+        }
+    }
+
+    /**
+     * A map of an element that is decoded from the snapshot by its loader on first access. The map is serialized as
+     * the decoded map.
+     */
+    private static final class LazyMap<K, V> implements Map<K, V>, Serializable {
+
+        private transient IntFunction<Map<K, V>> loader;
+        private final int ordinal;
+        private volatile Map<K, V> map = null;
+
+        public LazyMap(final IntFunction<Map<K, V>> loader, final int ordinal) {
+            this.loader = loader;
+            this.ordinal = ordinal;
+        }
+
+        private Map<K, V> map() {
+            Map<K, V> map = this.map;
+            if (null == map) {
+                synchronized (this) {
+                    map = this.map;
+                    if (null == map) {
+                        map = this.loader.apply(this.ordinal);
+                        this.map = map;
+                        this.loader = null;
+                    }
+                }
+            }
+            return map;
+        }
+
+        private Object writeReplace() {
+            return this.map();
+        }
+
+        public int size() {
+            return this.map().size();
+        }
+
+        public boolean isEmpty() {
+            return this.map().isEmpty();
+        }
+
+        public boolean containsKey(final Object key) {
+            return this.map().containsKey(key);
+        }
+
+        public boolean containsValue(final Object value) {
+            return this.map().containsValue(value);
+        }
+
+        public V get(final Object key) {
+            return this.map().get(key);
+        }
+
+        public V getOrDefault(final Object key, final V defaultValue) {
+            return this.map().getOrDefault(key, defaultValue);
+        }
+
+        public V put(final K key, final V value) {
+            return this.map().put(key, value);
+        }
+
+        public V putIfAbsent(final K key, final V value) {
+            return this.map().putIfAbsent(key, value);
+        }
+
+        public void putAll(final Map<? extends K, ? extends V> map) {
+            this.map().putAll(map);
+        }
+
+        public V remove(final Object key) {
+            return this.map().remove(key);
+        }
+
+        public boolean remove(final Object key, final Object value) {
+            return this.map().remove(key, value);
+        }
+
+        public V replace(final K key, final V value) {
+            return this.map().replace(key, value);
+        }
+
+        public boolean replace(final K key, final V oldValue, final V newValue) {
+            return this.map().replace(key, oldValue, newValue);
+        }
+
+        public void replaceAll(final BiFunction<? super K, ? super V, ? extends V> function) {
+            this.map().replaceAll(function);
+        }
+
+        public V computeIfAbsent(final K key, final Function<? super K, ? extends V> function) {
+            return this.map().computeIfAbsent(key, function);
+        }
+
+        public V computeIfPresent(final K key, final BiFunction<? super K, ? super V, ? extends V> function) {
+            return this.map().computeIfPresent(key, function);
+        }
+
+        public V compute(final K key, final BiFunction<? super K, ? super V, ? extends V> function) {
+            return this.map().compute(key, function);
+        }
+
+        public V merge(final K key, final V value, final BiFunction<? super V, ? super V, ? extends V> function) {
+            return this.map().merge(key, value, function);
+        }
+
+        public void clear() {
+            this.map().clear();
+        }
+
+        public Set<K> keySet() {
+            return this.map().keySet();
+        }
+
+        public Collection<V> values() {
+            return this.map().values();
+        }
+
+        public Set<Entry<K, V>> entrySet() {
+            return this.map().entrySet();
+        }
+
+        public void forEach(final BiConsumer<? super K, ? super V> action) {
+            this.map().forEach(action);
+        }
+
+        public boolean equals(final Object object) {
+            return this.map().equals(object);
+        }
+
+        public int hashCode() {
+            return this.map().hashCode();
+        }
+
+        public String toString() {
+            return this.map().toString();
+        }
+    }
+}
@@ -9,7 +9,6 @@ import com.tinkerpop.gremlin.structure.util.ElementHelper;
 import com.tinkerpop.gremlin.structure.util.StringFactory;
 import com.tinkerpop.gremlin.tinkergraph.process.graph.TinkerElementTraversal;
 
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
@@ -19,11 +18,18 @@ import java.util.Set;
  */
 public class TinkerVertex extends TinkerElement implements Vertex {
 
-    protected Map<String, Set<Edge>> outEdges = new HashMap<>();
-    protected Map<String, Set<Edge>> inEdges = new HashMap<>();
+    protected final Map<String, Set<Edge>> outEdges;
+    protected final Map<String, Set<Edge>> inEdges;
 
     protected TinkerVertex(final Object id, final String label, final TinkerGraph graph) {
-        super(id, label, graph);
+        this(id, label, graph, graph.createMap(), graph.createMap(), graph.createMap());
+    }
+
+    protected TinkerVertex(final Object id, final String label, final TinkerGraph graph, final Map<String, Property> properties,
+                           final Map<String, Set<Edge>> outEdges, final Map<String, Set<Edge>> inEdges) {
+        super(id, label, graph, properties);
+        this.outEdges = outEdges;
+        this.inEdges = inEdges;
     }
 
     public <V> Property<V> property(final String key, final V value) {
@@ -35,6 +41,7 @@ public class TinkerVertex extends TinkerElement implements Vertex {
             final Property newProperty = new TinkerProperty<>(this, key, value);
             this.properties.put(key, newProperty);
             this.graph.vertexIndex.autoUpdate(key, value, oldProperty.isPresent() ? oldProperty.value() : null, this);
+            TinkerHelper.logMutation(this.graph, this.id);
             return newProperty;
         }
     }
@@ -52,6 +59,7 @@ public class TinkerVertex extends TinkerElement implements Vertex {
         this.properties().clear();
         this.graph.vertexIndex.removeElement(this);
         this.graph.vertices.remove(this.id);
+        TinkerHelper.logMutation(this.graph, this.id);
     }
 
     //////////////////////
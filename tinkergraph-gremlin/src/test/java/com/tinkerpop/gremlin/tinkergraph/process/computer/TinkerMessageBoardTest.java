@@ -0,0 +1,198 @@
+package com.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import com.tinkerpop.gremlin.process.computer.DoubleMessageCombiner;
+import com.tinkerpop.gremlin.process.computer.GraphComputer;
+import com.tinkerpop.gremlin.process.computer.MessageCombiner;
+import com.tinkerpop.gremlin.process.computer.MessageType;
+import com.tinkerpop.gremlin.process.graph.GraphTraversal;
+import com.tinkerpop.gremlin.structure.Edge;
+import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import com.tinkerpop.gremlin.util.StreamFactory;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class TinkerMessageBoardTest {
+
+    private static final MessageCombiner<Integer> SUM = (a, b) -> a + b;
+    private static final MessageCombiner<Double> DOUBLE_SUM = (DoubleMessageCombiner) (a, b) -> a + b;
+
+    @Test
+    public void shouldMergeGlobalMessagesOfAllWorkersIntoTheirPartitions() {
+        final TinkerGraphView view = createView();
+        final List<Vertex> vertices = view.getVertices();
+        final TinkerMessageBoard<Integer> messageBoard = new TinkerMessageBoard<>(view, Optional.empty(), 3, false);
+        final TinkerMessenger<Integer> first = new TinkerMessenger<>(messageBoard);
+        final TinkerMessenger<Integer> second = new TinkerMessenger<>(messageBoard);
+
+        first.setVertex(vertices.get(0), 0);
+        first.sendMessage(MessageType.Global.of(vertices), 1);
+        second.setVertex(vertices.get(1), 1);
+        second.sendMessage(MessageType.Global.of(vertices.get(0), vertices.get(5)), 2);
+        second.sendMessage(MessageType.Global.of(vertices.get(5)), 3);
+        messageBoard.completeIteration();
+
+        assertEquals(Arrays.asList(1, 2), messageBoard.receiveGlobalMessages(0));
+        for (int ordinal = 1; ordinal < 5; ordinal++) {
+            assertEquals(Collections.singletonList(1), messageBoard.receiveGlobalMessages(ordinal));
+        }
+        assertEquals(Arrays.asList(1, 2, 3), messageBoard.receiveGlobalMessages(5));
+        assertNull(messageBoard.getActiveVertices());
+
+        // the inboxes only hold the messages of the last iteration
+        first.sendMessage(MessageType.Global.of(vertices.get(2)), 4);
+        messageBoard.completeIteration();
+        assertEquals(Collections.emptyList(), messageBoard.receiveGlobalMessages(0));
+        assertEquals(Collections.singletonList(4), messageBoard.receiveGlobalMessages(2));
+    }
+
+    @Test
+    public void shouldCombineGlobalMessagesAtSendAndAtMerge() {
+        final TinkerGraphView view = createView();
+        final List<Vertex> vertices = view.getVertices();
+        final TinkerMessageBoard<Integer> messageBoard = new TinkerMessageBoard<>(view, Optional.of(SUM), 3, false);
+        final TinkerMessenger<Integer> first = new TinkerMessenger<>(messageBoard);
+        final TinkerMessenger<Integer> second = new TinkerMessenger<>(messageBoard);
+
+        first.setVertex(vertices.get(0), 0);
+        first.sendMessage(MessageType.Global.of(vertices), 1);
+        first.sendMessage(MessageType.Global.of(vertices.get(5)), 10);
+        second.setVertex(vertices.get(1), 1);
+        second.sendMessage(MessageType.Global.of(vertices.get(5)), 100);
+        messageBoard.completeIteration();
+
+        for (int ordinal = 0; ordinal < 5; ordinal++) {
+            assertEquals(Collections.singletonList(1), messageBoard.receiveGlobalMessages(ordinal));
+        }
+        assertEquals(Collections.singletonList(111), messageBoard.receiveGlobalMessages(5));
+
+        // the messages of the next iteration are not combined into those of the last iteration
+        second.sendMessage(MessageType.Global.of(vertices.get(2)), 1000);
+        second.sendMessage(MessageType.Global.of(vertices.get(5)), 1000);
+        second.sendMessage(MessageType.Global.of(vertices.get(2)), 1000);
+        messageBoard.completeIteration();
+        assertEquals(Collections.singletonList(2000), messageBoard.receiveGlobalMessages(2));
+        assertEquals(Collections.singletonList(1000), messageBoard.receiveGlobalMessages(5));
+        assertEquals(Collections.emptyList(), messageBoard.receiveGlobalMessages(0));
+    }
+
+    @Test
+    public void shouldCombineLocalMessagesAtTheSenderWithoutAnEdgeFunction() {
+        final TinkerGraphView view = createView();
+        final TinkerMessageBoard<Integer> messageBoard = new TinkerMessageBoard<>(view, Optional.of(SUM), 3, false);
+        final TinkerMessenger<Integer> messenger = new TinkerMessenger<>(messageBoard);
+        final MessageType.Local outE = MessageType.Local.of(() -> GraphTraversal.<Vertex>of().outE());
+
+        messenger.setVertex(getVertex(view, 1), view.getOrdinal(1));
+        messenger.sendMessage(outE, 1);
+        messenger.sendMessage(outE, 2);
+        messageBoard.completeIteration();
+
+        // a single combined message is stored at the sender
+        assertEquals(Collections.singletonList(3), messageBoard.receiveLocalMessages(view.getOrdinal(1)));
+        for (final Object id : Arrays.asList(2, 3, 4)) {
+            messenger.setVertex(getVertex(view, id), view.getOrdinal(id));
+            assertEquals(Collections.singletonList(3), StreamFactory.stream(messenger.receiveMessages(outE)).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void shouldCombineLocalMessagesAtReceiveWithAnEdgeFunction() {
+        final TinkerGraphView view = createView();
+        final TinkerMessageBoard<Integer> messageBoard = new TinkerMessageBoard<>(view, Optional.of(SUM), 3, false);
+        final TinkerMessenger<Integer> messenger = new TinkerMessenger<>(messageBoard);
+        final MessageType.Local<Integer, Integer> outE = MessageType.Local.of(() -> GraphTraversal.<Vertex>of().outE(), (Integer message, Edge edge) -> message * (Integer) edge.id());
+
+        messenger.setVertex(getVertex(view, 1), view.getOrdinal(1));
+        messenger.sendMessage(outE, 1);
+        messenger.sendMessage(outE, 2);
+        messenger.setVertex(getVertex(view, 4), view.getOrdinal(4));
+        messenger.sendMessage(outE, 1);
+        messageBoard.completeIteration();
+
+        // the messages are stored uncombined at the sender as the edge function is applied per edge at receive
+        assertEquals(Arrays.asList(1, 2), messageBoard.receiveLocalMessages(view.getOrdinal(1)));
+        messenger.setVertex(getVertex(view, 2), view.getOrdinal(2));
+        assertEquals(Collections.singletonList(7 + 14), StreamFactory.stream(messenger.receiveMessages(outE)).collect(Collectors.toList()));
+        // lop receives over edge 9 from marko and edge 11 from josh
+        messenger.setVertex(getVertex(view, 3), view.getOrdinal(3));
+        assertEquals(Collections.singletonList(9 + 18 + 11), StreamFactory.stream(messenger.receiveMessages(outE)).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void shouldStoreDoubleMessagesInPrimitiveSlots() {
+        final TinkerGraphView view = createView();
+        final List<Vertex> vertices = view.getVertices();
+        final TinkerMessageBoard<Double> messageBoard = new TinkerMessageBoard<>(view, Optional.empty(), 3, true);
+        final TinkerMessenger<Double> first = new TinkerMessenger<>(messageBoard);
+        final TinkerMessenger<Double> second = new TinkerMessenger<>(messageBoard);
+
+        first.setVertex(vertices.get(0), 0);
+        for (int i = 0; i < 5; i++) {
+            first.sendDoubleMessage(MessageType.Global.of(vertices.get(5)), i);
+        }
+        second.setVertex(vertices.get(1), 1);
+        second.sendMessage(MessageType.Global.of(vertices.get(2), vertices.get(5)), 10.0d);
+        messageBoard.completeIteration();
+
+        first.setVertex(vertices.get(5), 5);
+        assertArrayEquals(new double[]{0.0d, 1.0d, 2.0d, 3.0d, 4.0d, 10.0d}, first.receiveDoubleMessages(MessageType.Global.of()).toArray(), 0.0d);
+        first.setVertex(vertices.get(2), 2);
+        assertEquals(Collections.singletonList(10.0d), StreamFactory.stream(first.receiveMessages(MessageType.Global.of())).collect(Collectors.toList()));
+        first.setVertex(vertices.get(0), 0);
+        assertEquals(0, first.receiveDoubleMessages(MessageType.Global.of()).count());
+
+        // the slots are cleared for the next iteration
+        messageBoard.completeIteration();
+        first.setVertex(vertices.get(5), 5);
+        assertEquals(0, first.receiveDoubleMessages(MessageType.Global.of()).count());
+    }
+
+    @Test
+    public void shouldCombineDoubleMessagesInPlace() {
+        final TinkerGraphView view = createView();
+        final List<Vertex> vertices = view.getVertices();
+        final TinkerMessageBoard<Double> messageBoard = new TinkerMessageBoard<>(view, Optional.of(DOUBLE_SUM), 3, true);
+        final TinkerMessenger<Double> first = new TinkerMessenger<>(messageBoard);
+        final TinkerMessenger<Double> second = new TinkerMessenger<>(messageBoard);
+        final MessageType.Local outE = MessageType.Local.of(() -> GraphTraversal.<Vertex>of().outE());
+
+        first.setVertex(vertices.get(0), 0);
+        first.sendDoubleMessage(MessageType.Global.of(vertices.get(5)), 1.0d);
+        first.sendDoubleMessage(MessageType.Global.of(vertices.get(5)), 10.0d);
+        second.setVertex(vertices.get(1), 1);
+        second.sendDoubleMessage(MessageType.Global.of(vertices.get(5)), 100.0d);
+        final Vertex marko = getVertex(view, 1);
+        second.setVertex(marko, view.getOrdinal(1));
+        second.sendDoubleMessage(outE, 0.25d);
+        second.sendDoubleMessage(outE, 0.5d);
+        messageBoard.completeIteration();
+
+        first.setVertex(vertices.get(5), 5);
+        assertArrayEquals(new double[]{111.0d}, first.receiveDoubleMessages(MessageType.Global.of()).toArray(), 0.0d);
+        for (final Object id : Arrays.asList(2, 3, 4)) {
+            first.setVertex(getVertex(view, id), view.getOrdinal(id));
+            assertArrayEquals(new double[]{0.75d}, first.receiveDoubleMessages(outE).toArray(), 0.0d);
+        }
+        first.setVertex(getVertex(view, 6), view.getOrdinal(6));
+        assertEquals(0, first.receiveDoubleMessages(outE).count());
+    }
+
+    private static TinkerGraphView createView() {
+        final List<Vertex> vertices = StreamFactory.stream(TinkerFactory.createClassic().V()).collect(Collectors.toList());
+        return new TinkerGraphView(GraphComputer.Isolation.BSP, Collections.emptyMap(), vertices);
+    }
+
+    private static Vertex getVertex(final TinkerGraphView view, final Object id) {
+        return view.getVertices().get(view.getOrdinal(id));
+    }
+}
@@ -0,0 +1,82 @@
+package com.tinkerpop.gremlin.tinkergraph.structure;
+
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.carrotsearch.junitbenchmarks.annotation.AxisRange;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkHistoryChart;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkMethodChart;
+import com.carrotsearch.junitbenchmarks.annotation.LabelType;
+import com.tinkerpop.gremlin.structure.Vertex;
+import org.apache.commons.configuration.BaseConfiguration;
+import org.apache.commons.configuration.Configuration;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Measures the write throughput of a concurrent {@link TinkerGraph} with an increasing number of writer threads.
+ */
+@AxisRange(min = 0, max = 1)
+@BenchmarkMethodChart(filePrefix = "tinkergraph-concurrent-write")
+@BenchmarkHistoryChart(labelWith = LabelType.CUSTOM_KEY, maxRuns = 20, filePrefix = "hx-tinkergraph-concurrent-write")
+public class TinkerGraphConcurrentWritePerformanceTest {
+
+    private static final int VERTICES_TO_GENERATE = 96000;
+
+    @Rule
+    public TestRule benchmarkRun = new BenchmarkRule();
+
+    @Test
+    @BenchmarkOptions(benchmarkRounds = 10, warmupRounds = 1, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    public void writeWithOneThread() throws Exception {
+        writeVerticesAndEdges(1);
+    }
+
+    @Test
+    @BenchmarkOptions(benchmarkRounds = 10, warmupRounds = 1, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    public void writeWithFourThreads() throws Exception {
+        writeVerticesAndEdges(4);
+    }
+
+    @Test
+    @BenchmarkOptions(benchmarkRounds = 10, warmupRounds = 1, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    public void writeWithSixteenThreads() throws Exception {
+        writeVerticesAndEdges(16);
+    }
+
+    private static void writeVerticesAndEdges(final int threads) throws Exception {
+        final Configuration configuration = new BaseConfiguration();
+        configuration.setProperty(TinkerGraph.CONFIG_CONCURRENT, true);
+        final TinkerGraph g = TinkerGraph.open(configuration);
+        g.createIndex("name", Vertex.class);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            final int thread = i;
+            futures.add(executor.submit(() -> {
+                Vertex previous = g.addVertex("name", "thread-" + thread);
+                for (int j = 1; j < VERTICES_TO_GENERATE / threads; j++) {
+                    final Vertex vertex = g.addVertex("name", "thread-" + thread + "-" + j);
+                    vertex.addEdge("parent", previous);
+                    previous = vertex;
+                }
+            }));
+        }
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(VERTICES_TO_GENERATE, g.vertices.size());
+        assertEquals(VERTICES_TO_GENERATE - threads, g.edges.size());
+    }
+}
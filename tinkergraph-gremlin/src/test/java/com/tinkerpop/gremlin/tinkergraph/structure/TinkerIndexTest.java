@@ -0,0 +1,65 @@
+package com.tinkerpop.gremlin.tinkergraph.structure;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TinkerIndexTest {
+
+    @Test
+    public void shouldKeepViewsOfPostingSetsUnchangedByUpdates() {
+        final TinkerIndex.PostingSet<Integer> postingSet = new TinkerIndex.PostingSet<>();
+        final Set<Integer> elements = new HashSet<>();
+        final List<Set<Integer>> views = new ArrayList<>();
+        final List<Set<Integer>> snapshots = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            postingSet.add(i);
+            postingSet.add(i);
+            elements.add(i);
+            if (i % 3 == 0) {
+                postingSet.remove(i / 2);
+                elements.remove(i / 2);
+            }
+            views.add(postingSet.view());
+            snapshots.add(new HashSet<>(elements));
+        }
+        assertEquals(elements.size(), postingSet.size());
+        for (int i = 0; i < views.size(); i++) {
+            assertEquals(snapshots.get(i), views.get(i));
+            assertEquals(snapshots.get(i), views.get(i).stream().collect(Collectors.toSet()));
+            assertEquals(snapshots.get(i).size(), views.get(i).size());
+        }
+    }
+
+    @Test
+    public void shouldLookupElementsOfAView() {
+        final TinkerIndex.PostingSet<String> postingSet = new TinkerIndex.PostingSet<>();
+        postingSet.add("a");
+        postingSet.add("b");
+        final Set<String> view = postingSet.view();
+        postingSet.remove("a");
+        postingSet.add("c");
+        assertTrue(view.contains("a"));
+        assertFalse(view.contains("c"));
+        assertEquals(new HashSet<>(Arrays.asList("b", "c")), postingSet.view());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotUpdateAView() {
+        final TinkerIndex.PostingSet<String> postingSet = new TinkerIndex.PostingSet<>();
+        postingSet.add("a");
+        final Iterator<String> iterator = postingSet.view().iterator();
+        iterator.next();
+        iterator.remove();
+    }
+}